@@ -0,0 +1,14 @@
+-- 챌린지 랭킹 확정 표시
+-- 참여자가 없어 challenge_rankings 행이 생기지 않는 챌린지도 확정된 것으로 기록해
+-- 주기 재동기화/재기동 시 다시 확정하지 않도록 한다.
+ALTER TABLE challenges
+    ADD COLUMN finalized_at DATETIME NULL;
+
+-- 이미 아카이브가 있는 챌린지는 확정된 것으로 채운다
+UPDATE challenges c
+SET c.finalized_at = (SELECT MIN(cr.created_at) FROM challenge_rankings cr WHERE cr.challenge_id = c.id)
+WHERE c.finalized_at IS NULL
+  AND EXISTS (SELECT 1 FROM challenge_rankings cr WHERE cr.challenge_id = c.id);
+
+-- 확정 대기 조회 (findPendingFinalization)
+CREATE INDEX idx_challenges_pending_finalization ON challenges (finalized_at, end_at);
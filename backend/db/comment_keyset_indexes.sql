@@ -0,0 +1,11 @@
+-- 댓글 커서(keyset) 페이지네이션용 인덱스 (CommentMapper findRootCommentsAfter / findRepliesAfter)
+-- 정렬 키 순서 그대로 두어 ORDER BY created_at, id + LIMIT 이 인덱스 범위 탐색으로 끝나게 한다.
+
+-- created_at 이 비어 있는 행이 있으면 커서 비교에서 빠지므로 먼저 채우고 NOT NULL 로 고정
+UPDATE comments SET created_at = COALESCE(updated_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE comments MODIFY created_at DATETIME NOT NULL;
+
+-- 퀴즈별 루트 댓글 (parent_comment_id IS NULL, 최신순)
+CREATE INDEX idx_comments_quiz_parent_created_id ON comments (quiz_id, parent_comment_id, created_at, id);
+-- 부모 댓글별 답글 (작성순)
+CREATE INDEX idx_comments_parent_created_id ON comments (parent_comment_id, created_at, id);
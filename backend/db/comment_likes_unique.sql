@@ -0,0 +1,23 @@
+-- 댓글 좋아요 중복 방지 (INSERT IGNORE 기반 토글의 전제)
+-- 1) 중복 제거: (user_id, comment_id) 별로 한 행만 남긴다
+CREATE TABLE comment_likes_dedup AS
+SELECT user_id, comment_id
+FROM comment_likes
+GROUP BY user_id, comment_id
+HAVING COUNT(*) > 1;
+
+DELETE l
+FROM comment_likes l
+         JOIN comment_likes_dedup d ON d.user_id = l.user_id AND d.comment_id = l.comment_id;
+
+INSERT INTO comment_likes (user_id, comment_id)
+SELECT user_id, comment_id
+FROM comment_likes_dedup;
+
+DROP TABLE comment_likes_dedup;
+
+-- 2) 유니크 키 추가
+ALTER TABLE comment_likes
+    ADD UNIQUE KEY uk_comment_likes_user_comment (user_id, comment_id);
+
+-- 중복으로 부풀었던 like_count 는 다음 CommentLikeCountReconciler 실행 때 실제 행 수로 맞춰진다.
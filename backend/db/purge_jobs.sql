@@ -0,0 +1,21 @@
+-- 퀴즈 삭제 표시 (tombstone)
+-- 표시된 퀴즈는 모든 조회에서 제외되고, PurgeWorker 가 연관 데이터를 정리한 뒤 행을 삭제한다.
+ALTER TABLE quizzes
+    ADD COLUMN deleted_at DATETIME NULL;
+
+-- 연관 데이터 정리 작업 (대상별 1건, 진행 단계와 누적 삭제 행 수 기록)
+CREATE TABLE purge_jobs (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    target_type  VARCHAR(20)  NOT NULL,
+    target_id    BIGINT       NOT NULL,
+    stage        VARCHAR(30)  NOT NULL,
+    purged_rows  BIGINT       NOT NULL DEFAULT 0,
+    attempts     INT          NOT NULL DEFAULT 0,
+    last_error   VARCHAR(500) NULL,
+    created_at   DATETIME     NOT NULL,
+    updated_at   DATETIME     NOT NULL,
+    completed_at DATETIME     NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_purge_jobs_target (target_type, target_id),
+    KEY idx_purge_jobs_pending (completed_at, id)
+);
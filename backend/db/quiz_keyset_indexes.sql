@@ -0,0 +1,20 @@
+-- 퀴즈 목록 커서(keyset) 페이지네이션용 인덱스 (QuizMapper *After 쿼리)
+-- 정렬 키 순서 그대로 두어 ORDER BY ... DESC LIMIT 이 인덱스 역순 탐색으로 끝나게 한다.
+
+-- created_at 이 비어 있는 행이 있으면 커서 비교에서 빠지므로 먼저 채우고 NOT NULL 로 고정
+UPDATE quizzes SET created_at = COALESCE(updated_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE quizzes MODIFY created_at DATETIME NOT NULL;
+
+UPDATE quiz_likes SET created_at = NOW() WHERE created_at IS NULL;
+ALTER TABLE quiz_likes MODIFY created_at DATETIME NOT NULL;
+
+-- latest
+CREATE INDEX idx_quizzes_created_id ON quizzes (created_at, id);
+-- popular
+CREATE INDEX idx_quizzes_like_play_created_id ON quizzes (like_count, play_count, created_at, id);
+-- views
+CREATE INDEX idx_quizzes_play_like_created_id ON quizzes (play_count, like_count, created_at, id);
+-- 팔로우 피드 (작성자별 최신순)
+CREATE INDEX idx_quizzes_user_created_id ON quizzes (user_id, created_at, id);
+-- 좋아요한 퀴즈 (유저별 좋아요 시각순)
+CREATE INDEX idx_quiz_likes_user_created_quiz ON quiz_likes (user_id, created_at, quiz_id);
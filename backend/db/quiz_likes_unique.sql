@@ -0,0 +1,23 @@
+-- 퀴즈 좋아요 중복 방지 (좋아요 INSERT 의 영향 행 수로 like_count 를 증감하는 전제)
+-- 1) 중복 제거: (user_id, quiz_id) 별로 가장 이른 좋아요 한 행만 남긴다
+CREATE TABLE quiz_likes_dedup AS
+SELECT user_id, quiz_id, MIN(created_at) AS created_at
+FROM quiz_likes
+GROUP BY user_id, quiz_id
+HAVING COUNT(*) > 1;
+
+DELETE l
+FROM quiz_likes l
+         JOIN quiz_likes_dedup d ON d.user_id = l.user_id AND d.quiz_id = l.quiz_id;
+
+INSERT INTO quiz_likes (user_id, quiz_id, created_at)
+SELECT user_id, quiz_id, created_at
+FROM quiz_likes_dedup;
+
+DROP TABLE quiz_likes_dedup;
+
+-- 2) 유니크 키 추가
+ALTER TABLE quiz_likes
+    ADD UNIQUE KEY uk_quiz_likes_user_quiz (user_id, quiz_id);
+
+-- 중복으로 부풀었던 like_count 는 다음 QuizLikeCountReconciler 실행 때 실제 행 수로 맞춰진다.
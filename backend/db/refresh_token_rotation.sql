@@ -0,0 +1,10 @@
+-- Refresh Token rotation (행 하나 = 로그인 세션 하나)
+-- token_value 에는 이제 토큰 원문 대신 임의 세션 키가 들어간다. 기존 행의 토큰은 세대 정보가 없어 재발급되지 않으므로 비운다.
+DELETE FROM refresh_tokens;
+
+-- rotated_at: 마지막 재발급 시각 (직전 세대 토큰의 유예 판단, 여러 서버가 같은 값을 본다)
+ALTER TABLE refresh_tokens
+    ADD COLUMN generation INT      NOT NULL DEFAULT 0,
+    ADD COLUMN rotated_at DATETIME NULL,
+    ADD COLUMN revoked_at DATETIME NULL,
+    ADD KEY idx_refresh_tokens_expires_at (expires_at);
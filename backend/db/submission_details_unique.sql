@@ -0,0 +1,12 @@
+-- 제출 답안 중복 방지 (write-behind 재시도/저널 복구의 ON DUPLICATE KEY UPDATE 가 멱등이 되기 위한 전제)
+-- 1) 같은 (submission_id, question_id) 중 마지막(id 가 가장 큰) 답안만 남긴다
+DELETE d1
+FROM submission_details d1
+         JOIN submission_details d2
+              ON d1.submission_id = d2.submission_id
+                  AND d1.question_id = d2.question_id
+                  AND d1.id < d2.id;
+
+-- 2) 유니크 키 추가
+ALTER TABLE submission_details
+    ADD UNIQUE KEY uk_submission_details_submission_question (submission_id, question_id);
@@ -85,6 +85,12 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    // 퀴즈 검색 색인 재구성
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Integer> rebuildSearchIndex() {
+        return ResponseEntity.ok(adminService.rebuildSearchIndex());
+    }
+
     @PostMapping("/challenges")
     public ResponseEntity<Void> createChallenge(@Valid @RequestBody ChallengeCreateRequest request) {
         adminService.createChallenge(request);
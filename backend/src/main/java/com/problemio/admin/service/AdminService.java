@@ -3,11 +3,15 @@ package com.problemio.admin.service;
 import com.problemio.challenge.domain.Challenge;
 import com.problemio.challenge.dto.ChallengeCreateRequest;
 import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.challenge.service.ChallengeLifecycleScheduler;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.global.util.TimeUtils;
 import com.problemio.quiz.domain.Quiz;
 import com.problemio.quiz.mapper.QuizMapper;
+import com.problemio.quiz.service.QuizCacheInvalidator;
+import com.problemio.quiz.service.QuizCounterService;
+import com.problemio.quiz.service.QuizSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,11 +25,17 @@ public class AdminService {
 
     private final QuizMapper quizMapper;
     private final ChallengeMapper challengeMapper;
+    private final ChallengeLifecycleScheduler lifecycleScheduler;
+    private final QuizCounterService quizCounterService;
+    private final QuizSearchIndex searchIndex;
+    private final QuizCacheInvalidator quizCacheInvalidator;
 
     @Transactional(readOnly = true)
     public List<Quiz> findAdminQuizzes(int page, int size, String keyword) {
         int offset = (Math.max(page, 1) - 1) * size;
-        return quizMapper.findAdminQuizzes(offset, size, keyword);
+        List<Quiz> quizzes = quizMapper.findAdminQuizzes(offset, size, keyword);
+        quizzes.forEach(quizCounterService::apply);
+        return quizzes;
     }
 
     @Transactional(readOnly = true)
@@ -43,6 +53,15 @@ public class AdminService {
         
         // 퀴즈 정보 업데이트
         quizMapper.updateQuiz(quiz);
+        searchIndex.index(quiz);
+        quizCacheInvalidator.evict(quizId);
+    }
+
+    /**
+     * 퀴즈 검색 색인 재구성 (색인 수, 이미 재구성 중이면 -1)
+     */
+    public int rebuildSearchIndex() {
+        return searchIndex.rebuild();
     }
 
     @Transactional
@@ -57,5 +76,8 @@ public class AdminService {
         challenge.setCreatedAt(now);
         challenge.setUpdatedAt(now);
         challengeMapper.insert(challenge);
+
+        // 종료 시각에 맞춰 랭킹 확정 예약
+        lifecycleScheduler.track(challenge);
     }
 }
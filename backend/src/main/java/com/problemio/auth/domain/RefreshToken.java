@@ -36,12 +36,25 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 세션 식별용 임의 키 (토큰 원문은 저장하지 않음, 조회는 id 로)
     @Column(nullable = false, unique = true)
     private String tokenValue;
 
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
+    // 마지막으로 발급한 Refresh Token 세대 (재발급마다 +1, 재발급 트랜잭션에서 바로 반영)
+    @Column(nullable = false)
+    private int generation;
+
+    // 마지막 재발급 시각 (직전 세대 토큰의 유예 판단용)
+    @Column
+    private LocalDateTime rotatedAt;
+
+    // 로그아웃/재사용 감지 등으로 폐기된 시각
+    @Column
+    private LocalDateTime revokedAt;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -1,20 +1,51 @@
 package com.problemio.auth.repository;
 
 import com.problemio.auth.domain.RefreshToken;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByTokenValue(String tokenValue);
 
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.user.id = :userId AND rt.revokedAt IS NULL")
+    List<Long> findActiveIdsByUserId(@Param("userId") Long userId);
+
+    // 재발급 중 세대가 맞지 않을 때 최신 커밋 상태를 읽는다 (동시 재발급은 앞선 트랜잭션이 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.id = :id")
+    Optional<RefreshToken> findByIdForUpdate(@Param("id") Long id);
+
+    // 트랜잭션 밖에서 호출돼도 바로 커밋되도록 자체 트랜잭션 (재발급 중에는 재발급 트랜잭션에 참여)
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revokedAt = :now WHERE rt.user.id = :userId AND rt.revokedAt IS NULL")
+    int revokeByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revokedAt = :now WHERE rt.id = :id AND rt.revokedAt IS NULL")
+    int revokeById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 제시된 세대가 현재 세대일 때만 다음 세대로 교체 (compare-and-set, 여러 서버에서 동시에 와도 한 번만 성공)
+    // 같은 트랜잭션에서 읽어 둔 엔티티가 이전 세대로 남지 않도록 영속성 컨텍스트를 비운다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.generation = :next, rt.rotatedAt = :now " +
+            "WHERE rt.id = :id AND rt.generation = :presented AND rt.revokedAt IS NULL AND rt.expiresAt > :now")
+    int rotateGeneration(@Param("id") Long id, @Param("presented") int presented,
+                         @Param("next") int next, @Param("now") LocalDateTime now);
+
+    // 만료된 토큰 정리용 (한 번에 limit 건씩)
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.user.id = :userId")
-    void deleteByUser_Id(Long userId);
-    
-    // 만료된 토큰 정리용
-    void deleteByExpiresAtBefore(LocalDateTime now);
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -5,31 +5,40 @@ import com.problemio.auth.dto.LoginRequest;
 import com.problemio.auth.dto.SignupRequest;
 import com.problemio.auth.dto.TokenResponse;
 import com.problemio.auth.repository.RefreshTokenRepository;
+import com.problemio.global.auth.PasswordHasher;
+import com.problemio.global.auth.PrincipalCache;
+import com.problemio.global.auth.UserPrincipal;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.global.jwt.JwtTokenProvider;
+import com.problemio.global.jwt.RefreshTokenClaims;
 import com.problemio.global.util.TimeUtils;
 import com.problemio.user.domain.User;
 import com.problemio.user.dto.UserResponse;
 import com.problemio.user.repository.UserRepository;
 import com.problemio.user.service.EmailService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
+    private final RefreshTokenRegistry refreshTokenRegistry;
+    private final PrincipalCache principalCache;
 
+    // 해시 계산 중 DB 커넥션을 잡지 않도록 트랜잭션 없이 수행 (저장은 save 자체 트랜잭션)
     @Override
-    @Transactional
     public UserResponse signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BusinessException(ErrorCode.EMAIL_DUPLICATED);
@@ -46,7 +55,7 @@ public class AuthServiceImpl implements AuthService {
 
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .nickname(request.getNickname())
                 .build();
 
@@ -59,8 +68,11 @@ public class AuthServiceImpl implements AuthService {
                 .build();
     }
 
+    /**
+     * 로그인. BCrypt 검증/재해시는 DB 커넥션을 잡지 않도록 트랜잭션 없이 수행하고,
+     * 쓰기(재해시 반영, 세션 저장)는 각각 짧은 트랜잭션으로 처리
+     */
     @Override
-    @Transactional
     public TokenResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_LOGIN));
@@ -69,24 +81,27 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
             throw new BusinessException(ErrorCode.INVALID_LOGIN);
         }
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail());
-        String refreshTokenVal = jwtTokenProvider.createRefreshToken(user.getEmail());
-
-        // 파생된 삭제 쿼리를 사용하여 기존 토큰 삭제 (User 엔티티 참조)
-        // 인터페이스에 @Query 없이 User를 직접 받는 deleteByUser 메서드가 없으므로,
-        // 리포지토리에 정의된 deleteByUser_Id(Long userId)를 사용합니다.
-        refreshTokenRepository.deleteByUser_Id(user.getId());
+        // 예전 설정으로 만든 해시면 현재 설정으로 다시 해시 (그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음)
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            userRepository.updatePasswordIfUnchanged(user.getId(), user.getPasswordHash(),
+                    passwordHasher.encode(request.getPassword()), TimeUtils.now());
+        }
 
-        // 새로운 토큰 저장
-        refreshTokenRepository.save(RefreshToken.builder()
+        // 기존 세션은 그대로 두고 새 세션 추가 (만료된 세션은 RefreshTokenRegistry 가 주기적으로 정리)
+        RefreshToken session = refreshTokenRepository.save(RefreshToken.builder()
                 .user(user)
-                .tokenValue(refreshTokenVal)
+                .tokenValue(UUID.randomUUID().toString())
                 .expiresAt(TimeUtils.now().plusWeeks(2))
                 .build());
+        refreshTokenRegistry.register(session);
+
+        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail());
+        String refreshTokenVal = jwtTokenProvider.createRefreshToken(
+                user.getEmail(), session.getId(), session.getGeneration(), toDate(session.getExpiresAt()));
 
         return new TokenResponse(accessToken, refreshTokenVal);
     }
@@ -96,28 +111,38 @@ public class AuthServiceImpl implements AuthService {
     public void logout(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        refreshTokenRepository.deleteByUser_Id(user.getId());
+        refreshTokenRegistry.revokeAll(user.getId());
     }
 
+    /**
+     * Refresh Token 재발급 (rotation). 세대 교체와 새 토큰 발급을 한 트랜잭션에서 처리하고 새 Refresh Token 도 함께 발급.
+     * 재사용 감지 시 세션 폐기는 거부 응답(BusinessException)과 함께 롤백되지 않도록 커밋
+     */
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = BusinessException.class)
     public TokenResponse reissue(String refreshToken) {
         if (refreshToken == null || refreshToken.isBlank()) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+        if (claims == null) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
-        RefreshToken dbToken = refreshTokenRepository.findByTokenValue(refreshToken)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
 
-        User user = dbToken.getUser();
-
-        if (!user.getStatus()) {
+        UserPrincipal principal = principalCache.get(claims.getEmail());
+        if (principal == null || !principal.isActive()) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(user.getEmail());
-        return new TokenResponse(newAccessToken, refreshToken);
+        int generation = refreshTokenRegistry.rotate(claims.getFamilyId(), claims.getGeneration(), principal.getId());
+
+        String newAccessToken = jwtTokenProvider.createAccessToken(principal.getEmail());
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(
+                principal.getEmail(), claims.getFamilyId(), generation, claims.getExpiresAt());
+        return new TokenResponse(newAccessToken, newRefreshToken);
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(TimeUtils.ZONE_KST).toInstant());
     }
 }
@@ -0,0 +1,143 @@
+package com.problemio.auth.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.problemio.auth.domain.RefreshToken;
+import com.problemio.auth.repository.RefreshTokenRepository;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.CacheEvictions;
+import com.problemio.global.util.TimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Refresh Token 세션(family) 상태. refresh_tokens 행 하나가 세션 하나.
+ * - 토큰에는 세션 ID 와 세대만 담고, 재발급할 때마다 세대를 올린 새 토큰을 준다 (rotation)
+ * - 현재 세대/폐기 여부의 기준은 DB. 재발급은 PK 로 세대를 compare-and-set 하는 UPDATE 한 번이고,
+ *   호출하는 재발급 트랜잭션과 같이 커밋되므로 여러 서버가 떠 있어도 같은 세대는 한 번만 교체된다
+ * - 메모리에는 바뀌지 않는 값(유저, 만료)과 폐기 여부만 두고, 폐기/만료/다른 유저 토큰을 DB 조회 없이 거절하는 데 쓴다
+ *   (다른 서버에서 폐기된 세션은 메모리에 남아 있어도 compare-and-set 이 실패해 DB 기준으로 거절된다)
+ * - 이미 지난 세대의 토큰이 다시 오면 탈취로 보고 세션 전체를 폐기
+ *   (동시에 여러 탭에서 재발급하는 경우를 위해 직전 세대는 마지막 재발급 후 reuse-grace-seconds 동안 허용, 세대는 올리지 않음)
+ */
+@Slf4j
+@Component
+public class RefreshTokenRegistry {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LoadingCache<Long, Family> families;
+
+    @Value("${auth.refresh-token.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds;
+
+    @Value("${auth.refresh-token.purge-chunk-size:1000}")
+    private int purgeChunkSize;
+
+    public RefreshTokenRegistry(RefreshTokenRepository refreshTokenRepository,
+                                @Value("${auth.refresh-token.cache-max-size:100000}") long maxSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.families = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofDays(1))
+                .build(this::load);
+    }
+
+    /**
+     * 새로 저장된 세션 등록 (로그인 직후)
+     */
+    public void register(RefreshToken token) {
+        families.put(token.getId(), Family.of(token));
+    }
+
+    /**
+     * 제시된 세대로 재발급 가능한지 확인하고 새 토큰에 쓸 세대 반환. 호출하는 쪽 트랜잭션 안에서 호출해야 한다
+     * (세대 교체가 토큰 발급과 함께 커밋/롤백되고, 재사용 감지 시 폐기는 거부 응답과 함께 커밋되어야 함).
+     * 세션이 없거나/만료/폐기/다른 유저면 ACCESS_DENIED, 지난 세대면 세션을 폐기하고 ACCESS_DENIED
+     */
+    public int rotate(Long familyId, int presentedGeneration, Long userId) {
+        LocalDateTime now = TimeUtils.now();
+        Family family = families.get(familyId);
+        if (family == null || family.revoked || !family.expiresAt.isAfter(now) || !family.userId.equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        int next = presentedGeneration + 1;
+        if (refreshTokenRepository.rotateGeneration(familyId, presentedGeneration, next, now) == 1) {
+            return next;
+        }
+
+        // 세대가 맞지 않음 (동시 재발급/재사용) 또는 다른 서버에서 폐기됨: 잠금 조회로 최신 커밋 상태를 보고 판단
+        RefreshToken current = refreshTokenRepository.findByIdForUpdate(familyId).orElse(null);
+        if (current == null || current.getRevokedAt() != null || !current.getExpiresAt().isAfter(now)) {
+            CacheEvictions.nowAndAfterCommit(() -> families.invalidate(familyId));
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        if (presentedGeneration == current.getGeneration() - 1
+                && current.getRotatedAt() != null
+                && current.getRotatedAt().plusSeconds(reuseGraceSeconds).isAfter(now)) {
+            // 방금 교체된 토큰으로 동시에 들어온 요청: 현재 세대로 다시 발급
+            return current.getGeneration();
+        }
+
+        log.warn("Refresh Token 재사용 감지, 세션 폐기: familyId={}, userId={}", familyId, userId);
+        refreshTokenRepository.revokeById(familyId, now);
+        CacheEvictions.nowAndAfterCommit(() -> families.invalidate(familyId));
+        throw new BusinessException(ErrorCode.ACCESS_DENIED);
+    }
+
+    /**
+     * 유저의 모든 세션 폐기 (로그아웃, 탈퇴)
+     */
+    public void revokeAll(Long userId) {
+        List<Long> ids = refreshTokenRepository.findActiveIdsByUserId(userId);
+        refreshTokenRepository.revokeByUserId(userId, TimeUtils.now());
+        // 커밋 전에 다른 요청이 폐기 전 상태를 다시 적재하지 않도록 커밋 후에도 한 번 더 비운다
+        CacheEvictions.nowAndAfterCommit(() -> families.invalidateAll(ids));
+    }
+
+    /**
+     * 만료된 세션 정리 (chunk 단위로 나눠 삭제)
+     */
+    @Scheduled(cron = "${auth.refresh-token.purge-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        LocalDateTime now = TimeUtils.now();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, purgeChunkSize);
+            total += deleted;
+        } while (deleted == purgeChunkSize);
+        log.info("만료된 Refresh Token 정리: rows={}", total);
+    }
+
+    // 없는 세션은 null (캐시에 남기지 않음)
+    private Family load(Long familyId) {
+        return refreshTokenRepository.findById(familyId).map(Family::of).orElse(null);
+    }
+
+    /**
+     * 세션의 바뀌지 않는 상태 (폐기되면 캐시에서 지우고 DB 에서 다시 읽음)
+     */
+    private static final class Family {
+        private final Long userId;
+        private final LocalDateTime expiresAt;
+        private final boolean revoked;
+
+        private Family(Long userId, LocalDateTime expiresAt, boolean revoked) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+            this.revoked = revoked;
+        }
+
+        private static Family of(RefreshToken token) {
+            return new Family(token.getUser().getId(), token.getExpiresAt(), token.getRevokedAt() != null);
+        }
+    }
+}
@@ -19,4 +19,5 @@ public class Challenge {
     private LocalDateTime endAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime finalizedAt; // 랭킹 확정 시각 (확정 전이면 null)
 }
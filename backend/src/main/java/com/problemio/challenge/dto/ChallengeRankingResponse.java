@@ -21,7 +21,7 @@ public class ChallengeRankingResponse {
     private String nickname;
 
 
-    @JsonSerialize(using = FileUrlSerializer.class)
+    @JsonSerialize(using = FileUrlSerializer.AvatarSmall.class)
     private String profileImageUrl;
     private Integer ranking;
     private Double score;
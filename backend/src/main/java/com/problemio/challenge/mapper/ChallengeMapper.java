@@ -11,4 +11,5 @@ public interface ChallengeMapper {
     List<Challenge> findAll();
     Optional<Challenge> findById(Long id);
     void insert(Challenge challenge);
+    List<Challenge> findPendingFinalization();
 }
@@ -5,7 +5,9 @@ import com.problemio.challenge.dto.ChallengeRankingResponse;
 import com.problemio.submission.domain.Submission;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -17,22 +19,17 @@ public interface ChallengeRankingMapper {
     void deleteRankingsByChallengeId(@Param("challengeId") Long challengeId);
     
     // Archive Logic
-    boolean existsByChallengeId(@Param("challengeId") Long challengeId);
+    boolean isFinalized(@Param("challengeId") Long challengeId);
+    void markFinalized(@Param("challengeId") Long challengeId, @Param("finalizedAt") LocalDateTime finalizedAt);
     List<ChallengeRankingResponse> challengeTotalRanking(@Param("challengeId") Long challengeId, @Param("limit") int limit);
     ChallengeRankingResponse loginUserRanking(@Param("userId") Long userId, @Param("challengeId") Long challengeId);
+    int countRankings(@Param("challengeId") Long challengeId);
 
-    // Live Ranking (Calculated from Submissions table)
-    int getLiveRanking(
-        @Param("challengeId") Long challengeId, 
-        @Param("correctCount") int correctCount, 
-        @Param("playTime") Double playTime, 
-        @Param("submittedAt") java.time.LocalDateTime submittedAt
-    );
+    // Live Ranking -> LiveLeaderboardRegistry (in-memory)
 
-    List<ChallengeRankingResponse> findLiveTopRankingsByChallengeId(
-        @Param("challengeId") Long challengeId, 
-        @Param("limit") int limit
-    );
+    // Finalize (유저별 최고 기록, 최종 순위 순서)
+    Cursor<Submission> streamBestSubmissionsByChallengeId(@Param("challengeId") Long challengeId);
+    Long lockChallenge(@Param("challengeId") Long challengeId);
 
     // Submission Helper Queries
     List<Submission> findSubmissionsByChallengeId(@Param("challengeId") Long challengeId);
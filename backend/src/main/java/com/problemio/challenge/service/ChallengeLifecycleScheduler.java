@@ -0,0 +1,106 @@
+package com.problemio.challenge.service;
+
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.util.TimeUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 챌린지 종료 시각 추적 및 백그라운드 랭킹 확정.
+ * - 확정 대기 중인 챌린지를 종료 시각 + 유예 시간에 한 번 확정하도록 예약
+ * - 확정 직후 leaderboard 캐시 적재 (ChallengeRankingFinalizer)
+ * - 주기적으로 DB와 다시 맞춰 누락된 예약 보완 (다른 서버에서 생성된 챌린지 등)
+ * 확정 여부는 challenges.finalized_at 에 남으므로 재기동 후에도 확정된 챌린지는 다시 예약하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeLifecycleScheduler {
+
+    private final ChallengeMapper challengeMapper;
+    private final ChallengeRankingFinalizer rankingFinalizer;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${challenge.lifecycle.grace-seconds:5}")
+    private long graceSeconds;
+
+    @Value("${challenge.lifecycle.retry-seconds:10}")
+    private long retrySeconds;
+
+    // 예약된 챌린지 -> 예약 기준 종료 시각
+    private final ConcurrentHashMap<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        resync();
+    }
+
+    @Scheduled(fixedDelayString = "${challenge.lifecycle.resync-interval-ms:300000}",
+            initialDelayString = "${challenge.lifecycle.resync-interval-ms:300000}")
+    public void resync() {
+        int tracked = 0;
+        for (Challenge challenge : challengeMapper.findPendingFinalization()) {
+            if (track(challenge)) {
+                tracked++;
+            }
+        }
+        if (tracked > 0) {
+            log.info("챌린지 랭킹 확정 예약: {}건", tracked);
+        }
+    }
+
+    /**
+     * 챌린지 종료 후 확정 예약 (이미 예약/확정된 챌린지는 무시)
+     */
+    public boolean track(Challenge challenge) {
+        if (challenge.getEndAt() == null || challenge.getFinalizedAt() != null) {
+            return false;
+        }
+        if (scheduled.putIfAbsent(challenge.getId(), challenge.getEndAt()) != null) {
+            return false;
+        }
+        Instant runAt = challenge.getEndAt().plusSeconds(graceSeconds).atZone(TimeUtils.ZONE_KST).toInstant();
+        taskScheduler.schedule(() -> run(challenge.getId()), runAt);
+        return true;
+    }
+
+    /**
+     * 종료됐는데 아직 확정되지 않은 챌린지를 조회 요청이 발견했을 때: 즉시 백그라운드 확정 요청
+     */
+    public void requestFinalize(Long challengeId) {
+        if (scheduled.putIfAbsent(challengeId, TimeUtils.now()) != null) {
+            return;
+        }
+        taskScheduler.schedule(() -> run(challengeId), Instant.now());
+    }
+
+    private void run(Long challengeId) {
+        try {
+            if (rankingFinalizer.finalizeChallenge(challengeId)) {
+                scheduled.remove(challengeId);
+                return;
+            }
+            // 다른 스레드가 확정 중 -> 잠시 후 재확인
+            taskScheduler.schedule(() -> run(challengeId), Instant.now().plusSeconds(retrySeconds));
+        } catch (BusinessException e) {
+            // 삭제된 챌린지 등 재시도해도 의미 없는 경우
+            log.warn("챌린지 랭킹 확정 불가: challengeId={} ({})", challengeId, e.getMessage());
+            scheduled.remove(challengeId);
+        } catch (RuntimeException e) {
+            log.error("챌린지 랭킹 확정 실패, 재시도 예약: challengeId={}", challengeId, e);
+            taskScheduler.schedule(() -> run(challengeId), Instant.now().plusSeconds(retrySeconds));
+        }
+    }
+}
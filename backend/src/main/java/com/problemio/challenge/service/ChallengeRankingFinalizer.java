@@ -0,0 +1,202 @@
+package com.problemio.challenge.service;
+
+import com.problemio.challenge.domain.ChallengeRanking;
+import com.problemio.challenge.dto.ChallengeRankingResponse;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.submission.domain.Submission;
+import com.problemio.submission.service.SubmissionWriteBehindBuffer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 챌린지 최종 랭킹 확정(아카이브).
+ * - 유저별 최고 기록 선별과 정렬은 SQL(윈도 함수)에서 처리하고, 결과를 커서로 스트리밍
+ * - 스트리밍 중에는 같은 커넥션으로 INSERT 할 수 없으므로 기본형 배열에만 담아 두고,
+ *   커서를 닫은 뒤 고정 크기 청크로 나눠 INSERT
+ * - 같은 챌린지의 동시 확정은 서버 내 in-flight 집합 + 챌린지 행 잠금(FOR UPDATE)으로 한 번만 수행
+ * - 확정 여부는 challenges.finalized_at 으로 판단 (참여자가 없는 챌린지 포함)
+ * - 확정 직후 상위 랭킹을 leaderboard 캐시에 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeRankingFinalizer {
+
+    public static final String LEADERBOARD_CACHE = "leaderboard";
+    public static final int TOP_LIMIT = 10;
+
+    private final ChallengeRankingMapper challengeRankingMapper;
+    private final SubmissionWriteBehindBuffer writeBehindBuffer;
+    private final LiveLeaderboardRegistry liveLeaderboards;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+
+    @Value("${challenge.finalize.chunk-size:1000}")
+    private int chunkSize;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private TransactionTemplate txTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        // 확정 결과는 호출자 트랜잭션과 무관하게 커밋되어야 다른 요청이 바로 볼 수 있음
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 랭킹 확정.
+     * @return 확정이 끝났으면(이미 확정된 경우 포함) true, 다른 스레드가 확정 중이면 false
+     */
+    public boolean finalizeChallenge(Long challengeId) {
+        if (!inFlight.add(challengeId)) {
+            return false;
+        }
+        try {
+            // 메모리에 남은 답안 먼저 DB 반영
+            writeBehindBuffer.flush();
+
+            Boolean finalized = txTemplate.execute(status -> archive(challengeId));
+            if (Boolean.TRUE.equals(finalized)) {
+                // 아카이브가 생겼으므로 라이브 랭킹은 더 이상 필요 없음
+                liveLeaderboards.remove(challengeId);
+            }
+            warmLeaderboard(challengeId);
+            return true;
+        } finally {
+            inFlight.remove(challengeId);
+        }
+    }
+
+    /**
+     * 확정된 상위 랭킹 (leaderboard 캐시 경유). 아직 확정 전이면 null
+     */
+    @SuppressWarnings("unchecked")
+    public List<ChallengeRankingResponse> archivedTopRankings(Long challengeId) {
+        Cache cache = cacheManager.getCache(LEADERBOARD_CACHE);
+        if (cache != null) {
+            List<ChallengeRankingResponse> cached = cache.get(challengeId, List.class);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        if (!challengeRankingMapper.isFinalized(challengeId)) {
+            return null;
+        }
+        List<ChallengeRankingResponse> rankings = challengeRankingMapper.challengeTotalRanking(challengeId, TOP_LIMIT);
+        if (cache != null) {
+            cache.put(challengeId, rankings);
+        }
+        return rankings;
+    }
+
+    private void warmLeaderboard(Long challengeId) {
+        Cache cache = cacheManager.getCache(LEADERBOARD_CACHE);
+        if (cache != null) {
+            cache.put(challengeId, challengeRankingMapper.challengeTotalRanking(challengeId, TOP_LIMIT));
+        }
+    }
+
+    private boolean archive(Long challengeId) {
+        // 다른 서버/요청과의 중복 확정 방지: 행 잠금 후 재확인
+        if (challengeRankingMapper.lockChallenge(challengeId) == null) {
+            throw new BusinessException(ErrorCode.QUIZ_NOT_FOUND);
+        }
+        if (challengeRankingMapper.isFinalized(challengeId)) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        BestRecords records = readBestRecords(challengeId);
+        long readMillis = (System.nanoTime() - start) / 1_000_000;
+
+        challengeRankingMapper.deleteRankingsByChallengeId(challengeId);
+
+        LocalDateTime now = TimeUtils.now();
+        List<ChallengeRanking> chunk = new ArrayList<>(Math.min(chunkSize, records.size));
+        int written = 0;
+        for (int i = 0; i < records.size; i++) {
+            ChallengeRanking ranking = new ChallengeRanking();
+            ranking.setChallengeId(challengeId);
+            ranking.setUserId(records.userIds[i]);
+            ranking.setRanking(i + 1);
+            ranking.setScore((double) records.correctCounts[i]);
+            ranking.setPlayTime(records.playTimes[i]);
+            ranking.setCreatedAt(now);
+            chunk.add(ranking);
+
+            if (chunk.size() == chunkSize) {
+                challengeRankingMapper.insertRankings(chunk);
+                written += chunk.size();
+                chunk.clear();
+                log.debug("챌린지 랭킹 확정 진행: challengeId={}, {}/{}", challengeId, written, records.size);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            challengeRankingMapper.insertRankings(chunk);
+            written += chunk.size();
+        }
+        // 참여자가 없어도 확정으로 표시 (재기동/주기 재동기화 때 다시 확정하지 않도록)
+        challengeRankingMapper.markFinalized(challengeId, now);
+
+        log.info("챌린지 랭킹 확정: challengeId={}, users={}, read={}ms, total={}ms",
+                challengeId, written, readMillis, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    private BestRecords readBestRecords(Long challengeId) {
+        BestRecords records = new BestRecords();
+        try (Cursor<Submission> cursor = challengeRankingMapper.streamBestSubmissionsByChallengeId(challengeId)) {
+            for (Submission s : cursor) {
+                records.add(s.getUserId(), s.getCorrectCount(), s.getPlayTime() != null ? s.getPlayTime() : 0.0);
+            }
+        } catch (IOException e) {
+            log.error("챌린지 랭킹 커서 종료 실패: challengeId={}", challengeId, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return records;
+    }
+
+    /**
+     * 순위 순서대로 쌓이는 기록 (유저당 24바이트 내외)
+     */
+    private static final class BestRecords {
+        private long[] userIds = new long[1024];
+        private int[] correctCounts = new int[1024];
+        private double[] playTimes = new double[1024];
+        private int size;
+
+        private void add(long userId, int correctCount, double playTime) {
+            if (size == userIds.length) {
+                int capacity = size * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                correctCounts = Arrays.copyOf(correctCounts, capacity);
+                playTimes = Arrays.copyOf(playTimes, capacity);
+            }
+            userIds[size] = userId;
+            correctCounts[size] = correctCount;
+            playTimes[size] = playTime;
+            size++;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.problemio.challenge.service;
 
 import com.problemio.challenge.domain.Challenge;
-import com.problemio.challenge.domain.ChallengeRanking;
 import com.problemio.challenge.dto.ChallengeDto;
 import com.problemio.challenge.dto.ChallengeRankingResponse;
 import com.problemio.challenge.dto.ChallengeResultResponse;
@@ -12,18 +11,19 @@ import com.problemio.challenge.mapper.ChallengeRankingMapper;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.dto.QuestionResponse;
-import com.problemio.quiz.mapper.QuestionMapper;
+import com.problemio.quiz.service.QuestionSampler;
+import com.problemio.quiz.service.QuizBundle;
+import com.problemio.quiz.service.QuizBundleProvider;
 import com.problemio.submission.domain.Submission;
 import com.problemio.submission.dto.QuizAnswerResponse;
 import com.problemio.submission.dto.QuizSubmissionRequest;
 import com.problemio.submission.mapper.SubmissionMapper;
 import com.problemio.submission.service.SubmissionService;
+import com.problemio.submission.service.SubmissionWriteBehindBuffer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,9 +35,14 @@ public class ChallengeServiceImpl implements ChallengeService {
 
     private final ChallengeMapper challengeMapper;
     private final SubmissionService submissionService;
+    private final SubmissionWriteBehindBuffer writeBehindBuffer;
     private final SubmissionMapper submissionMapper; // 제출 로직 전반 검증용
-    private final QuestionMapper questionMapper; 
+    private final QuestionSampler questionSampler;
+    private final QuizBundleProvider bundleProvider;
     private final ChallengeRankingMapper challengeRankingMapper; // 챌린지 랭킹 전용
+    private final LiveLeaderboardRegistry liveLeaderboards; // 진행 중 챌린지 실시간 랭킹
+    private final ChallengeRankingFinalizer rankingFinalizer; // 종료 챌린지 랭킹 확정
+    private final ChallengeLifecycleScheduler lifecycleScheduler; // 종료 시각 기반 확정 예약
 
     @Override
     @Transactional(readOnly = true)
@@ -66,8 +71,12 @@ public class ChallengeServiceImpl implements ChallengeService {
         }
 
         Long submissionId = submissionService.createSubmission(challenge.getTargetQuizId(), userId, challengeId);
+        // 시작 시점부터 라이브 랭킹에 반영 (0점 기록)
+        offerToLiveRanking(challengeId, submissionId, false);
 
-        List<QuestionResponse> questions = questionMapper.findByQuizId(challenge.getTargetQuizId()).stream()
+        // 전체 문제를 무작위 순서로 (캐시된 퀴즈 묶음의 문제 셔플)
+        QuizBundle bundle = bundleProvider.get(challenge.getTargetQuizId());
+        List<QuestionResponse> questions = questionSampler.sample(bundle, Integer.MAX_VALUE).stream()
                 .map(q -> QuestionResponse.builder()
                         .id(q.getId())
                         .order(q.getQuestionOrder())
@@ -76,9 +85,6 @@ public class ChallengeServiceImpl implements ChallengeService {
                         .build())
                 .collect(Collectors.toList());
 
-        Collections.shuffle(questions);
-
-
         return ChallengeStartResponse.builder()
                 .challengeId(challenge.getId())
                 .submissionId(submissionId)
@@ -108,115 +114,75 @@ public class ChallengeServiceImpl implements ChallengeService {
              }
         }
 
-        return submissionService.submitQuiz(challenge.getTargetQuizId(), userId, request);
+        QuizAnswerResponse response = submissionService.submitQuiz(challenge.getTargetQuizId(), userId, request);
+        offerToLiveRanking(challengeId, response.getSubmissionId(), isExpired(challenge));
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "ranking", key = "#challengeId + '-' + #userId")
     public ChallengeResultResponse getChallengeResult(Long userId, Long challengeId) {
-        Submission submission = challengeRankingMapper.findSubmissionByUserIdAndChallengeId(userId, challengeId);
-        
-        if (submission == null) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
-        }
+        Challenge challenge = challengeMapper.findById(challengeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        int rank = challengeRankingMapper.getLiveRanking(
-            challengeId, 
-            submission.getCorrectCount(), 
-            submission.getPlayTime(), 
-            submission.getSubmittedAt()
-        );
+        // 종료된 챌린지는 남아 있는 라이브 랭킹(확정 전)만 쓰고, 없으면 확정 랭킹에서
+        LiveLeaderboard board = isExpired(challenge)
+                ? liveLeaderboards.find(challengeId).orElse(null)
+                : liveLeaderboards.get(challengeId);
+        if (board == null) {
+            return archivedResult(userId, challenge);
+        }
 
-        double playTimeSeconds = submission.getPlayTime() != null ? submission.getPlayTime() : 0.0;
-        String formattedTime = String.format("%.3f", playTimeSeconds);
+        LiveLeaderboard.Standing standing = board.standingOf(userId);
+        if (standing == null) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
 
+        LiveLeaderboard.Entry best = standing.getBest();
         return ChallengeResultResponse.builder()
                 .challengeId(challengeId)
-                .submissionId(submission.getId())
-                .rank(rank)
-                .correctCount(submission.getCorrectCount())
-                .playTime(submission.getPlayTime())
-                .formattedTime(formattedTime)
-                .challengeType(challengeMapper.findById(challengeId).map(Challenge::getChallengeType).orElse("UNKNOWN"))
+                .submissionId(best.getSubmissionId())
+                .rank(standing.getRank())
+                .totalParticipants(board.size())
+                .correctCount(best.getCorrectCount())
+                .playTime(best.getPlayTime())
+                .formattedTime(String.format("%.3f", best.getPlayTime()))
+                .challengeType(challenge.getChallengeType())
                 .build();
     }
 
-    @Override
-    @Transactional
-    public void finalizeChallenge(Long challengeId) {
-        // 1. 전체 제출 내역 조회
-        List<Submission> submissions = challengeRankingMapper.findSubmissionsByChallengeId(challengeId);
-
-        if (submissions.isEmpty()) {
-            return;
+    // 확정 랭킹 기준 결과 (확정 전이면 여기서 한 번 확정, 이후 요청은 확정 랭킹만 읽음)
+    private ChallengeResultResponse archivedResult(Long userId, Challenge challenge) {
+        Long challengeId = challenge.getId();
+        if (!challengeRankingMapper.isFinalized(challengeId)) {
+            rankingFinalizer.finalizeChallenge(challengeId);
         }
-
-        // 2. 사용자별 최고 기록 필터링 (Map 사용)
-        java.util.Map<Long, Submission> bestSubmissionsMap = new java.util.HashMap<>();
-        
-        for (Submission s : submissions) {
-            if (!bestSubmissionsMap.containsKey(s.getUserId())) {
-                bestSubmissionsMap.put(s.getUserId(), s);
-            } else {
-                Submission existing = bestSubmissionsMap.get(s.getUserId());
-                // 비교: 정답수 내림차순, 소요시간 오름차순, 제출일시 오름차순
-                boolean isBetter = false;
-                if (s.getCorrectCount() > existing.getCorrectCount()) {
-                    isBetter = true;
-                } else if (s.getCorrectCount() == existing.getCorrectCount()) {
-                    if (s.getPlayTime() < existing.getPlayTime()) {
-                        isBetter = true;
-                    } else if (s.getPlayTime().equals(existing.getPlayTime())) {
-                        if (s.getSubmittedAt().isBefore(existing.getSubmittedAt())) {
-                            isBetter = true;
-                        }
-                    }
-                }
-                
-                if (isBetter) {
-                    bestSubmissionsMap.put(s.getUserId(), s);
-                }
-            }
+        ChallengeRankingResponse ranking = challengeRankingMapper.loginUserRanking(userId, challengeId);
+        Submission best = challengeRankingMapper.findSubmissionByUserIdAndChallengeId(userId, challengeId);
+        if (ranking == null || best == null) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
-        
-        List<Submission> bestSubmissions = new java.util.ArrayList<>(bestSubmissionsMap.values());
 
-        // 3. 최고 기록 정렬
-        bestSubmissions.sort((s1, s2) -> {
-            if (s1.getCorrectCount() != s2.getCorrectCount()) {
-                return s2.getCorrectCount() - s1.getCorrectCount(); 
-            }
-            if (!s1.getPlayTime().equals(s2.getPlayTime())) {
-                return Double.compare(s1.getPlayTime(), s2.getPlayTime());
-            }
-            return s1.getSubmittedAt().compareTo(s2.getSubmittedAt()); 
-        });
-
-        // 4. 랭킹 엔티티 생성
-        List<ChallengeRanking> rankings = new java.util.ArrayList<>();
-        for (int i = 0; i < bestSubmissions.size(); i++) {
-            Submission s = bestSubmissions.get(i);
-            
-            ChallengeRanking ranking = new ChallengeRanking();
-            ranking.setChallengeId(challengeId);
-            ranking.setUserId(s.getUserId());
-            ranking.setRanking(i + 1);
-            ranking.setScore((double) s.getCorrectCount());
-            ranking.setPlayTime(s.getPlayTime());
-            ranking.setCreatedAt(TimeUtils.now());
-            
-            rankings.add(ranking);
-        }
+        double playTime = ranking.getPlayTime() != null ? ranking.getPlayTime() : 0.0;
+        return ChallengeResultResponse.builder()
+                .challengeId(challengeId)
+                .submissionId(best.getId())
+                .rank(ranking.getRanking())
+                .totalParticipants(challengeRankingMapper.countRankings(challengeId))
+                .correctCount(ranking.getScore() != null ? ranking.getScore().intValue() : 0)
+                .playTime(playTime)
+                .formattedTime(String.format("%.3f", playTime))
+                .challengeType(challenge.getChallengeType())
+                .build();
+    }
 
-        // 5. 기존 랭킹 초기화 및 저장
-        challengeRankingMapper.deleteRankingsByChallengeId(challengeId);
-        challengeRankingMapper.insertRankings(rankings);
+    @Override
+    public void finalizeChallenge(Long challengeId) {
+        // 스트리밍 확정 + 중복 확정 방지는 ChallengeRankingFinalizer 담당
+        rankingFinalizer.finalizeChallenge(challengeId);
     }
 
     @Override
-    @Transactional // 지연 확정(쓰기) 발생 가능하므로 readOnly 제외
-    @Cacheable(value = "leaderboard", key = "#challengeId")
     public List<ChallengeRankingResponse> getTopRankings(Long challengeId) {
         // DTO에 챌린지 타입 포함
         List<ChallengeRankingResponse> topRankings = resolveTopRankings(challengeId);
@@ -228,9 +194,8 @@ public class ChallengeServiceImpl implements ChallengeService {
     }
 
     @Override
-    @Transactional // readOnly 제외
     public LeaderboardResponse getLeaderboard(Long challengeId, Long userId) {
-        // 1. 상위 랭킹 조회 (필요 시 지연 확정)
+        // 1. 상위 랭킹 조회 (종료된 챌린지는 확정 랭킹)
         List<ChallengeRankingResponse> topRankings = resolveTopRankings(challengeId);
         
         String type = challengeMapper.findById(challengeId).map(Challenge::getChallengeType).orElse("UNKNOWN");
@@ -272,26 +237,22 @@ public class ChallengeServiceImpl implements ChallengeService {
                  ranking.setChallengeType(challengeType);
                  return ranking;
              }
-             // 아카이브에 없으면 안전장치로 라이브 데이터 확인
+             // 아카이브에 없으면 확정 전에 남아 있는 라이브 랭킹만 확인 (새로 구성하지 않음)
          }
          
-         // 2. 라이브 데이터 확인 (진행중 또는 폴백)
-         Submission s = challengeRankingMapper.findSubmissionByUserIdAndChallengeId(userId, challengeId);
-         if (s != null) {
-             int rank = challengeRankingMapper.getLiveRanking(
-                 challengeId, 
-                 s.getCorrectCount(), 
-                 s.getPlayTime(), 
-                 s.getSubmittedAt()
-             );
-             
+         // 2. 라이브 데이터 확인 (진행중 또는 확정 전 폴백)
+         LiveLeaderboard board = isExpired
+                 ? liveLeaderboards.find(challengeId).orElse(null)
+                 : liveLeaderboards.get(challengeId);
+         LiveLeaderboard.Standing standing = board != null ? board.standingOf(userId) : null;
+         if (standing != null) {
              return ChallengeRankingResponse.builder()
                      .challengeId(challengeId)
                      .userId(userId)
-                     .ranking(rank)
+                     .ranking(standing.getRank())
                      .nickname("Me")
-                     .score((double) s.getCorrectCount())
-                     .playTime(s.getPlayTime())
+                     .score((double) standing.getBest().getCorrectCount())
+                     .playTime(standing.getBest().getPlayTime())
                      .challengeType(challengeType)
                      .build();
          }
@@ -299,30 +260,48 @@ public class ChallengeServiceImpl implements ChallengeService {
          return null;
     }
     
-    // 지연 확정을 위한 헬퍼 메서드
+    // 상위 랭킹 조회 헬퍼 (종료: 확정 랭킹, 진행중: 라이브 랭킹)
     private List<ChallengeRankingResponse> resolveTopRankings(Long challengeId) {
         Challenge challenge = challengeMapper.findById(challengeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
         
-        boolean isExpired = challenge.getEndAt() != null && TimeUtils.now().isAfter(challenge.getEndAt());
-        
-        if (isExpired) {
-            // 아카이브 여부 확인
-            if (!challengeRankingMapper.existsByChallengeId(challengeId)) {
-                // 지연 확정 실행
-                finalizeChallenge(challengeId);
+        if (isExpired(challenge)) {
+            // 아카이브 데이터 반환 (확정 직후 캐시에 미리 적재됨)
+            List<ChallengeRankingResponse> archived = rankingFinalizer.archivedTopRankings(challengeId);
+            if (archived != null) {
+                return archived;
             }
-            // 아카이브 데이터 반환
-            return challengeRankingMapper.challengeTotalRanking(challengeId, 10);
+            // 확정은 스케줄러가 백그라운드에서 수행, 그 전까지는 남아 있는 라이브 랭킹으로 응답 (새로 구성하지 않음)
+            lifecycleScheduler.requestFinalize(challengeId);
+            return liveLeaderboards.topRankingsIfPresent(challengeId, ChallengeRankingFinalizer.TOP_LIMIT);
         } else {
-            // 라이브 데이터 반환
-            return challengeRankingMapper.findLiveTopRankingsByChallengeId(challengeId, 10);
+            // 라이브 데이터 반환 (메모리 랭킹)
+            return liveLeaderboards.topRankings(challengeId, ChallengeRankingFinalizer.TOP_LIMIT);
         }
     }
     
+    // 제출의 현재 진행 상태를 라이브 랭킹에 반영 (종료 후 늦게 온 제출은 남아 있는 랭킹에만)
+    private void offerToLiveRanking(Long challengeId, Long submissionId, boolean expired) {
+        writeBehindBuffer.snapshot(submissionId)
+                .filter(p -> challengeId.equals(p.getChallengeId()))
+                .ifPresent(p -> {
+                    if (expired) {
+                        liveLeaderboards.offerIfPresent(challengeId, p.getUserId(), p.getSubmissionId(),
+                                p.getCorrectCount(), p.getPlayTime(), p.getSubmittedAt());
+                    } else {
+                        liveLeaderboards.offer(challengeId, p.getUserId(), p.getSubmissionId(),
+                                p.getCorrectCount(), p.getPlayTime(), p.getSubmittedAt());
+                    }
+                });
+    }
+
     private boolean isChallengeExpired(Long challengeId) {
         Challenge challenge = challengeMapper.findById(challengeId).orElse(null);
-        return challenge != null && challenge.getEndAt() != null && TimeUtils.now().isAfter(challenge.getEndAt());
+        return challenge != null && isExpired(challenge);
+    }
+
+    private static boolean isExpired(Challenge challenge) {
+        return challenge.getEndAt() != null && TimeUtils.now().isAfter(challenge.getEndAt());
     }
 
     private final com.problemio.quiz.mapper.QuizMapper quizMapper;
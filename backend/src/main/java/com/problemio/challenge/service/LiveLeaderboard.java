@@ -0,0 +1,291 @@
+package com.problemio.challenge.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 진행 중인 챌린지 하나의 실시간 랭킹.
+ * 유저별 최고 기록만 순서 통계 트리(treap, 서브트리 크기 보관)에 유지해
+ * 등수 조회/상위 N 조회를 O(log n) (+N) 으로 처리한다.
+ * 정렬 기준: 정답 수 내림차순 -> 플레이 시간 오름차순 -> 시작 시각 오름차순
+ */
+public final class LiveLeaderboard {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 유저 ID -> (제출 ID -> 기록) : 최고 기록이 나빠졌을 때 다른 제출로 대체하기 위해 보관
+    private final Map<Long, Map<Long, Entry>> submissionsByUser = new HashMap<>();
+    // 유저 ID -> 현재 트리에 들어 있는 최고 기록
+    private final Map<Long, Entry> bestByUser = new HashMap<>();
+    private Node root;
+
+    /**
+     * 제출 기록 반영 (새 제출이거나 기존 제출의 진행 상태 갱신)
+     */
+    public void offer(Long userId, Long submissionId, int correctCount, Double playTime, LocalDateTime submittedAt) {
+        if (userId == null || submissionId == null) {
+            return; // 비회원 기록은 랭킹 대상이 아님
+        }
+        Entry entry = new Entry(userId, submissionId, correctCount,
+                playTime != null ? playTime : 0.0, submittedAt);
+
+        lock.writeLock().lock();
+        try {
+            Map<Long, Entry> submissions = submissionsByUser.computeIfAbsent(userId, k -> new HashMap<>());
+            submissions.put(submissionId, entry);
+
+            Entry current = bestByUser.get(userId);
+            Entry best;
+            if (current == null) {
+                best = entry;
+            } else if (current.submissionId.equals(submissionId)) {
+                // 최고 기록이던 제출 자체가 갱신됨 -> 유저의 제출 중 다시 최고 기록 선택
+                best = entry;
+                for (Entry e : submissions.values()) {
+                    if (compare(e, best) < 0) {
+                        best = e;
+                    }
+                }
+            } else {
+                best = compare(entry, current) < 0 ? entry : current;
+            }
+
+            if (best != current) {
+                if (current != null) {
+                    root = delete(root, current);
+                }
+                root = insert(root, new Node(best));
+                bestByUser.put(userId, best);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유저 제거 (탈퇴 등으로 랭킹 노출 대상이 아닐 때)
+     */
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Entry current = bestByUser.remove(userId);
+            submissionsByUser.remove(userId);
+            if (current != null) {
+                root = delete(root, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유저의 현재 등수와 최고 기록. 기록이 없으면 null
+     * 등수 = 자신보다 엄격히 앞선 유저 수 + 1 (동점자는 같은 등수)
+     */
+    public Standing standingOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            Entry best = userId == null ? null : bestByUser.get(userId);
+            if (best == null) {
+                return null;
+            }
+            Entry probe = new Entry(Long.MIN_VALUE, Long.MIN_VALUE, best.correctCount, best.playTime, best.submittedAt);
+            return new Standing(countLess(root, probe) + 1, best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위대로 정렬된 상위 limit 개 기록
+     */
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(Math.min(limit, size(root)));
+            Deque<Node> stack = new ArrayDeque<>();
+            Node node = root;
+            while ((node != null || !stack.isEmpty()) && result.size() < limit) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+                node = stack.pop();
+                result.add(node.entry);
+                node = node.right;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬 기준이 같은 기록(동점)인지 여부
+     */
+    public static boolean tied(Entry a, Entry b) {
+        return a.correctCount == b.correctCount
+                && Double.compare(a.playTime, b.playTime) == 0
+                && compareTime(a.submittedAt, b.submittedAt) == 0;
+    }
+
+    static int compare(Entry a, Entry b) {
+        int c = Integer.compare(b.correctCount, a.correctCount);
+        if (c != 0) {
+            return c;
+        }
+        c = Double.compare(a.playTime, b.playTime);
+        if (c != 0) {
+            return c;
+        }
+        c = compareTime(a.submittedAt, b.submittedAt);
+        if (c != 0) {
+            return c;
+        }
+        c = Long.compare(a.userId, b.userId);
+        return c != 0 ? c : Long.compare(a.submissionId, b.submissionId);
+    }
+
+    private static int compareTime(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == b ? 0 : (a == null ? 1 : -1);
+        }
+        return a.compareTo(b);
+    }
+
+    // ===== treap =====
+
+    private static int size(Node n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static void update(Node n) {
+        n.size = 1 + size(n.left) + size(n.right);
+    }
+
+    private static Node insert(Node n, Node item) {
+        if (n == null) {
+            return item;
+        }
+        if (compare(item.entry, n.entry) < 0) {
+            n.left = insert(n.left, item);
+            if (n.left.priority > n.priority) {
+                n = rotateRight(n);
+            }
+        } else {
+            n.right = insert(n.right, item);
+            if (n.right.priority > n.priority) {
+                n = rotateLeft(n);
+            }
+        }
+        update(n);
+        return n;
+    }
+
+    private static Node delete(Node n, Entry entry) {
+        if (n == null) {
+            return null;
+        }
+        int c = compare(entry, n.entry);
+        if (c < 0) {
+            n.left = delete(n.left, entry);
+        } else if (c > 0) {
+            n.right = delete(n.right, entry);
+        } else {
+            if (n.left == null) {
+                return n.right;
+            }
+            if (n.right == null) {
+                return n.left;
+            }
+            if (n.left.priority > n.right.priority) {
+                n = rotateRight(n);
+                n.right = delete(n.right, entry);
+            } else {
+                n = rotateLeft(n);
+                n.left = delete(n.left, entry);
+            }
+        }
+        update(n);
+        return n;
+    }
+
+    private static int countLess(Node n, Entry probe) {
+        int count = 0;
+        while (n != null) {
+            if (compare(n.entry, probe) < 0) {
+                count += size(n.left) + 1;
+                n = n.right;
+            } else {
+                n = n.left;
+            }
+        }
+        return count;
+    }
+
+    private static Node rotateRight(Node n) {
+        Node l = n.left;
+        n.left = l.right;
+        l.right = n;
+        update(n);
+        update(l);
+        return l;
+    }
+
+    private static Node rotateLeft(Node n) {
+        Node r = n.right;
+        n.right = r.left;
+        r.left = n;
+        update(n);
+        update(r);
+        return r;
+    }
+
+    private static final class Node {
+        private final Entry entry;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Entry {
+        private final Long userId;
+        private final Long submissionId;
+        private final int correctCount;
+        private final double playTime;
+        private final LocalDateTime submittedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Standing {
+        private final int rank;
+        private final Entry best;
+    }
+}
@@ -0,0 +1,179 @@
+package com.problemio.challenge.service;
+
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.dto.ChallengeRankingResponse;
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.submission.domain.Submission;
+import com.problemio.user.dto.UserResponse;
+import com.problemio.user.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 챌린지별 실시간 랭킹(LiveLeaderboard) 보관소.
+ * - 처음 조회 시 제출 테이블에서 한 번만 구성하고, 이후에는 제출마다 증분 반영
+ * - 서버 기동 시 진행 중인 챌린지는 미리 구성
+ * - 구성(get)은 진행 중 챌린지의 시작/제출/조회에서만. 종료된 챌린지는 find 로만 조회하고
+ *   없으면 확정 랭킹(challenge_rankings)을 쓴다 (확정 후 지운 랭킹을 다시 만들면 전체 제출을 읽고 메모리에 계속 남음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveLeaderboardRegistry {
+
+    // 상위 랭킹에 탈퇴 유저가 섞여 있을 때를 대비해 조금 더 조회
+    private static final int PROFILE_LOOKAHEAD = 5;
+
+    private final ChallengeMapper challengeMapper;
+    private final ChallengeRankingMapper challengeRankingMapper;
+    private final UserMapper userMapper;
+    private final CacheManager cacheManager;
+
+    private final ConcurrentHashMap<Long, LiveLeaderboard> boards = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int loaded = 0;
+        for (Challenge challenge : challengeMapper.findAll()) {
+            if (challenge.getEndAt() == null || TimeUtils.now().isBefore(challenge.getEndAt())) {
+                get(challenge.getId());
+                loaded++;
+            }
+        }
+        log.info("실시간 챌린지 랭킹 구성 완료: challenges={}", loaded);
+    }
+
+    /**
+     * 챌린지 랭킹 조회 (없으면 제출 테이블에서 구성, 동시 요청은 한 번만 구성)
+     */
+    public LiveLeaderboard get(Long challengeId) {
+        return boards.computeIfAbsent(challengeId, this::build);
+    }
+
+    /**
+     * 이미 구성된 랭킹만 조회 (구성하지 않음)
+     */
+    public Optional<LiveLeaderboard> find(Long challengeId) {
+        return Optional.ofNullable(boards.get(challengeId));
+    }
+
+    public void offer(Long challengeId, Long userId, Long submissionId, int correctCount, Double playTime,
+                      LocalDateTime submittedAt) {
+        get(challengeId).offer(userId, submissionId, correctCount, playTime, submittedAt);
+    }
+
+    /**
+     * 랭킹이 남아 있을 때만 반영 (종료 후 늦게 도착한 제출)
+     */
+    public void offerIfPresent(Long challengeId, Long userId, Long submissionId, int correctCount, Double playTime,
+                               LocalDateTime submittedAt) {
+        find(challengeId).ifPresent(board -> board.offer(userId, submissionId, correctCount, playTime, submittedAt));
+    }
+
+    public void remove(Long challengeId) {
+        boards.remove(challengeId);
+    }
+
+    /**
+     * 상위 랭킹 (RANK() 와 같은 동점 처리). 탈퇴한 유저는 랭킹에서 제외한다.
+     */
+    public List<ChallengeRankingResponse> topRankings(Long challengeId, int limit) {
+        return topRankings(challengeId, get(challengeId), limit);
+    }
+
+    /**
+     * 이미 구성된 랭킹이 있을 때만 상위 랭킹 (없으면 빈 목록)
+     */
+    public List<ChallengeRankingResponse> topRankingsIfPresent(Long challengeId, int limit) {
+        return find(challengeId).map(board -> topRankings(challengeId, board, limit)).orElse(List.of());
+    }
+
+    private List<ChallengeRankingResponse> topRankings(Long challengeId, LiveLeaderboard board, int limit) {
+        while (true) {
+            List<LiveLeaderboard.Entry> entries = board.top(limit + PROFILE_LOOKAHEAD);
+            Map<Long, UserResponse> profiles = findProfiles(entries);
+
+            List<ChallengeRankingResponse> result = new ArrayList<>(limit);
+            boolean removedAny = false;
+            LiveLeaderboard.Entry previous = null;
+            int rank = 0;
+            for (LiveLeaderboard.Entry e : entries) {
+                UserResponse profile = profiles.get(e.getUserId());
+                if (profile == null) {
+                    board.remove(e.getUserId());
+                    removedAny = true;
+                    continue;
+                }
+                if (result.size() >= limit) {
+                    break;
+                }
+                rank = (previous != null && LiveLeaderboard.tied(previous, e)) ? rank : result.size() + 1;
+                previous = e;
+                result.add(ChallengeRankingResponse.builder()
+                        .challengeId(challengeId)
+                        .userId(e.getUserId())
+                        .nickname(profile.getNickname())
+                        .profileImageUrl(profile.getProfileImageUrl())
+                        .ranking(rank)
+                        .score((double) e.getCorrectCount())
+                        .playTime(e.getPlayTime())
+                        .recordedAt(e.getSubmittedAt())
+                        .build());
+            }
+            // 탈퇴 유저를 걸러내 개수가 모자라면 정리된 트리로 다시 조회
+            if (!removedAny || result.size() >= limit || entries.size() < limit + PROFILE_LOOKAHEAD) {
+                return result;
+            }
+        }
+    }
+
+    private LiveLeaderboard build(Long challengeId) {
+        LiveLeaderboard board = new LiveLeaderboard();
+        List<Submission> submissions = challengeRankingMapper.findSubmissionsByChallengeId(challengeId);
+        for (Submission s : submissions) {
+            board.offer(s.getUserId(), s.getId(), s.getCorrectCount(), s.getPlayTime(), s.getSubmittedAt());
+        }
+        log.debug("실시간 챌린지 랭킹 구성: challengeId={}, submissions={}, users={}",
+                challengeId, submissions.size(), board.size());
+        return board;
+    }
+
+    private Map<Long, UserResponse> findProfiles(List<LiveLeaderboard.Entry> entries) {
+        Map<Long, UserResponse> profiles = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        Cache cache = cacheManager.getCache("userProfile");
+
+        for (LiveLeaderboard.Entry e : entries) {
+            UserResponse cached = cache != null ? cache.get(e.getUserId(), UserResponse.class) : null;
+            if (cached != null) {
+                profiles.put(e.getUserId(), cached);
+            } else {
+                missing.add(e.getUserId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (UserResponse user : userMapper.findByIds(missing)) {
+                profiles.put(user.getId(), user);
+                if (cache != null) {
+                    cache.put(user.getId(), user);
+                }
+            }
+        }
+        return profiles;
+    }
+}
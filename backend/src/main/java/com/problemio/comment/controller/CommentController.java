@@ -6,6 +6,7 @@ import com.problemio.comment.dto.CommentResponse;
 import com.problemio.comment.dto.CommentUpdateRequest;
 import com.problemio.comment.service.CommentService;
 import com.problemio.global.auth.CustomUserDetails;
+import com.problemio.global.dto.CursorPageResponse;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -14,6 +15,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -49,7 +51,7 @@ public class CommentController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody(required = false) CommentDeleteRequest request
     ) {
-        com.problemio.user.domain.User user = userDetails != null ? userDetails.getUser() : null;
+        com.problemio.global.auth.UserPrincipal user = userDetails != null ? userDetails.getUser() : null;
         String guestPassword = request != null ? request.getPassword() : null;
         commentService.deleteComment(commentId, user, guestPassword);
     }
@@ -74,6 +76,42 @@ public class CommentController {
         return commentService.getReplies(commentId, userId);
     }
 
+    @GetMapping("/quizzes/{quizId}/comments/cursor")
+    public CursorPageResponse<CommentResponse> getCommentsByCursor(
+            @PathVariable Long quizId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        return commentService.getCommentsByCursor(quizId, userId, cursor, size);
+    }
+
+    @GetMapping("/comments/{commentId}/replies/cursor")
+    public CursorPageResponse<CommentResponse> getRepliesByCursor(
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        return commentService.getRepliesByCursor(commentId, userId, cursor, size);
+    }
+
+    /**
+     * 여러 루트 댓글의 앞쪽 답글을 한 번에 (예: ?parentIds=1,2,3&limit=3)
+     */
+    @GetMapping("/quizzes/{quizId}/comments/replies")
+    public Map<Long, List<CommentResponse>> getFirstReplies(
+            @PathVariable Long quizId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam List<Long> parentIds,
+            @RequestParam(defaultValue = "3") int limit
+    ) {
+        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        return commentService.getFirstReplies(quizId, parentIds, limit, userId);
+    }
+
     @PostMapping("/comments/{commentId}/likes")
     public void toggleLike(
             @PathVariable Long commentId,
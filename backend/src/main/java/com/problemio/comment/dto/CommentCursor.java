@@ -0,0 +1,55 @@
+package com.problemio.comment.dto;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서 (마지막으로 본 댓글의 created_at, id).
+ * 클라이언트에는 불투명한 문자열(Base64 URL)로만 노출한다.
+ */
+@Getter
+public class CommentCursor {
+
+    private static final String SEPARATOR = "|";
+    // created_at 이 비어 있는 예전 행의 정렬 키 (MySQL DATETIME 최솟값)
+    public static final LocalDateTime MISSING_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final LocalDateTime at;
+    private final Long id;
+
+    public CommentCursor(LocalDateTime at, Long id) {
+        this.at = at;
+        this.id = id;
+    }
+
+    public String encode() {
+        LocalDateTime key = at != null ? at : MISSING_AT;
+        String raw = key.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석. 비어 있으면 null (첫 페이지), 형식이 틀리면 INVALID_INPUT_VALUE
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.problemio.comment.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * like_count 보정 대상: 저장된 like_count 와 실제 좋아요 행 수가 다른 댓글
+ */
+@Getter
+@Setter
+public class CommentLikeCountMismatch {
+
+    private Long commentId;
+    private Long quizId;
+    private int likeCount;
+    private int actualCount;
+}
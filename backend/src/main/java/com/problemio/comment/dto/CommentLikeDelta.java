@@ -0,0 +1,15 @@
+package com.problemio.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 좋아요 수 일괄 반영용 증감분
+ */
+@Getter
+@AllArgsConstructor
+public class CommentLikeDelta {
+
+    private Long commentId;
+    private long likeDelta;
+}
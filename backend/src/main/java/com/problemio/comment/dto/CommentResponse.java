@@ -7,7 +7,7 @@ import com.problemio.global.config.FileUrlSerializer;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CommentResponse {
@@ -22,7 +22,7 @@ public class CommentResponse {
     private String nickname;        // 회원: users.nickname, 게스트: guest_nickname
 
 
-    @JsonSerialize(using = FileUrlSerializer.class)
+    @JsonSerialize(using = FileUrlSerializer.AvatarSmall.class)
     private String profileImageUrl; // 회원만 존재, 게스트는 null
 
     private String content;
@@ -7,14 +7,15 @@ import org.apache.ibatis.annotations.Param;
 @Mapper
 public interface CommentLikeMapper {
 
-    void insert(CommentLike commentLike);
-
-    void delete(@Param("userId") Long userId, @Param("commentId") Long commentId);
+    /**
+     * 좋아요 추가 (이미 있으면 무시). 실제로 추가된 행 수 반환
+     */
+    int insertIgnore(CommentLike commentLike);
 
-    boolean exists(
-            @Param("userId") Long userId,
-            @Param("commentId") Long commentId
-    );
+    /**
+     * 좋아요 삭제. 실제로 삭제된 행 수 반환
+     */
+    int delete(@Param("userId") Long userId, @Param("commentId") Long commentId);
 
     /**
      * 로그인 유저가 좋아요한 댓글 id 목록을 한번에 조회
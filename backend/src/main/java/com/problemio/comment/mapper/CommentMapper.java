@@ -1,6 +1,9 @@
 package com.problemio.comment.mapper;
 
 import com.problemio.comment.domain.Comment;
+import com.problemio.comment.dto.CommentCursor;
+import com.problemio.comment.dto.CommentLikeCountMismatch;
+import com.problemio.comment.dto.CommentLikeDelta;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -28,18 +31,62 @@ public interface CommentMapper {
 
     List<Comment> findRepliesByParentId(@Param("parentId") Long parentId);
 
+    /**
+     * 커서 기반 목록 (cursor 가 null 이면 처음부터)
+     */
+    List<Comment> findRootCommentsAfter(
+            @Param("quizId") Long quizId,
+            @Param("cursor") CommentCursor cursor,
+            @Param("limit") int limit
+    );
+
+    List<Comment> findRepliesAfter(
+            @Param("parentId") Long parentId,
+            @Param("cursor") CommentCursor cursor,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 부모 댓글별 앞쪽 답글 limit 개씩
+     */
+    List<Comment> findFirstRepliesByParentIds(
+            @Param("quizId") Long quizId,
+            @Param("parentIds") List<Long> parentIds,
+            @Param("limit") int limit
+    );
+
     int countCommentsByQuizId(@Param("quizId") Long quizId);
 
     List<CommentReplyCount> countRepliesByParentIds(@Param("parentIds") List<Long> parentIds);
 
     List<CommentCount> countCommentsByQuizIds(@Param("quizIds") List<Long> quizIds);
 
-    void increaseLikeCount(@Param("commentId") Long commentId);
+    /**
+     * 댓글별 좋아요 수 증감분 일괄 반영 (CommentLikeCounter)
+     */
+    int addLikeCounts(@Param("deltas") List<CommentLikeDelta> deltas);
+
+    /**
+     * 유저가 누른 댓글 좋아요만큼 한 번에 차감 (좋아요 행 삭제 전에 호출)
+     */
+    int decreaseLikeCountsByLiker(@Param("userId") Long userId);
 
-    void decreaseLikeCount(@Param("commentId") Long commentId);
+    long findMaxId();
+
+    /**
+     * id 구간에서 like_count 가 활성 유저의 실제 좋아요 수와 다른 댓글 (CommentLikeCountReconciler)
+     */
+    List<CommentLikeCountMismatch> findLikeCountMismatches(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    int updateLikeCountIfUnchanged(@Param("commentId") Long commentId,
+                                   @Param("expected") int expected,
+                                   @Param("likeCount") int likeCount);
 
     List<Long> findIdsByUserId(@Param("userId") Long userId);
 
+    // 유저가 댓글을 남긴 퀴즈 (프로필 변경 시 댓글 목록 캐시 갱신용)
+    List<Long> findQuizIdsByUserId(@Param("userId") Long userId);
+
     List<Long> findIdsByQuizId(@Param("quizId") Long quizId);
 
     void softDeleteByUserId(@Param("userId") Long userId, @Param("updatedAt") LocalDateTime updatedAt);
@@ -0,0 +1,41 @@
+package com.problemio.comment.service;
+
+import com.problemio.comment.mapper.CommentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * comments.like_count 보정 작업.
+ * like_count 는 CommentLikeCounter 가 증감분을 모아 반영하므로 서버 비정상 종료나 반영 실패로 어긋날 수 있어
+ * 주기적으로 활성 유저 기준 실제 좋아요 수(comment_likes)와 맞춘다.
+ * 한 번에 전체를 잠그지 않도록 id 구간 단위로 나눠 실행하고, 좋아요가 처리 중인 댓글은 다음 주기로 미룬다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCountReconciler {
+
+    private final CommentMapper commentMapper;
+    private final CommentLikeCounter commentLikeCounter;
+
+    @Value("${comment.like-count.reconcile-chunk-size:1000}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${comment.like-count.reconcile-cron:0 45 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        // 메모리에 쌓인 증감분을 먼저 반영 (반영 전 증감분이 남은 댓글은 보정에서 제외되므로)
+        commentLikeCounter.flush();
+
+        long start = System.nanoTime();
+        long maxId = commentMapper.findMaxId();
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += commentLikeCounter.reconcileLikes(fromId, fromId + chunkSize - 1);
+        }
+        log.info("댓글 좋아요 수 보정: repaired={}, maxId={}, {}ms",
+                repaired, maxId, (System.nanoTime() - start) / 1_000_000);
+    }
+}
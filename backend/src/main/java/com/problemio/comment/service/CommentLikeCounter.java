@@ -0,0 +1,184 @@
+package com.problemio.comment.service;
+
+import com.problemio.comment.dto.CommentLikeCountMismatch;
+import com.problemio.comment.dto.CommentLikeDelta;
+import com.problemio.comment.mapper.CommentMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 댓글 좋아요 수 카운터.
+ * - 좋아요 토글은 댓글별 LongAdder 에 더하기만 하고 comments 행을 잠그지 않는다
+ * - 주기적으로 쌓인 증감분을 UPDATE 한 번(CASE)으로 모아 반영하고, 해당 퀴즈의 댓글 캐시 버전을 올린다
+ * - 조회 시 아직 반영 전인 증감분을 더해서 보여준다
+ * 서버가 비정상 종료되면 마지막 flush 이후 증감분은 유실될 수 있다 (QuizCounterService 와 동일).
+ * 유실/어긋남은 CommentLikeCountReconciler 가 reconcileLikes 로 주기적으로 실제 행 수와 맞춘다.
+ * 반영이 끝나 0이 된 댓글 항목은 flush 마다 지워 맵이 좋아요가 눌린 댓글 수만큼 쌓이지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCounter {
+
+    private final CommentMapper commentMapper;
+    private final CommentPageCache commentPageCache;
+
+    @Value("${comment.like-counter.batch-size:500}")
+    private int batchSize;
+
+    // 댓글 -> 반영 전 증감분 (항목 추가/제거는 compute 로 키 단위 원자적으로)
+    private final ConcurrentHashMap<Long, LongAdder> likeDeltas = new ConcurrentHashMap<>();
+    // 반영 후 캐시를 버릴 퀴즈를 찾기 위한 댓글 -> 퀴즈 (likeDeltas 항목과 같이 추가/제거)
+    private final ConcurrentHashMap<Long, Long> quizIds = new ConcurrentHashMap<>();
+    // 좋아요 행을 바꾸는 중인 트랜잭션 수 (행 변경 ~ 증감분 반영 사이에는 보정하지 않음)
+    private final ConcurrentHashMap<Long, Integer> likesInFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 좋아요 행 변경 전에 호출. 트랜잭션이 끝날 때(커밋 시 증감분 반영 이후) 해제된다.
+     */
+    public void beginLikeChange(Long commentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        likesInFlight.merge(commentId, 1, Integer::sum);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                likesInFlight.computeIfPresent(commentId, (k, v) -> v > 1 ? v - 1 : null);
+            }
+        });
+    }
+
+    /**
+     * 좋아요 증감. 트랜잭션 중이면 커밋된 경우에만 반영 (롤백 시 카운트가 어긋나지 않도록)
+     */
+    public void addLike(Long quizId, Long commentId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(quizId, commentId, delta);
+                }
+            });
+        } else {
+            add(quizId, commentId, delta);
+        }
+    }
+
+    public long pendingLikes(Long commentId) {
+        LongAdder adder = likeDeltas.get(commentId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${comment.like-counter.flush-interval-ms:3000}")
+    public synchronized void flush() {
+        Set<Long> touchedQuizzes = new HashSet<>();
+        List<CommentLikeDelta> deltas = drain(touchedQuizzes);
+        if (deltas.isEmpty()) {
+            prune();
+            return;
+        }
+
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<CommentLikeDelta> chunk = deltas.subList(from, Math.min(deltas.size(), from + batchSize));
+            try {
+                commentMapper.addLikeCounts(chunk);
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영되도록 되돌린다
+                log.warn("댓글 좋아요 수 반영 실패, 재시도 예정: comments={}", chunk.size(), e);
+                chunk.forEach(d -> add(null, d.getCommentId(), d.getLikeDelta()));
+            }
+        }
+        // 반영된 항목 정리 (실패해 되돌린 항목은 0이 아니므로 남는다)
+        prune();
+        // 캐시된 목록의 like_count 는 반영 전 값이므로 버린다
+        touchedQuizzes.forEach(commentPageCache::bump);
+        log.debug("댓글 좋아요 수 반영: comments={}", deltas.size());
+    }
+
+    /**
+     * id 구간의 like_count 를 실제 좋아요 행 수로 보정. 보정한 댓글 수 반환
+     * flush 와 같은 모니터에서 실행되므로 꺼내 놓고 아직 반영하지 않은 증감분은 없다.
+     * 반영 전 증감분이 남아 있거나 좋아요 행을 바꾸는 중인 댓글은 다음 보정 때 처리한다.
+     */
+    public synchronized int reconcileLikes(long fromId, long toId) {
+        int repaired = 0;
+        Set<Long> touchedQuizzes = new HashSet<>();
+        for (CommentLikeCountMismatch m : commentMapper.findLikeCountMismatches(fromId, toId)) {
+            if (likesInFlight.containsKey(m.getCommentId()) || pendingLikes(m.getCommentId()) != 0) {
+                continue;
+            }
+            if (commentMapper.updateLikeCountIfUnchanged(m.getCommentId(), m.getLikeCount(), m.getActualCount()) > 0) {
+                touchedQuizzes.add(m.getQuizId());
+                repaired++;
+            }
+        }
+        touchedQuizzes.forEach(commentPageCache::bump);
+        return repaired;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 항목 제거(prune)와 겹쳐도 증감분을 잃지 않도록 compute 안에서 더한다
+    private void add(Long quizId, Long commentId, long delta) {
+        likeDeltas.compute(commentId, (k, adder) -> {
+            if (quizId != null) {
+                quizIds.putIfAbsent(k, quizId);
+            }
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    /**
+     * 증감분이 0인 항목 제거 (add 와 같은 키 잠금 안에서 확인)
+     */
+    private void prune() {
+        likeDeltas.forEach((commentId, adder) -> likeDeltas.computeIfPresent(commentId, (k, current) -> {
+            if (current.sum() != 0) {
+                return current;
+            }
+            quizIds.remove(k);
+            return null;
+        }));
+    }
+
+    /**
+     * 현재까지의 증감분을 가져가고 그만큼 빼 둔다 (sum 후 같은 값을 빼는 방식, QuizCounterService 참고)
+     */
+    private List<CommentLikeDelta> drain(Set<Long> touchedQuizzes) {
+        List<CommentLikeDelta> deltas = new ArrayList<>();
+        likeDeltas.forEach((commentId, adder) -> {
+            long taken = adder.sum();
+            if (taken != 0) {
+                adder.add(-taken);
+                deltas.add(new CommentLikeDelta(commentId, taken));
+                Long quizId = quizIds.get(commentId);
+                if (quizId != null) {
+                    touchedQuizzes.add(quizId);
+                }
+            }
+        });
+        return deltas;
+    }
+}
@@ -0,0 +1,171 @@
+package com.problemio.comment.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.problemio.comment.dto.CommentResponse;
+import com.problemio.comment.mapper.CommentMapper;
+import com.problemio.global.util.CacheEvictions;
+import com.problemio.user.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 퀴즈별 댓글 목록 캐시 (보는 사람과 무관한 부분만).
+ * - 댓글 + 작성자 프로필 + 답글 수까지 조립한 목록을 (퀴즈, 페이지/부모 댓글, 버전) 키로 캐시
+ * - 댓글 작성/수정/삭제, 좋아요 수 반영 시 퀴즈 버전을 올려 이전 키를 버린다 (즉시 + 커밋 후 한 번 더)
+ * - 작성자 닉네임/프로필 이미지 변경 시 그 유저가 댓글을 단 퀴즈의 버전을 올린다
+ * - mine / likedByMe 는 캐시하지 않고 조회마다 복사본에 덧씌운다
+ * 버전은 페이지 TTL(CacheConfig, 5분)보다 훨씬 오래 쓰이지 않은 것만 정리한다.
+ * 그 버전으로 만든 페이지는 이미 만료되었으므로 0부터 다시 세어도 이전 키와 겹치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPageCache {
+
+    public static final String CACHE_NAME = "commentPage";
+
+    private static final Duration VERSION_IDLE_TTL = Duration.ofMinutes(30);
+
+    private final CacheManager cacheManager;
+    private final CommentMapper commentMapper;
+
+    private final LoadingCache<Long, AtomicLong> versions = Caffeine.newBuilder()
+            .expireAfterAccess(VERSION_IDLE_TTL)
+            .build(k -> new AtomicLong());
+
+    /**
+     * 루트 댓글 페이지
+     */
+    public List<CommentResponse> getPage(Long quizId, int page, int size, Supplier<List<CommentResponse>> loader) {
+        return get(quizId, "p:" + page + ":" + size, loader);
+    }
+
+    /**
+     * 특정 댓글의 답글 목록
+     */
+    public List<CommentResponse> getReplies(Long quizId, Long parentId, Supplier<List<CommentResponse>> loader) {
+        return get(quizId, "r:" + parentId, loader);
+    }
+
+    /**
+     * 퀴즈 댓글에서 파생된 임의 목록 (part 는 퀴즈 안에서 목록을 구분하는 키).
+     * part 는 서버가 검증한 값으로만 만든다 (클라이언트 입력을 그대로 쓰면 키가 무한히 늘어남)
+     */
+    public List<CommentResponse> get(Long quizId, String part, Supplier<List<CommentResponse>> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+        String key = key(quizId, part);
+        return cache.get(key, () -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 대상별 목록 여러 개를 한 번에. 캐시에 없는 대상만 loader 로 한 번에 읽는다.
+     * loader 결과에 없는 대상(존재하지 않거나 빈 목록)은 캐시하지 않는다.
+     */
+    public <K> Map<K, List<CommentResponse>> getAll(Long quizId, Collection<K> targets, Function<K, String> part,
+                                                    Function<List<K>, Map<K, List<CommentResponse>>> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.apply(List.copyOf(targets));
+        }
+        // 키는 읽기 전에 정해 둔다 (읽는 사이 버전이 오르면 이전 버전 키로 들어가 버려진다)
+        Map<K, String> keys = new LinkedHashMap<>();
+        targets.forEach(t -> keys.put(t, key(quizId, part.apply(t))));
+
+        Map<K, List<CommentResponse>> result = new LinkedHashMap<>();
+        List<K> misses = new ArrayList<>();
+        keys.forEach((target, key) -> {
+            @SuppressWarnings("unchecked")
+            List<CommentResponse> hit = cache.get(key, List.class);
+            if (hit != null) {
+                result.put(target, hit);
+            } else {
+                misses.add(target);
+            }
+        });
+        if (!misses.isEmpty()) {
+            loader.apply(misses).forEach((target, list) -> {
+                String key = keys.get(target);
+                if (key != null) {
+                    List<CommentResponse> copy = List.copyOf(list);
+                    cache.put(key, copy);
+                    result.put(target, copy);
+                }
+            });
+        }
+        return result;
+    }
+
+    private String key(Long quizId, String part) {
+        AtomicLong version = versions.getIfPresent(quizId);
+        return quizId + ":" + part + ":v" + (version != null ? version.get() : 0L);
+    }
+
+    /**
+     * 퀴즈 댓글 변경 반영
+     */
+    public void bump(Long quizId) {
+        if (quizId == null) {
+            return;
+        }
+        CacheEvictions.nowAndAfterCommit(() -> versions.get(quizId).incrementAndGet());
+    }
+
+    /**
+     * 작성자 프로필이 바뀌면 그 유저가 댓글을 단 퀴즈의 목록을 버린다
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        commentMapper.findQuizIdsByUserId(event.getUserId()).forEach(this::bump);
+    }
+
+    /**
+     * 여러 퀴즈에 걸친 변경 (회원 탈퇴 시 댓글 익명화 등)
+     */
+    public void clear() {
+        CacheEvictions.nowAndAfterCommit(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    /**
+     * 캐시된 목록에 보는 사람 기준 플래그와 아직 반영 전인 좋아요 증감분을 덧씌운 복사본
+     */
+    public static List<CommentResponse> overlay(List<CommentResponse> cached, Long viewerId, Set<Long> likedIds,
+                                                ToLongFunction<Long> pendingLikes) {
+        return cached.stream()
+                .map(c -> c.toBuilder()
+                        .likeCount((int) Math.max(0, nullToZero(c.getLikeCount()) + pendingLikes.applyAsLong(c.getId())))
+                        .mine(viewerId != null && viewerId.equals(c.getUserId()))
+                        .likedByMe(likedIds.contains(c.getId()))
+                        .build())
+                .toList();
+    }
+
+    private static int nullToZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
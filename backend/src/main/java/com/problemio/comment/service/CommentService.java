@@ -3,8 +3,10 @@ package com.problemio.comment.service;
 import com.problemio.comment.dto.CommentCreateRequest;
 import com.problemio.comment.dto.CommentResponse;
 import com.problemio.comment.dto.CommentUpdateRequest;
+import com.problemio.global.dto.CursorPageResponse;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CommentService {
 
@@ -21,7 +23,7 @@ public interface CommentService {
     /**
      * 댓글 삭제 (소프트 삭제, 작성자 또는 관리자 가능)
      */
-    void deleteComment(Long commentId, com.problemio.user.domain.User user, String guestPassword);
+    void deleteComment(Long commentId, com.problemio.global.auth.UserPrincipal user, String guestPassword);
 
     /**
      * 퀴즈별 댓글 목록 조회 (페이징)
@@ -38,6 +40,21 @@ public interface CommentService {
      */
     List<CommentResponse> getReplies(Long parentCommentId, Long userId);
 
+    /**
+     * 퀴즈별 루트 댓글 커서 페이지 (최신순, cursor 가 없으면 첫 페이지)
+     */
+    CursorPageResponse<CommentResponse> getCommentsByCursor(Long quizId, Long userId, String cursor, int size);
+
+    /**
+     * 답글 커서 페이지 (작성순)
+     */
+    CursorPageResponse<CommentResponse> getRepliesByCursor(Long parentCommentId, Long userId, String cursor, int size);
+
+    /**
+     * 여러 부모 댓글의 앞쪽 답글 limit 개씩 (부모 댓글 ID -> 답글, 요청 순서 유지)
+     */
+    Map<Long, List<CommentResponse>> getFirstReplies(Long quizId, List<Long> parentIds, int limit, Long userId);
+
     /**
      * 댓글 좋아요 토글
      */
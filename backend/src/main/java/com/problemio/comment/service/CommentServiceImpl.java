@@ -3,10 +3,13 @@ package com.problemio.comment.service;
 import com.problemio.comment.domain.Comment;
 import com.problemio.comment.domain.CommentLike;
 import com.problemio.comment.dto.CommentCreateRequest;
+import com.problemio.comment.dto.CommentCursor;
 import com.problemio.comment.dto.CommentResponse;
 import com.problemio.comment.dto.CommentUpdateRequest;
 import com.problemio.comment.mapper.CommentLikeMapper;
 import com.problemio.comment.mapper.CommentMapper;
+import com.problemio.global.auth.PasswordHasher;
+import com.problemio.global.dto.CursorPageResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.mapper.QuizMapper;
@@ -16,24 +19,33 @@ import com.problemio.user.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import com.problemio.global.util.TimeUtils;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    // 답글 일괄 조회 상한 (부모 댓글 수, 부모별 답글 수)
+    private static final int MAX_BATCH_PARENTS = 50;
+    private static final int MAX_BATCH_REPLIES = 20;
+    // 목록 캐시는 앞쪽 페이지만 (페이지 번호/크기를 그대로 키로 쓰면 클라이언트가 키를 무한히 만들 수 있음)
+    private static final int MAX_CACHED_PAGE = 5;
+    private static final int MAX_CACHED_PAGE_SIZE = 100;
+
     private final CommentMapper commentMapper;
     private final CommentLikeMapper commentLikeMapper;
     private final UserMapper userMapper;
     private final QuizMapper quizMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final CommentPageCache commentPageCache;
+    private final CommentLikeCounter commentLikeCounter;
 
     @Override
     @Transactional
@@ -60,7 +72,7 @@ public class CommentServiceImpl implements CommentService {
             }
 
             comment.setGuestNickname(request.getNickname());
-            comment.setGuestPasswordHash(passwordEncoder.encode(request.getPassword()));
+            comment.setGuestPasswordHash(passwordHasher.encode(request.getPassword()));
         }
 
         // 상위/루트 댓글 처리
@@ -91,6 +103,7 @@ public class CommentServiceImpl implements CommentService {
         if (request.getParentCommentId() == null) {
             commentMapper.updateRootCommentId(comment.getId(), comment.getId());
         }
+        commentPageCache.bump(quizId);
     }
 
     @Override
@@ -110,7 +123,7 @@ public class CommentServiceImpl implements CommentService {
             if (request.getPassword() == null || request.getPassword().isBlank()) {
                 throw new BusinessException(ErrorCode.COMMENT_PASSWORD_REQUIRED);
             }
-            if (!passwordEncoder.matches(request.getPassword(), existing.getGuestPasswordHash())) {
+            if (!passwordHasher.matches(request.getPassword(), existing.getGuestPasswordHash())) {
                 throw new BusinessException(ErrorCode.COMMENT_PASSWORD_MISMATCH);
             }
         }
@@ -118,11 +131,12 @@ public class CommentServiceImpl implements CommentService {
         existing.setContent(request.getContent());
         existing.setUpdatedAt(TimeUtils.now());
         commentMapper.updateComment(existing);
+        commentPageCache.bump(existing.getQuizId());
     }
 
     @Override
     @Transactional
-    public void deleteComment(Long commentId, com.problemio.user.domain.User user, String guestPassword) {
+    public void deleteComment(Long commentId, com.problemio.global.auth.UserPrincipal user, String guestPassword) {
         Comment existing = commentMapper.findById(commentId);
         if (existing == null || existing.isDeleted()) {
             throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
@@ -150,7 +164,7 @@ public class CommentServiceImpl implements CommentService {
                 if (guestPassword == null || guestPassword.isBlank()) {
                     throw new BusinessException(ErrorCode.COMMENT_PASSWORD_REQUIRED);
                 }
-                if (!passwordEncoder.matches(guestPassword, existing.getGuestPasswordHash())) {
+                if (!passwordHasher.matches(guestPassword, existing.getGuestPasswordHash())) {
                     throw new BusinessException(ErrorCode.COMMENT_PASSWORD_MISMATCH);
                 }
             }
@@ -158,6 +172,7 @@ public class CommentServiceImpl implements CommentService {
 
         // 물리 삭제 대신 논리 삭제(Soft Delete)
         commentMapper.softDeleteComment(commentId, TimeUtils.now());
+        commentPageCache.bump(existing.getQuizId());
     }
 
     @Override
@@ -167,77 +182,125 @@ public class CommentServiceImpl implements CommentService {
         int sizeSafe = Math.max(size, 1);
         int offset = (pageSafe - 1) * sizeSafe;
 
-        List<Comment> comments = commentMapper.findRootCommentsByQuizId(quizId, sizeSafe, offset);
-
-        List<Long> writerIds = comments.stream()
-                .map(Comment::getUserId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        Map<Long, UserResponse> writers = writerIds.isEmpty()
-                ? Collections.emptyMap()
-                : userMapper.findByIds(writerIds).stream()
-                .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
-
-        List<Long> rootIds = comments.stream()
-                .map(Comment::getId)
-                .toList();
-
-        Set<Long> likedIds = (userId != null && !rootIds.isEmpty())
-                ? new HashSet<>(commentLikeMapper.findLikedCommentIds(userId, rootIds))
-                : Collections.emptySet();
-
-        Map<Long, Integer> replyCounts = rootIds.isEmpty()
-                ? Collections.emptyMap()
-                : commentMapper.countRepliesByParentIds(rootIds).stream()
-                .collect(Collectors.toMap(CommentMapper.CommentReplyCount::getParentId, CommentMapper.CommentReplyCount::getCount));
-
-        return comments.stream()
-                .map(comment -> {
-                    UserResponse writer = comment.getUserId() != null
-                            ? writers.get(comment.getUserId())
-                            : null;
-
-                    String nickname = writer != null ? writer.getNickname() : comment.getGuestNickname();
-                    String profileImage = writer != null ? writer.getProfileImageUrl() : null;
-
-                    boolean isOwner = userId != null && comment.getUserId() != null && userId.equals(comment.getUserId());
-                    boolean likedByMe = likedIds.contains(comment.getId());
-
-                    return CommentResponse.builder()
-                            .id(comment.getId())
-                            .quizId(comment.getQuizId())
-                            .userId(comment.getUserId())
-                            .parentCommentId(comment.getParentCommentId())
-                            .rootCommentId(comment.getRootCommentId())
-                            .nickname(nickname)
-                            .profileImageUrl(profileImage)
+        // 보는 사람과 무관한 부분(댓글, 작성자, 답글 수)은 퀴즈 버전별 캐시에서
+        Supplier<List<CommentResponse>> loader =
+                () -> assemble(commentMapper.findRootCommentsByQuizId(quizId, sizeSafe, offset));
+        List<CommentResponse> cached = pageSafe <= MAX_CACHED_PAGE && sizeSafe <= MAX_CACHED_PAGE_SIZE
+                ? commentPageCache.getPage(quizId, pageSafe, sizeSafe, loader)
+                : loader.get();
+        return withViewerFlags(cached, userId);
+    }
 
-                            .content(comment.getContent())
-                            .likeCount(comment.getLikeCount())
-                            .replyCount(replyCounts.getOrDefault(comment.getId(), 0))
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getReplies(Long parentCommentId, Long userId) {
+        Comment parent = commentMapper.findById(parentCommentId);
+        if (parent == null || parent.isDeleted()) {
+            throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
+        }
 
-                            .mine(isOwner)
-                            .likedByMe(likedByMe)
+        List<CommentResponse> cached = commentPageCache.getReplies(parent.getQuizId(), parentCommentId,
+                () -> assemble(commentMapper.findRepliesByParentId(parentCommentId)));
+        return withViewerFlags(cached, userId);
+    }
 
-                            .createdAt(comment.getCreatedAt())
-                            .updatedAt(comment.getUpdatedAt())
-                            .build();
-                })
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getCommentsByCursor(Long quizId, Long userId, String cursor, int size) {
+        int safeSize = normalizeCursorSize(size);
+        CommentCursor after = CommentCursor.decode(cursor);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단 (캐시는 첫 페이지만)
+        Supplier<List<CommentResponse>> loader =
+                () -> assemble(commentMapper.findRootCommentsAfter(quizId, after, safeSize + 1));
+        List<CommentResponse> rows = after == null
+                ? commentPageCache.get(quizId, "c:" + safeSize, loader)
+                : loader.get();
+        return toCursorPage(rows, safeSize, userId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<CommentResponse> getReplies(Long parentCommentId, Long userId) {
+    public CursorPageResponse<CommentResponse> getRepliesByCursor(Long parentCommentId, Long userId, String cursor, int size) {
         Comment parent = commentMapper.findById(parentCommentId);
         if (parent == null || parent.isDeleted()) {
             throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
         }
+        int safeSize = normalizeCursorSize(size);
+        CommentCursor after = CommentCursor.decode(cursor);
+
+        // 캐시는 (존재를 확인한) 부모 댓글의 첫 페이지만
+        Supplier<List<CommentResponse>> loader =
+                () -> assemble(commentMapper.findRepliesAfter(parentCommentId, after, safeSize + 1));
+        List<CommentResponse> rows = after == null
+                ? commentPageCache.get(parent.getQuizId(), "rc:" + parentCommentId + ":" + safeSize, loader)
+                : loader.get();
+        return toCursorPage(rows, safeSize, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<CommentResponse>> getFirstReplies(Long quizId, List<Long> parentIds, int limit, Long userId) {
+        List<Long> ids = parentIds == null ? List.of() : parentIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .limit(MAX_BATCH_PARENTS)
+                .toList();
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_BATCH_REPLIES);
+
+        Map<Long, List<CommentResponse>> result = new LinkedHashMap<>();
+        ids.forEach(id -> result.put(id, new ArrayList<>()));
+        if (ids.isEmpty()) {
+            return result;
+        }
 
-        List<Comment> comments = commentMapper.findRepliesByParentId(parentCommentId);
+        // 부모 댓글별로 캐시 (요청마다 다른 ID 조합을 키로 쓰지 않음), 없는 것만 한 번에 조회
+        // 이 퀴즈에 답글이 있는 부모만 캐시되므로 임의 ID 로 키가 늘어나지 않는다
+        Map<Long, List<CommentResponse>> byParent = commentPageCache.getAll(quizId, ids,
+                id -> "rf:" + id + ":" + safeLimit,
+                misses -> assemble(commentMapper.findFirstRepliesByParentIds(quizId, misses, safeLimit)).stream()
+                        .collect(Collectors.groupingBy(CommentResponse::getParentCommentId)));
+        List<CommentResponse> cached = ids.stream()
+                .flatMap(id -> byParent.getOrDefault(id, List.of()).stream())
+                .toList();
+        for (CommentResponse reply : withViewerFlags(cached, userId)) {
+            List<CommentResponse> bucket = result.get(reply.getParentCommentId());
+            if (bucket != null) {
+                bucket.add(reply);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * limit + 1 건 조회 결과 -> 커서 페이지 (다음 커서는 마지막 댓글 기준)
+     */
+    private CursorPageResponse<CommentResponse> toCursorPage(List<CommentResponse> rows, int size, Long userId) {
+        boolean hasNext = rows.size() > size;
+        List<CommentResponse> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponse last = page.get(page.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
 
+        return CursorPageResponse.<CommentResponse>builder()
+                .content(withViewerFlags(page, userId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
+    private static int normalizeCursorSize(int size) {
+        return Math.min(Math.max(size, 1), 100);
+    }
+
+    /**
+     * 댓글 목록 -> 응답 (작성자 프로필, 답글 수 포함, mine/likedByMe 제외)
+     */
+    private List<CommentResponse> assemble(List<Comment> comments) {
         List<Long> writerIds = comments.stream()
                 .map(Comment::getUserId)
                 .filter(Objects::nonNull)
@@ -250,10 +313,6 @@ public class CommentServiceImpl implements CommentService {
                 .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
 
         List<Long> ids = comments.stream().map(Comment::getId).toList();
-        Set<Long> likedIds = (userId != null && !ids.isEmpty())
-                ? new HashSet<>(commentLikeMapper.findLikedCommentIds(userId, ids))
-                : Collections.emptySet();
-
         Map<Long, Integer> replyCounts = ids.isEmpty()
                 ? Collections.emptyMap()
                 : commentMapper.countRepliesByParentIds(ids).stream()
@@ -268,22 +327,19 @@ public class CommentServiceImpl implements CommentService {
                     String nickname = writer != null ? writer.getNickname() : comment.getGuestNickname();
                     String profileImage = writer != null ? writer.getProfileImageUrl() : null;
 
-                    boolean isOwner = userId != null && comment.getUserId() != null && userId.equals(comment.getUserId());
-                    boolean likedByMe = likedIds.contains(comment.getId());
-
                     return CommentResponse.builder()
                             .id(comment.getId())
                             .quizId(comment.getQuizId())
+                            .userId(comment.getUserId())
                             .parentCommentId(comment.getParentCommentId())
                             .rootCommentId(comment.getRootCommentId())
-                            .userId(comment.getUserId())
                             .nickname(nickname)
                             .profileImageUrl(profileImage)
+
                             .content(comment.getContent())
                             .likeCount(comment.getLikeCount())
                             .replyCount(replyCounts.getOrDefault(comment.getId(), 0))
-                            .mine(isOwner)
-                            .likedByMe(likedByMe)
+
                             .createdAt(comment.getCreatedAt())
                             .updatedAt(comment.getUpdatedAt())
                             .build();
@@ -291,6 +347,17 @@ public class CommentServiceImpl implements CommentService {
                 .toList();
     }
 
+    /**
+     * 캐시된 목록에 현재 유저 기준 플래그(mine, likedByMe)를 덧씌운 복사본
+     */
+    private List<CommentResponse> withViewerFlags(List<CommentResponse> cached, Long userId) {
+        Set<Long> likedIds = (userId != null && !cached.isEmpty())
+                ? new HashSet<>(commentLikeMapper.findLikedCommentIds(userId,
+                        cached.stream().map(CommentResponse::getId).toList()))
+                : Collections.emptySet();
+        return CommentPageCache.overlay(cached, userId, likedIds, commentLikeCounter::pendingLikes);
+    }
+
 
     @Override
     @Transactional
@@ -304,19 +371,17 @@ public class CommentServiceImpl implements CommentService {
             throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
         }
 
-        boolean alreadyLiked = commentLikeMapper.exists(userId, commentId);
-
-        if (alreadyLiked) {
-            // 좋아요 취소
-            commentLikeMapper.delete(userId, commentId);
-            commentMapper.decreaseLikeCount(commentId);
-        } else {
-            // 좋아요 등록
+        // 삭제가 되면 취소, 삭제할 게 없으면 등록 (exists 확인 없이 영향받은 행 수로 판단)
+        commentLikeCounter.beginLikeChange(commentId);
+        int delta = -commentLikeMapper.delete(userId, commentId);
+        if (delta == 0) {
             CommentLike like = new CommentLike();
             like.setUserId(userId);
             like.setCommentId(commentId);
-            commentLikeMapper.insert(like);
-            commentMapper.increaseLikeCount(commentId);
+            // 동시 요청이 먼저 넣었으면 0 (중복 증가 없음)
+            delta = commentLikeMapper.insertIgnore(like);
         }
+        // 캐시된 목록은 그대로 두고 조회 시 반영 전 증감분을 더한다 (반영되면 CommentLikeCounter 가 버전을 올림)
+        commentLikeCounter.addLike(comment.getQuizId(), commentId, delta);
     }
 }
@@ -1,7 +1,6 @@
 package com.problemio.global.auth;
 
 import com.problemio.user.domain.Role;
-import com.problemio.user.domain.User;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -15,7 +14,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final UserPrincipal user;
 
     // 권한 반환
     @Override
@@ -24,9 +23,10 @@ public class CustomUserDetails implements UserDetails {
         return List.of(new SimpleGrantedAuthority(role.name()));
     }
 
+    // JWT 인증만 사용하므로 비밀번호는 들고 있지 않음 (로그인 검증은 AuthService 에서 DB 값으로)
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return null;
     }
 
     @Override
@@ -57,4 +57,4 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
        return getUser().getStatus();
     }
-}
\ No newline at end of file
+}
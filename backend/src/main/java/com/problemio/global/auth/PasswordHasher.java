@@ -0,0 +1,183 @@
+package com.problemio.global.auth;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시/검증 (로그인, 비밀번호 변경, 탈퇴, 게스트 댓글).
+ * - BCrypt 는 CPU 를 오래 쓰므로 요청 스레드에서 직접 돌리지 않고 전용 스레드 풀에서만 실행
+ *   -> 동시에 도는 해시는 pool-size 개로 제한되고, 나머지 요청 스레드(퀴즈 조회 등)는 CPU 를 계속 쓸 수 있다
+ * - 대기열(queue-capacity)이 가득 차거나 timeout-ms 안에 끝나지 않으면 TOO_MANY_REQUESTS (429)
+ *   timeout-ms 는 대기열 대기 + 해시 한 번의 최악 시간보다 넉넉하게 둔다.
+ *   BCrypt 는 인터럽트에 반응하지 않으므로 시간 초과된 작업은 취소하지 않고 버린 작업으로 표시만 한다
+ *   (아직 시작 전이면 건너뛰고, 이미 돌고 있으면 끝까지 돌린 뒤 로그를 남긴다)
+ * - 저장된 해시가 현재 설정(auth.password.bcrypt-strength)보다 약하면 needsRehash 가 true (로그인 시 다시 해시)
+ * - 풀/대기열 현황과 소요 시간은 Micrometer 지표(password.hasher.*)로 노출 (bcrypt-strength 조정용)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    // 작업 상태 (시간 초과 시 취소 대신 ABANDONED 로 바꾼다)
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int ABANDONED = 3;
+
+    // 시간 초과로 버렸지만 아직 풀에서 돌고 있는 작업 수
+    private final AtomicInteger abandonedRunning = new AtomicInteger();
+
+    private final Timer hashTimer;
+    private final Counter rejected;
+    private final Counter timedOut;
+    private final Counter skipped;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.password.pool-size:0}") int poolSize,
+                          @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${auth.password.timeout-ms:10000}") long timeoutMs) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hasher.pool.size", executor, ThreadPoolExecutor::getPoolSize)
+                .description("비밀번호 해시 풀 스레드 수").register(meterRegistry);
+        Gauge.builder("password.hasher.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 중인 스레드 수").register(meterRegistry);
+        Gauge.builder("password.hasher.queued", executor, e -> e.getQueue().size())
+                .description("대기열에 쌓인 해시 작업 수").register(meterRegistry);
+        Gauge.builder("password.hasher.abandoned.running", abandonedRunning, AtomicInteger::get)
+                .description("시간 초과로 버렸지만 아직 돌고 있는 해시 작업 수").register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hasher.duration")
+                .description("해시 한 번의 소요 시간 (대기 시간 제외)").register(meterRegistry);
+        this.rejected = Counter.builder("password.hasher.rejected")
+                .description("대기열 초과로 거절된 요청 수").register(meterRegistry);
+        this.timedOut = Counter.builder("password.hasher.timed.out")
+                .description("timeout-ms 안에 끝나지 않은 요청 수").register(meterRegistry);
+        this.skipped = Counter.builder("password.hasher.skipped")
+                .description("시간 초과 후 시작 전에 건너뛴 작업 수").register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 설정보다 약한지 (해시 계산 없음)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        AtomicInteger state = new AtomicInteger(QUEUED);
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                // 기다리던 요청이 이미 포기했으면 CPU 를 쓰지 않고 건너뛴다
+                if (!state.compareAndSet(QUEUED, RUNNING)) {
+                    skipped.increment();
+                    return null;
+                }
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long end = System.nanoTime();
+                    hashTimer.record(end - start, TimeUnit.NANOSECONDS);
+                    if (!state.compareAndSet(RUNNING, DONE)) {
+                        abandonedRunning.decrementAndGet();
+                        log.warn("시간 초과 후 완료된 비밀번호 해시: hashMs={}, totalMs={}",
+                                TimeUnit.NANOSECONDS.toMillis(end - start),
+                                TimeUnit.NANOSECONDS.toMillis(end - submittedAt));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열 초과: queue={}", executor.getQueue().size());
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            abandon(state);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            abandon(state);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // 취소(인터럽트)하지 않고 버린 작업으로 표시. 이미 돌고 있는 작업은 끝날 때 abandonedRunning 을 줄인다
+    private void abandon(AtomicInteger state) {
+        if (state.compareAndSet(QUEUED, ABANDONED)) {
+            log.warn("비밀번호 해시 시간 초과, 대기 중인 작업 포기: timeoutMs={}, queue={}",
+                    timeoutMs, executor.getQueue().size());
+            return;
+        }
+        // 작업이 먼저 끝나 감소시키는 경우에도 음수가 되지 않도록 먼저 올려 둔다
+        abandonedRunning.incrementAndGet();
+        if (state.compareAndSet(RUNNING, ABANDONED)) {
+            log.warn("비밀번호 해시 시간 초과, 실행 중인 작업은 끝까지 실행: timeoutMs={}, active={}",
+                    timeoutMs, executor.getActiveCount());
+        } else {
+            abandonedRunning.decrementAndGet();
+        }
+    }
+}
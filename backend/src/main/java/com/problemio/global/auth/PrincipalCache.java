@@ -0,0 +1,69 @@
+package com.problemio.global.auth;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.problemio.global.util.CacheEvictions;
+import com.problemio.user.event.UserChangedEvent;
+import com.problemio.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이메일 -> UserPrincipal 캐시 (JWT 인증 필터 전용).
+ * - 같은 키 동시 미스는 한 번만 조회 (LoadingCache)
+ * - refreshAfterWrite: 오래된 항목은 기존 값을 돌려주면서 백그라운드에서 다시 읽는다 (만료로 인한 동시 미스 없음)
+ * - 한동안 안 쓰인 항목만 expireAfterAccess 로 정리
+ * - UserChangedEvent 를 받으면 즉시 + 커밋 후 한 번 더 무효화
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final LoadingCache<String, UserPrincipal> cache;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${auth.principal-cache.max-size:50000}") long maxSize,
+                          @Value("${auth.principal-cache.refresh-after-write-minutes:5}") long refreshMinutes,
+                          @Value("${auth.principal-cache.expire-after-access-minutes:60}") long expireMinutes) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .build(this::load);
+    }
+
+    /**
+     * 이메일로 주체 조회, 없으면 null
+     */
+    public UserPrincipal get(String email) {
+        if (email == null) {
+            return null;
+        }
+        return cache.get(email);
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        CacheEvictions.nowAndAfterCommit(() -> invalidate(event.getEmail()));
+    }
+
+    // 없는 유저는 null (캐시에 남기지 않음)
+    private UserPrincipal load(String email) {
+        log.debug("[UserPrincipal] cache MISS for email={}", email);
+        return userRepository.findByEmail(email)
+                .map(UserPrincipal::from)
+                .orElse(null);
+    }
+}
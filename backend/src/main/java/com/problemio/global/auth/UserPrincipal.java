@@ -0,0 +1,33 @@
+package com.problemio.global.auth;
+
+import com.problemio.user.domain.Role;
+import com.problemio.user.domain.User;
+import lombok.Getter;
+
+/**
+ * 인증된 요청의 주체. 요청마다 필요한 최소 정보만 담은 불변 객체 (JPA 엔티티를 캐시에 들고 있지 않도록)
+ */
+@Getter
+public class UserPrincipal {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final boolean active;
+
+    public UserPrincipal(Long id, String email, Role role, boolean active) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.active = active;
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getRole(), user.getStatus());
+    }
+
+    // User#getStatus 와 같은 의미 (탈퇴하지 않았으면 true)
+    public boolean getStatus() {
+        return active;
+    }
+}
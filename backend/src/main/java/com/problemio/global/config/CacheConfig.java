@@ -26,27 +26,48 @@ public class CacheConfig {
                         .build()
         );
 
-        // userDetails: 로그인 시 UserDetails 조회 캐시 (짧은 TTL로 최신성 확보)
-        CaffeineCache userDetailsCache = new CaffeineCache(
-                "userDetails",
+        // 퀴즈 정답 키: 퀴즈 단위로 컴파일된 채점용 정답 집합 (수정/삭제 시 evict)
+        CaffeineCache quizAnswerKeyCache = new CaffeineCache(
+                "quizAnswerKey",
                 Caffeine.newBuilder()
-                        .expireAfterWrite(5, TimeUnit.MINUTES)
-                        .maximumSize(1_000)
+                        .expireAfterAccess(30, TimeUnit.MINUTES)
+                        .maximumSize(2_000)
                         .build()
         );
 
-        // quiz question/answer 캐시: 제출 시 반복 조회 최소화
-        CaffeineCache questionCache = new CaffeineCache(
-                "question",
+        // 퀴즈 플레이 묶음: 퀴즈 정보 + 문제 + 정답 (수정/삭제/숨김 시 evict)
+        CaffeineCache quizBundleCache = new CaffeineCache(
+                "quizBundle",
                 Caffeine.newBuilder()
-                        .expireAfterWrite(10, TimeUnit.MINUTES)
-                        .maximumSize(5_000)
+                        .expireAfterAccess(30, TimeUnit.MINUTES)
+                        .maximumSize(2_000)
                         .build()
         );
-        CaffeineCache questionAnswersCache = new CaffeineCache(
-                "questionAnswers",
+
+        // 종료된 챌린지의 확정 랭킹 상위 목록 (변하지 않으므로 긴 TTL, 확정 직후 미리 적재)
+        CaffeineCache leaderboardCache = new CaffeineCache(
+                "leaderboard",
                 Caffeine.newBuilder()
-                        .expireAfterWrite(10, TimeUnit.MINUTES)
+                        .expireAfterAccess(1, TimeUnit.HOURS)
+                        .maximumSize(500)
+                        .build()
+        );
+
+        // 퀴즈 목록 전체 개수: 검색어별 근사값 (목록 조회마다 COUNT 하지 않도록)
+        CaffeineCache quizCountCache = new CaffeineCache(
+                "quizCount",
+                Caffeine.newBuilder()
+                        .expireAfterWrite(1, TimeUnit.MINUTES)
+                        .maximumSize(1_000)
+                        .build()
+        );
+
+        // 퀴즈별 댓글 목록 (보는 사람과 무관한 부분, 키에 퀴즈 버전 포함)
+        // 작성자 닉네임/프로필 변경은 UserChangedEvent 로 해당 퀴즈 버전을 올려 반영
+        CaffeineCache commentPageCache = new CaffeineCache(
+                "commentPage",
+                Caffeine.newBuilder()
+                        .expireAfterWrite(5, TimeUnit.MINUTES)
                         .maximumSize(5_000)
                         .build()
         );
@@ -60,13 +81,25 @@ public class CacheConfig {
                         .build()
         );
 
+        // 서명 검증을 마친 JWT (토큰 해시 -> 이메일, 만료 시각). 만료는 조회 시 따로 확인
+        CaffeineCache verifiedTokenCache = new CaffeineCache(
+                "verifiedToken",
+                Caffeine.newBuilder()
+                        .expireAfterWrite(5, TimeUnit.MINUTES)
+                        .maximumSize(10_000)
+                        .build()
+        );
+
         SimpleCacheManager cacheManager = new SimpleCacheManager();
         cacheManager.setCaches(List.of(
                 rankingCache,
-                userDetailsCache,
-                questionCache,
-                questionAnswersCache,
-                userProfileCache
+                quizAnswerKeyCache,
+                quizBundleCache,
+                leaderboardCache,
+                quizCountCache,
+                userProfileCache,
+                commentPageCache,
+                verifiedTokenCache
         ));
         return cacheManager;
     }
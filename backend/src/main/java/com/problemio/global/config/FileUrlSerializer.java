@@ -3,15 +3,31 @@ package com.problemio.global.config;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.problemio.global.service.ImageVariant;
 
 import java.io.IOException;
 
+/**
+ * 업로드 파일 Key -> URL.
+ * 화면에 맞는 크기가 필요하면 변형용 하위 클래스(Thumbnail, Avatar, ...)를 지정하면
+ * 로컬 이미지는 해당 변형 URL 로 내려간다 (변형이 아직 없으면 UploadFileController 가 원본으로 응답).
+ */
 public class FileUrlSerializer extends JsonSerializer<String> {
 
     // 로컬 파일 서빙을 위한 기본 URL prefix
     // WebMvcConfig에서 /uploads/** -> file:///C:/public/upload/ 매핑됨
     private static String baseUrl = "/uploads/";
 
+    private final ImageVariant variant;
+
+    public FileUrlSerializer() {
+        this(null);
+    }
+
+    protected FileUrlSerializer(ImageVariant variant) {
+        this.variant = variant;
+    }
+
     public static void setBaseUrl(String url) {
         if (url != null && !url.isBlank()) {
             if (!url.endsWith("/")) {
@@ -45,9 +61,36 @@ public class FileUrlSerializer extends JsonSerializer<String> {
         // 3) 상대 경로(Key)인 경우 baseUrl(/uploads/)을 붙여서 반환
         // value가 /로 시작하면 제거
         String path = normalized.startsWith("/") ? normalized.substring(1) : normalized;
+        if (variant != null) {
+            String variantPath = variant.keyFor(path);
+            if (variantPath != null) {
+                path = variantPath;
+            }
+        }
         gen.writeString(baseUrl + path);
     }
 
+    // 퀴즈 목록 카드 썸네일
+    public static class Thumbnail extends FileUrlSerializer {
+        public Thumbnail() {
+            super(ImageVariant.THUMBNAIL);
+        }
+    }
+
+    // 댓글/랭킹 등 작은 프로필 이미지
+    public static class AvatarSmall extends FileUrlSerializer {
+        public AvatarSmall() {
+            super(ImageVariant.AVATAR_SMALL);
+        }
+    }
+
+    // 프로필/팝오버 프로필 이미지
+    public static class Avatar extends FileUrlSerializer {
+        public Avatar() {
+            super(ImageVariant.AVATAR);
+        }
+    }
+
     /**
      * 예전 로컬 절대경로(http://localhost:8080/uploads/...) 등을 정리합니다.
      */
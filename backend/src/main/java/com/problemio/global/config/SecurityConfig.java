@@ -1,32 +1,29 @@
 package com.problemio.global.config;
 
+import com.problemio.global.auth.PrincipalCache;
 import com.problemio.global.jwt.JwtAuthenticationFilter;
 import com.problemio.global.jwt.JwtTokenProvider;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.cache.SpringCacheBasedUserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import java.util.Objects;
-
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // strength 를 올리면 기존 해시는 로그인 시 새 strength 로 다시 해시된다 (PasswordHasher#needsRehash)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -48,19 +45,12 @@ public class SecurityConfig {
         return source;
     }
 
-    @Bean
-    public UserCache userCache(CacheManager cacheManager) {
-        Cache cache = Objects.requireNonNull(cacheManager.getCache("userDetails"), "userDetails cache not found");
-        return new SpringCacheBasedUserCache(cache);
-    }
-
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
             JwtTokenProvider jwtTokenProvider,
-            UserDetailsService userDetailsService,
-            UserCache userCache
+            PrincipalCache principalCache
     ) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userCache);
+        return new JwtAuthenticationFilter(jwtTokenProvider, principalCache);
     }
 
     @Bean
@@ -84,6 +74,10 @@ public class SecurityConfig {
                         // [Admin] 관리자 페이지
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                        // [Actuator] 헬스 체크만 공개, 지표는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 2. 정적 파일 접근
                         .requestMatchers("/uploads/**").permitAll()
                         .requestMatchers("/theme/**").permitAll()    
@@ -93,7 +87,8 @@ public class SecurityConfig {
 
                         // 3. 댓글 (조회/작성/삭제 허용, 좋아요는 인증 필요)
                         .requestMatchers(HttpMethod.GET, "/api/quizzes/*/comments").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/comments/*/replies").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/quizzes/*/comments/cursor", "/api/quizzes/*/comments/replies").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/comments/*/replies", "/api/comments/*/replies/cursor").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/quizzes/*/comments").permitAll()
                         .requestMatchers(HttpMethod.PATCH, "/api/comments/**").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/api/comments/**").permitAll()
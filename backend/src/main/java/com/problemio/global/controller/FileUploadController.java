@@ -4,6 +4,7 @@ import com.problemio.global.auth.CustomUserDetails;
 import com.problemio.global.common.ApiResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.service.ImageVariantService;
 import com.problemio.global.service.LocalFileService;
 import lombok.RequiredArgsConstructor;
 import org.apache.tika.Tika;
@@ -20,7 +21,6 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/files")
@@ -28,6 +28,7 @@ import java.util.UUID;
 public class FileUploadController {
 
     private final LocalFileService localFileService;
+    private final ImageVariantService imageVariantService;
 
     // 파일 저장될 하위 디렉토리 명 (요청된 구조 반영)
     // upload 하위
@@ -71,14 +72,13 @@ public class FileUploadController {
             extension = originalFilename.substring(dotIndex);
         }
 
-        String filename = UUID.randomUUID() + extension;
         String subDir = resolveSubDirectory(category);
-        
-        // File Key 생성
-        String fileKeyPath = subDir + "/" + filename;
 
-        // 서비스 호출 (업로드 후 Key 반환)
-        String fileKey = localFileService.upload(file, fileKeyPath);
+        // 내용 해시 이름으로 저장 (URL 이 곧 내용 버전이라 브라우저가 영구 캐시 가능)
+        String fileKey = localFileService.uploadContentAddressed(file, subDir, extension);
+        // 목록 카드/문제 화면용 축소본은 비동기로 생성
+        imageVariantService.generateForUpload(subDir, fileKey);
+        String filename = fileKey.substring(fileKey.lastIndexOf('/') + 1);
 
         // 로컬 URL 생성
         String fullUrl = "/uploads/" + (fileKey.startsWith("/") ? fileKey.substring(1) : fileKey);
@@ -0,0 +1,211 @@
+package com.problemio.global.controller;
+
+import com.problemio.global.service.ImageVariant;
+import com.problemio.global.service.ImageVariantService;
+import com.problemio.global.service.LocalFileService;
+import com.problemio.global.service.UploadFileCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 서빙 (/uploads/**).
+ * - 내용 해시/UUID 이름 파일은 내용이 바뀌지 않으므로 1년 immutable 캐시, 그 외(꾸미기 에셋 등)는 짧게 캐시 + ETag 재검증
+ * - ETag / If-None-Match -> 304, 단일 Range -> 206
+ * - 작은 파일은 메모리 LRU(UploadFileCache)에서, 큰 파일은 Tomcat sendfile(가능하면) 또는 FileChannel.transferTo 로 전송
+ * - 아직 만들어지지 않은 이미지 변형(ImageVariant)은 원본으로 대신 응답하고 생성 요청
+ */
+@RestController
+@RequiredArgsConstructor
+public class UploadFileController {
+
+    private static final String PREFIX = "/uploads/";
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE = "public, max-age=300";
+    // 변형 대신 원본을 준 경우 (곧 변형이 생기므로 짧게)
+    private static final String FALLBACK_CACHE = "public, max-age=60";
+    // 32자리 hex 내용 해시 또는 UUID (+ 선택적 _변형 접미사) + 확장자
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            "^([0-9a-f]{32}|[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})(_[a-z0-9]+)?(\\.[A-Za-z0-9]+)?$");
+    // 이 크기 이상이고 컨테이너가 지원하면 sendfile 사용
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private final LocalFileService localFileService;
+    private final UploadFileCache uploadFileCache;
+    private final ImageVariantService imageVariantService;
+
+    @GetMapping("/uploads/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = resolveKey(request);
+        Path file = key != null ? resolve(key) : null;
+        boolean fallback = false;
+        if (file != null && !Files.isRegularFile(file)) {
+            // 아직 없는 이미지 변형이면 원본을 대신 주고 생성 요청
+            file = variantFallback(key);
+            fallback = file != null;
+        }
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String name = file.getFileName().toString();
+        boolean immutable = !fallback && IMMUTABLE_NAME.matcher(name).matches();
+        String etag = immutable
+                ? "\"" + name + "\""
+                : "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                fallback ? FALLBACK_CACHE : immutable ? IMMUTABLE_CACHE : REVALIDATE_CACHE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(name)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = size - 1;
+        HttpRange range = singleRange(request, etag);
+        if (range != null && size > 0) {
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long length = size == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (uploadFileCache.isCacheable(size)) {
+            byte[] bytes = uploadFileCache.get(file, size, lastModified);
+            response.getOutputStream().write(bytes, (int) start, (int) length);
+            return;
+        }
+
+        if (length >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            // 커넥터가 커널 sendfile 로 직접 전송 (응답 본문은 쓰지 않음)
+            request.setAttribute("org.apache.tomcat.sendfile.filename", file.toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", start);
+            request.setAttribute("org.apache.tomcat.sendfile.end", end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static String resolveKey(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        if (!uri.startsWith(PREFIX)) {
+            return null;
+        }
+        return UriUtils.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Key -> 업로드 디렉터리 안의 파일 (디렉터리 밖을 가리키면 null)
+     */
+    private Path resolve(String key) {
+        Path root = localFileService.getStorageLocation();
+        Path file = root.resolve(key).normalize();
+        return file.startsWith(root) ? file : null;
+    }
+
+    private Path variantFallback(String key) {
+        ImageVariant.Parsed parsed = ImageVariant.parse(key).orElse(null);
+        if (parsed == null) {
+            return null;
+        }
+        for (String originalKey : ImageVariant.originalCandidates(parsed.stem())) {
+            Path original = resolve(originalKey);
+            if (original != null && Files.isRegularFile(original)) {
+                imageVariantService.generateAsync(originalKey, List.of(parsed.variant()));
+                return original;
+            }
+        }
+        return null;
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*") || c.equals(etag) || c.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단일 Range 만 처리 (여러 구간이거나 If-Range 가 현재 ETag 와 다르면 전체 전송)
+     */
+    private static HttpRange singleRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.problemio.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답.
+ * nextCursor 를 그대로 다음 요청에 넘기면 이어서 조회된다 (마지막 페이지면 null).
+ * totalElements 는 첫 페이지에서만 채워지는 캐시된 근사값이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    private Integer totalElements;
+}
@@ -25,7 +25,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR("S001", "서버 내부 오류가 발생했습니다."),
     CANNOT_LIKE_OWN_QUIZ("Q003", "자신이 만든 퀴즈에는 좋아요를 누를 수 없습니다."),
     INVALID_FILE_TYPE("F001", "지원하지 않는 파일 형식입니다."),
-    INVALID_INPUT_VALUE("G001", "잘못된 입력값입니다.");
+    INVALID_INPUT_VALUE("G001", "잘못된 입력값입니다."),
+    TOO_MANY_REQUESTS("G002", "요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final String code;
@@ -19,6 +19,9 @@ public class GlobalExceptionHandler {
             case ACCESS_DENIED -> ResponseEntity
                     .status(403)
                     .body(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage()));
+            case TOO_MANY_REQUESTS -> ResponseEntity
+                    .status(429)
+                    .body(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage()));
             default -> ResponseEntity
                     .badRequest()
                     .body(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage()));
@@ -1,63 +1,52 @@
 package com.problemio.global.jwt;
 
+import com.problemio.global.auth.CustomUserDetails;
+import com.problemio.global.auth.PrincipalCache;
+import com.problemio.global.auth.UserPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService; // 유저 정보 조회용 (구현 필요)
-    private final UserCache userCache;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         // Request Header에서 토큰 추출
         String token = resolveToken(request);
-        
-        if (token != null) {
-            System.out.println("DEBUG: JwtFilter - Token found: " + token.substring(0, Math.min(10, token.length())) + "...");
-        }
-
-        // 토큰 유효성 검사
-        if (token != null
-                && jwtTokenProvider.validateToken(token)
-                && SecurityContextHolder.getContext().getAuthentication() == null) {
-            
-            System.out.println("DEBUG: JwtFilter - Token valid, setting authentication.");
 
-            // 토큰에서 이메일 추출
-            String email = jwtTokenProvider.getEmail(token);
+        // 토큰 검증 + 이메일 추출 (검증된 토큰은 캐시에서 바로)
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String email = jwtTokenProvider.getVerifiedEmail(token);
 
-            // 캐시 → DB 순으로 UserDetails 조회
-            UserDetails cached = userCache.getUserFromCache(email);
-            UserDetails userDetails = cached != null
-                    ? cached
-                    : userDetailsService.loadUserByUsername(email);
-            if (cached == null) {
-                userCache.putUserInCache(userDetails);
-            }
+            // 캐시 → DB 순으로 인증 주체 조회 (없거나 탈퇴한 유저면 인증하지 않음)
+            UserPrincipal principal = email != null ? principalCache.get(email) : null;
+            if (principal != null && principal.isActive()) {
+                UserDetails userDetails = new CustomUserDetails(principal);
 
-            // 스프링 시큐리티에 인증 정보 저장
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                // 스프링 시큐리티에 인증 정보 저장
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } else if (token != null) {
-             System.out.println("DEBUG: JwtFilter - Token invalid or authentication already set.");
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } else {
+                log.debug("JWT 인증 실패: uri={}", request.getRequestURI());
+            }
         }
 
         // 다음 필터로 넘기기
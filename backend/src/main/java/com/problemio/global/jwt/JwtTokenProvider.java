@@ -6,23 +6,42 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey; // Key 대신 SecretKey 사용 권장
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    public static final String VERIFIED_CACHE_NAME = "verifiedToken";
+
+    private static final String CLAIM_TYPE = "typ";
+    private static final String CLAIM_FAMILY = "fid";
+    private static final String CLAIM_GENERATION = "gen";
+    private static final String TYPE_REFRESH = "refresh";
+
     private final SecretKey key;
     private final long accessTokenValidityInMilliseconds;
+    // 파서는 불변이라 한 번만 만들어 공유
+    private final JwtParser parser;
+    private final CacheManager cacheManager;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
-                            @Value("${jwt.expiration}") long validityInMilliseconds) {
+                            @Value("${jwt.expiration}") long validityInMilliseconds,
+                            CacheManager cacheManager) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.accessTokenValidityInMilliseconds = validityInMilliseconds;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.cacheManager = cacheManager;
     }
 
     // Access Token 생성 (만료시간: 1시간)
@@ -30,13 +49,37 @@ public class JwtTokenProvider {
         return createToken(email, this.accessTokenValidityInMilliseconds);
     }
 
-    // Refresh Token 생성 (만료시간: 2주 고정)
-    public String createRefreshToken(String email) {
-        
-        long refreshTokenValidity = 14L * 24 * 60 * 60 * 1000; // 2주
-        return createToken(email, refreshTokenValidity);
+    /**
+     * Refresh Token 생성. 세션(family) ID 와 세대(generation)를 담고, 만료는 세션 만료 시각으로 고정
+     * (재발급할 때마다 세대만 올라가고 세션 수명은 늘어나지 않음)
+     */
+    public String createRefreshToken(String email, Long familyId, int generation, Date expiresAt) {
+        return Jwts.builder()
+                .subject(email)
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_FAMILY, familyId)
+                .claim(CLAIM_GENERATION, generation)
+                .issuedAt(new Date())
+                .expiration(expiresAt)
+                .signWith(key)
+                .compact();
     }
 
+    /**
+     * Refresh Token 검증 후 내용 반환. 서명/만료가 잘못됐거나 Refresh Token 이 아니면 null
+     */
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims = verify(token);
+        if (claims == null || !TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class))) {
+            return null;
+        }
+        Long familyId = claims.get(CLAIM_FAMILY, Long.class);
+        Integer generation = claims.get(CLAIM_GENERATION, Integer.class);
+        if (familyId == null || generation == null) {
+            return null;
+        }
+        return new RefreshTokenClaims(claims.getSubject(), familyId, generation, claims.getExpiration());
+    }
 
     // 토큰 생성
     private String createToken(String email, long validityMs) {
@@ -57,14 +100,45 @@ public class JwtTokenProvider {
         return parseClaims(token).getSubject();
     }
 
+    /**
+     * 서명/만료 검증 후 이메일(Subject) 반환, 유효하지 않으면 null.
+     * 검증된 토큰은 토큰 해시 키로 캐시해 두고 만료 전까지 서명 검증을 다시 하지 않는다 (요청마다 호출되는 경로).
+     * 실패한 토큰은 캐시하지 않는다 (임의 토큰으로 캐시를 채우지 못하도록).
+     * Refresh Token 은 Access Token 으로 쓸 수 없다.
+     */
+    public String getVerifiedEmail(String token) {
+        Cache cache = cacheManager.getCache(VERIFIED_CACHE_NAME);
+        String cacheKey = cache != null ? hash(token) : null;
+        if (cache != null) {
+            VerifiedToken cached = cache.get(cacheKey, VerifiedToken.class);
+            if (cached != null) {
+                if (cached.expiresAt() > System.currentTimeMillis()) {
+                    return cached.subject();
+                }
+                cache.evict(cacheKey);
+                return null;
+            }
+        }
+
+        Claims claims = verify(token);
+        if (claims == null || TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class))) {
+            return null;
+        }
+        if (cache != null) {
+            long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+            cache.put(cacheKey, new VerifiedToken(claims.getSubject(), expiresAt));
+        }
+        return claims.getSubject();
+    }
+
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    private Claims verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -74,18 +148,27 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            return parser.parseSignedClaims(accessToken).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    // 원문 토큰을 캐시 키로 들고 있지 않도록 SHA-256 해시 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String subject, long expiresAt) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.problemio.global.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 검증된 Refresh Token 내용 (이메일, 세션 ID, 세대, 세션 만료 시각)
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenClaims {
+
+    private final String email;
+    private final Long familyId;
+    private final int generation;
+    private final Date expiresAt;
+}
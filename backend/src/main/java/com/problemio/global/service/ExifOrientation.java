@@ -0,0 +1,149 @@
+package com.problemio.global.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JPEG EXIF Orientation (APP1 IFD0 의 0x0112 태그).
+ * 휴대폰 사진은 픽셀을 센서 방향 그대로 두고 이 값으로 회전/반전을 표시하므로, 변형을 만들기 전에 적용해야 한다.
+ * ImageIO 는 이 값을 적용하지 않는다. 값이 없거나 읽을 수 없으면 NORMAL (1).
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int SOI = 0xFFD8;
+    private static final int APP1 = 0xFFE1;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+
+    private ExifOrientation() {
+    }
+
+    static int read(Path file) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        } catch (IOException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * 이미지 데이터(SOS) 전까지 마커만 훑어서 Exif APP1 을 찾는다 (JPEG 가 아니면 NORMAL)
+     */
+    static int read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readUnsignedShort() != SOI) {
+            return NORMAL;
+        }
+        while (true) {
+            int marker = data.readUnsignedShort();
+            if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI) {
+                return NORMAL;
+            }
+            int length = data.readUnsignedShort() - 2;
+            if (length < 0) {
+                return NORMAL;
+            }
+            if (marker == APP1) {
+                // APP1 은 XMP 일 수도 있으므로 Exif 가 아니면 계속 찾는다
+                int orientation = parseExif(data.readNBytes(length));
+                if (orientation != 0) {
+                    return orientation;
+                }
+            } else {
+                data.skipNBytes(length);
+            }
+        }
+    }
+
+    /**
+     * APP1 내용("Exif\0\0" + TIFF) 에서 Orientation 값 (없거나 형식이 다르면 0)
+     */
+    static int parseExif(byte[] segment) {
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i'
+                || segment[3] != 'f' || segment[4] != 0 || segment[5] != 0) {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(segment, 6, segment.length - 6).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) == 'M' && tiff.get(1) == 'M') {
+            tiff.order(ByteOrder.BIG_ENDIAN);
+        } else {
+            return 0;
+        }
+        if ((tiff.getShort(2) & 0xFFFF) != 42) {
+            return 0;
+        }
+        long ifd = tiff.getInt(4) & 0xFFFFFFFFL;
+        if (ifd + 2 > tiff.limit()) {
+            return 0;
+        }
+        int count = tiff.getShort((int) ifd) & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            // 항목 12바이트: 태그(2) 타입(2) 개수(4) 값(4, SHORT 는 앞 2바이트)
+            long entry = ifd + 2 + i * 12L;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if ((tiff.getShort((int) entry) & 0xFFFF) == TAG_ORIENTATION) {
+                int value = tiff.getShort((int) entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 회전/반전 값이면 가로세로가 바뀐다 (5~8)
+     */
+    static boolean swapsAxes(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * Orientation 대로 돌린 이미지 (NORMAL 이거나 알 수 없는 값이면 그대로)
+     */
+    static BufferedImage apply(BufferedImage src, int orientation) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        // 원본 픽셀 (x, y) -> 결과 위치
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return src;
+        }
+
+        boolean swap = swapsAxes(orientation);
+        int type = src.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_ARGB : src.getType();
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(src, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+}
@@ -0,0 +1,115 @@
+package com.problemio.global.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 이미지에서 만드는 변형 (원본 옆에 {이름}_{suffix}.jpg 로 저장).
+ * - THUMBNAIL: 퀴즈 목록 카드
+ * - AVATAR_SMALL / AVATAR: 댓글·랭킹 / 프로필·팝오버
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 480, false),
+    AVATAR_SMALL("a96", 96, true),
+    AVATAR("a256", 256, true);
+
+    private static final String VARIANT_EXTENSION = ".jpg";
+    // ImageIO 로 읽을 수 있는 원본만 (gif 는 애니메이션이 깨지므로 제외)
+    private static final List<String> SOURCE_EXTENSIONS = List.of(".jpg", ".jpeg", ".png");
+
+    private final String suffix;
+    private final int size;
+    private final boolean square;
+
+    ImageVariant(String suffix, int size, boolean square) {
+        this.suffix = suffix;
+        this.size = size;
+        this.square = square;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * square 면 size x size 로 가운데를 잘라서, 아니면 너비를 size 이하로
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isSquare() {
+        return square;
+    }
+
+    /**
+     * 업로드 디렉터리별로 미리 만드는 변형
+     */
+    public static List<ImageVariant> forDirectory(String dir) {
+        if (dir == null) {
+            return List.of();
+        }
+        if (dir.endsWith("/thumbnail")) {
+            return List.of(THUMBNAIL);
+        }
+        if (dir.endsWith("/profile")) {
+            return List.of(AVATAR_SMALL, AVATAR);
+        }
+        return List.of();
+    }
+
+    /**
+     * 원본 Key 의 변형 Key (변형을 만들 수 없는 형식이면 null)
+     */
+    public String keyFor(String originalKey) {
+        if (originalKey == null) {
+            return null;
+        }
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        if (dot <= slash + 1) {
+            return null;
+        }
+        String extension = originalKey.substring(dot).toLowerCase(Locale.ROOT);
+        if (!SOURCE_EXTENSIONS.contains(extension)) {
+            return null;
+        }
+        return originalKey.substring(0, dot) + "_" + suffix + VARIANT_EXTENSION;
+    }
+
+    /**
+     * 변형 Key -> (변형, 원본 이름에서 확장자를 뺀 부분). 변형 Key 가 아니면 empty
+     */
+    public static Optional<Parsed> parse(String key) {
+        if (key == null || !key.endsWith(VARIANT_EXTENSION)) {
+            return Optional.empty();
+        }
+        String base = key.substring(0, key.length() - VARIANT_EXTENSION.length());
+        int underscore = base.lastIndexOf('_');
+        if (underscore <= base.lastIndexOf('/') + 1) {
+            return Optional.empty();
+        }
+        String suffix = base.substring(underscore + 1);
+        for (ImageVariant variant : values()) {
+            if (variant.suffix.equals(suffix)) {
+                return Optional.of(new Parsed(variant, base.substring(0, underscore)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 원본 후보 Key (확장자를 모르므로 지원하는 확장자를 차례로)
+     */
+    public static List<String> originalCandidates(String stem) {
+        return SOURCE_EXTENSIONS.stream()
+                .flatMap(ext -> Stream.of(stem + ext, stem + ext.toUpperCase(Locale.ROOT)))
+                .toList();
+    }
+
+    public record Parsed(ImageVariant variant, String stem) {
+    }
+}
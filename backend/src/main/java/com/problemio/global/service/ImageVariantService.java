@@ -0,0 +1,269 @@
+package com.problemio.global.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 변형(ImageVariant) 생성.
+ * - 업로드 직후 디렉터리별 변형을 전용 스레드에서 비동기로 생성 (요청 스레드는 기다리지 않음)
+ * - 아직 없는 변형이 요청되면(예전 업로드 등) UploadFileController 가 원본을 대신 주면서 여기서 생성 요청
+ * - 결과는 JPEG 로 임시 파일에 쓴 뒤 이동하므로 반쯤 쓰인 파일이 서빙되지 않는다
+ * - 디코딩할 때 변형 크기의 2배 정도만 남기고 픽셀을 건너뛰어 읽는다 (source subsampling, 메모리/CPU 절약)
+ * - 너무 큰 이미지(max-pixels 초과)는 디코딩하지 않고 건너뜀
+ * - JPEG 의 EXIF Orientation 은 축소 전에 적용 (휴대폰 세로 사진이 눕지 않도록)
+ * 대기열이 가득 차면 요청을 버린다 (다음 요청 때 다시 시도).
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final LocalFileService localFileService;
+    private final ThreadPoolExecutor executor;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    // 처리 중인 변형 Key (같은 변형을 중복 생성하지 않도록)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // 만들 수 없었던 변형 Key (깨진/너무 큰 이미지를 요청마다 다시 디코딩하지 않도록)
+    private final Cache<String, Boolean> failed = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public ImageVariantService(LocalFileService localFileService,
+                               @Value("${file.variants.threads:2}") int threads,
+                               @Value("${file.variants.queue-capacity:256}") int queueCapacity,
+                               @Value("${file.variants.jpeg-quality:0.82}") float jpegQuality,
+                               @Value("${file.variants.max-pixels:20000000}") long maxPixels) {
+        AtomicInteger seq = new AtomicInteger();
+        this.localFileService = localFileService;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 업로드 직후 호출: 디렉터리별 변형 생성 예약
+     */
+    public void generateForUpload(String dir, String originalKey) {
+        generateAsync(originalKey, ImageVariant.forDirectory(dir));
+    }
+
+    /**
+     * 변형 생성 예약 (이미 있거나 처리 중이면 건너뜀)
+     */
+    public void generateAsync(String originalKey, Collection<ImageVariant> variants) {
+        for (ImageVariant variant : variants) {
+            String variantKey = variant.keyFor(originalKey);
+            if (variantKey == null || failed.getIfPresent(variantKey) != null || !inFlight.add(variantKey)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        generate(originalKey, variant, variantKey);
+                    } finally {
+                        inFlight.remove(variantKey);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(variantKey);
+                log.debug("이미지 변형 대기열 초과, 건너뜀: {}", variantKey);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generate(String originalKey, ImageVariant variant, String variantKey) {
+        Path root = localFileService.getStorageLocation();
+        Path source = root.resolve(originalKey).normalize();
+        Path target = root.resolve(variantKey).normalize();
+        if (!source.startsWith(root) || !target.startsWith(root) || Files.exists(target) || !Files.isRegularFile(source)) {
+            return;
+        }
+
+        Path temp = null;
+        try {
+            int orientation = ExifOrientation.read(source);
+            BufferedImage original = read(source, variant, orientation);
+            if (original == null) {
+                failed.put(variantKey, Boolean.TRUE);
+                return;
+            }
+            BufferedImage resized = resize(ExifOrientation.apply(original, orientation), variant);
+
+            temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+            writeJpeg(resized, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            log.debug("이미지 변형 생성: {} ({}x{})", variantKey, resized.getWidth(), resized.getHeight());
+        } catch (IOException | RuntimeException e) {
+            failed.put(variantKey, Boolean.TRUE);
+            log.warn("이미지 변형 생성 실패: {}", variantKey, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    /**
+     * 크기부터 확인하고 변형에 필요한 만큼만 디코딩 (너무 크거나 읽을 수 없으면 null)
+     */
+    private BufferedImage read(Path source, ImageVariant variant, int orientation) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                long pixels = (long) width * height;
+                if (pixels > maxPixels) {
+                    log.info("이미지가 너무 커서 변형을 만들지 않음: {} ({} px)", source.getFileName(), pixels);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsampling(width, height, variant, ExifOrientation.swapsAxes(orientation));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 디코딩 시 건너뛸 픽셀 간격. 변형 기준 변(정사각형은 짧은 변, 아니면 너비)이 목표 크기의 2배 이상 남도록
+     * (마지막 축소 품질은 resize 의 단계별 축소가 맡음). rotated 면 EXIF 회전 후 기준으로 계산
+     */
+    static int subsampling(int width, int height, ImageVariant variant, boolean rotated) {
+        int w = rotated ? height : width;
+        int h = rotated ? width : height;
+        int basis = variant.isSquare() ? Math.min(w, h) : w;
+        return Math.max(1, basis / (variant.getSize() * 2));
+    }
+
+    static BufferedImage resize(BufferedImage src, ImageVariant variant) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        int cropX = 0;
+        int cropY = 0;
+        int cropW = w;
+        int cropH = h;
+        int targetW;
+        int targetH;
+
+        if (variant.isSquare()) {
+            // 가운데 정사각형으로 자른 뒤 size x size
+            int side = Math.min(w, h);
+            cropX = (w - side) / 2;
+            cropY = (h - side) / 2;
+            cropW = side;
+            cropH = side;
+            targetW = targetH = Math.min(side, variant.getSize());
+        } else {
+            // 너비 기준 (확대하지 않음)
+            double scale = Math.min(1.0, (double) variant.getSize() / w);
+            targetW = Math.max(1, (int) Math.round(w * scale));
+            targetH = Math.max(1, (int) Math.round(h * scale));
+        }
+
+        BufferedImage current = src.getSubimage(cropX, cropY, cropW, cropH);
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 목표 크기로
+        int curW = cropW;
+        int curH = cropH;
+        do {
+            int nextW = Math.max(targetW, curW / 2);
+            int nextH = Math.max(targetH, curH / 2);
+            current = draw(current, nextW, nextH);
+            curW = nextW;
+            curH = nextH;
+        } while (curW != targetW || curH != targetH);
+        return current;
+    }
+
+    // 투명 영역은 흰 배경으로 (JPEG 는 알파 없음)
+    private static BufferedImage draw(BufferedImage src, int width, int height) {
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
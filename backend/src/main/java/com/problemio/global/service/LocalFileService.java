@@ -9,10 +9,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 @Service
 public class LocalFileService {
@@ -51,6 +57,48 @@ public class LocalFileService {
         }
     }
 
+    /**
+     * 파일을 내용 해시(SHA-256 앞 32자리) 이름으로 저장하고 Key(dir/해시.확장자)를 반환합니다.
+     * 내용이 같으면 같은 Key 가 되므로 URL 이 바뀌지 않는 한 내용도 바뀌지 않는다 (immutable 캐시 가능).
+     * 같은 내용이 이미 있으면 새로 쓰지 않습니다. 여러 곳에서 공유될 수 있으므로 삭제하지 않는 파일에만 사용하세요.
+     */
+    public String uploadContentAddressed(MultipartFile file, String dir, String extension) {
+        Path tempPath = null;
+        try {
+            Path targetDir = this.fileStorageLocation.resolve(dir).normalize();
+            Files.createDirectories(targetDir);
+
+            // 해시를 계산하면서 임시 파일로 복사한 뒤 최종 이름으로 이동
+            tempPath = Files.createTempFile(targetDir, ".upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest()).substring(0, 32);
+            String fileKey = dir + "/" + hash + (extension != null ? extension.toLowerCase() : "");
+
+            Path targetPath = this.fileStorageLocation.resolve(fileKey).normalize();
+            if (!Files.exists(targetPath)) {
+                try {
+                    Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // 같은 내용을 동시에 올린 다른 요청이 먼저 옮김 -> 그 파일을 그대로 사용
+                } catch (IOException e) {
+                    // 플랫폼에 따라 대상이 이미 있으면 다른 예외(AccessDenied 등)로 실패한다
+                    if (!Files.isRegularFile(targetPath)) {
+                        throw e;
+                    }
+                }
+            }
+            // 옮기지 않은 경우 남은 임시 파일 정리
+            deleteQuietly(tempPath);
+            return fileKey;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            deleteQuietly(tempPath);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 바이트 배열을 로컬에 저장하고 Key를 반환합니다.
      */
@@ -78,6 +126,13 @@ public class LocalFileService {
             if (key != null) {
                 Path filePath = this.fileStorageLocation.resolve(key).normalize();
                 Files.deleteIfExists(filePath);
+                // 원본에서 만든 이미지 변형도 함께 삭제
+                for (ImageVariant variant : ImageVariant.values()) {
+                    String variantKey = variant.keyFor(key);
+                    if (variantKey != null) {
+                        Files.deleteIfExists(this.fileStorageLocation.resolve(variantKey).normalize());
+                    }
+                }
             }
         } catch (Exception e) {
             System.err.println("File Delete Error: " + e.getMessage());
@@ -122,4 +177,20 @@ public class LocalFileService {
     public String getUploadDir() {
         return uploadDir;
     }
+
+    /**
+     * 업로드 루트 (절대 경로, 정규화됨)
+     */
+    public Path getStorageLocation() {
+        return fileStorageLocation;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
 }
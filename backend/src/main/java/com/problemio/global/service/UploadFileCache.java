@@ -0,0 +1,48 @@
+package com.problemio.global.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 작은 업로드 파일 내용 캐시 (바이트 기준 LRU).
+ * 키에 크기/수정 시각을 포함하므로 같은 이름으로 덮어쓴 파일은 자연히 새로 읽힌다.
+ */
+@Component
+public class UploadFileCache {
+
+    private final Cache<String, byte[]> cache;
+    private final long maxFileBytes;
+
+    public UploadFileCache(@Value("${file.serve.cache-max-bytes:67108864}") long maxBytes,
+                           @Value("${file.serve.cache-max-file-bytes:262144}") long maxFileBytes) {
+        this.maxFileBytes = maxFileBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, byte[]>weigher((k, v) -> v.length)
+                .build();
+    }
+
+    public boolean isCacheable(long size) {
+        return size <= maxFileBytes;
+    }
+
+    /**
+     * 파일 내용 (캐시에 없으면 읽어서 적재)
+     */
+    public byte[] get(Path file, long size, long lastModified) throws IOException {
+        String key = file + "|" + size + "|" + lastModified;
+        byte[] cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        cache.put(key, bytes);
+        return bytes;
+    }
+}
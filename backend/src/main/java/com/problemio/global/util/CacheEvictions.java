@@ -0,0 +1,27 @@
+package com.problemio.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화 공통 처리.
+ * 즉시 무효화하고, 트랜잭션 중이면 커밋 이후에도 한 번 더 무효화한다.
+ * (커밋 전에 다른 요청이 이전 데이터로 다시 적재하는 경우 방지)
+ */
+public class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    public static void nowAndAfterCommit(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.problemio.purge.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class PurgeJob {
+
+    private Long id;
+    private PurgeTarget targetType;
+    private Long targetId;
+    private PurgeStage stage;
+    private long purgedRows;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,21 @@
+package com.problemio.purge.domain;
+
+/**
+ * 정리 작업 단계. 단계마다 chunk 단위로 나눠 지우고, 지운 행이 chunk 보다 적으면 다음 단계로.
+ */
+public enum PurgeStage {
+    // 퀴즈: FK 순서대로 자식부터
+    COMMENT_LIKES,
+    COMMENTS,
+    QUIZ_LIKES,
+    SUBMISSION_DETAILS,
+    SUBMISSIONS,
+    ANSWERS,
+    QUESTIONS,
+    QUIZ,
+    // 탈퇴 유저: 누른 좋아요 행 (좋아요 수 차감은 탈퇴 시점에 이미 반영)
+    USER_COMMENT_LIKES,
+    // 퀴즈 좋아요 행은 탈퇴 트랜잭션에서 지우므로 남은 행만 정리 (이전에 등록된 작업 호환)
+    USER_QUIZ_LIKES,
+    DONE
+}
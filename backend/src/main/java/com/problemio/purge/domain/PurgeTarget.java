@@ -0,0 +1,39 @@
+package com.problemio.purge.domain;
+
+import java.util.List;
+
+/**
+ * 정리 대상 종류와 처리 단계 순서
+ */
+public enum PurgeTarget {
+    QUIZ(List.of(
+            PurgeStage.COMMENT_LIKES,
+            PurgeStage.COMMENTS,
+            PurgeStage.QUIZ_LIKES,
+            PurgeStage.SUBMISSION_DETAILS,
+            PurgeStage.SUBMISSIONS,
+            PurgeStage.ANSWERS,
+            PurgeStage.QUESTIONS,
+            PurgeStage.QUIZ)),
+    USER(List.of(
+            PurgeStage.USER_COMMENT_LIKES,
+            PurgeStage.USER_QUIZ_LIKES));
+
+    private final List<PurgeStage> stages;
+
+    PurgeTarget(List<PurgeStage> stages) {
+        this.stages = stages;
+    }
+
+    public PurgeStage firstStage() {
+        return stages.get(0);
+    }
+
+    /**
+     * 다음 단계 (마지막이면 DONE)
+     */
+    public PurgeStage next(PurgeStage stage) {
+        int idx = stages.indexOf(stage);
+        return idx >= 0 && idx + 1 < stages.size() ? stages.get(idx + 1) : PurgeStage.DONE;
+    }
+}
@@ -0,0 +1,78 @@
+package com.problemio.purge.mapper;
+
+import com.problemio.purge.domain.PurgeJob;
+import com.problemio.purge.domain.PurgeStage;
+import com.problemio.purge.domain.PurgeTarget;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface PurgeMapper {
+
+    // ===== 작업 관리 =====
+
+    /**
+     * 작업 등록 (같은 대상이 이미 있으면 무시)
+     */
+    int insertJob(@Param("targetType") PurgeTarget targetType,
+                  @Param("targetId") Long targetId,
+                  @Param("stage") PurgeStage stage,
+                  @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 유저의 삭제 표시된 퀴즈 전체를 작업으로 등록
+     */
+    int insertQuizJobsOfUser(@Param("userId") Long userId,
+                             @Param("stage") PurgeStage stage,
+                             @Param("createdAt") LocalDateTime createdAt);
+
+    List<Long> findPendingJobIds(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    /**
+     * 작업 행 잠금 조회 (여러 서버가 같은 작업을 동시에 진행하지 않도록)
+     */
+    Optional<PurgeJob> findByIdForUpdate(@Param("id") Long id);
+
+    void updateProgress(@Param("id") Long id,
+                        @Param("stage") PurgeStage stage,
+                        @Param("purged") int purged,
+                        @Param("updatedAt") LocalDateTime updatedAt,
+                        @Param("completedAt") LocalDateTime completedAt);
+
+    void recordFailure(@Param("id") Long id,
+                       @Param("lastError") String lastError,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // ===== 퀴즈 연관 데이터 (limit 행씩) =====
+
+    int deleteCommentLikesOfQuiz(@Param("quizId") Long quizId, @Param("limit") int limit);
+
+    int softDeleteCommentsOfQuiz(@Param("quizId") Long quizId,
+                                 @Param("updatedAt") LocalDateTime updatedAt,
+                                 @Param("limit") int limit);
+
+    int deleteQuizLikesOfQuiz(@Param("quizId") Long quizId, @Param("limit") int limit);
+
+    int deleteSubmissionDetailsOfQuiz(@Param("quizId") Long quizId, @Param("limit") int limit);
+
+    int deleteSubmissionsOfQuiz(@Param("quizId") Long quizId, @Param("limit") int limit);
+
+    int deleteAnswersOfQuiz(@Param("quizId") Long quizId, @Param("limit") int limit);
+
+    int deleteQuestionsOfQuiz(@Param("quizId") Long quizId, @Param("limit") int limit);
+
+    /**
+     * 삭제 표시된 퀴즈 행 삭제 (표시가 없으면 지우지 않음)
+     */
+    int deleteTombstonedQuiz(@Param("quizId") Long quizId);
+
+    // ===== 탈퇴 유저 연관 데이터 (limit 행씩) =====
+
+    int deleteCommentLikesOfUser(@Param("userId") Long userId, @Param("limit") int limit);
+
+    int deleteQuizLikesOfUser(@Param("userId") Long userId, @Param("limit") int limit);
+}
@@ -0,0 +1,34 @@
+package com.problemio.purge.service;
+
+import com.problemio.global.util.TimeUtils;
+import com.problemio.purge.domain.PurgeTarget;
+import com.problemio.purge.mapper.PurgeMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 삭제 표시(tombstone) 이후의 연관 데이터 정리 작업 등록.
+ * 호출자 트랜잭션 안에서 등록되므로 삭제 표시와 함께 커밋/롤백된다.
+ * 실제 정리는 PurgeWorker 가 나눠서 수행.
+ */
+@Service
+@RequiredArgsConstructor
+public class PurgeJobService {
+
+    private final PurgeMapper purgeMapper;
+
+    /**
+     * 삭제 표시된 퀴즈 정리 등록
+     */
+    public void enqueueQuiz(Long quizId) {
+        purgeMapper.insertJob(PurgeTarget.QUIZ, quizId, PurgeTarget.QUIZ.firstStage(), TimeUtils.now());
+    }
+
+    /**
+     * 탈퇴 유저 정리 등록 (유저가 누른 좋아요 + 삭제 표시된 유저의 퀴즈 전체)
+     */
+    public void enqueueUser(Long userId) {
+        purgeMapper.insertJob(PurgeTarget.USER, userId, PurgeTarget.USER.firstStage(), TimeUtils.now());
+        purgeMapper.insertQuizJobsOfUser(userId, PurgeTarget.QUIZ.firstStage(), TimeUtils.now());
+    }
+}
@@ -0,0 +1,142 @@
+package com.problemio.purge.service;
+
+import com.problemio.global.util.TimeUtils;
+import com.problemio.purge.domain.PurgeJob;
+import com.problemio.purge.domain.PurgeStage;
+import com.problemio.purge.domain.PurgeTarget;
+import com.problemio.purge.mapper.PurgeMapper;
+import com.problemio.submission.service.SubmissionWriteBehindBuffer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 표시된 퀴즈/탈퇴 유저의 연관 데이터 정리.
+ * - 작업마다 단계(PurgeStage) 순서대로 chunk-size 행씩 지우고, chunk 하나가 트랜잭션 하나
+ * - 진행 단계와 누적 삭제 행 수를 purge_jobs 에 기록하므로 재시작해도 이어서 진행
+ * - chunk 마다 작업 행을 FOR UPDATE 로 잠가 여러 서버가 같은 작업을 동시에 진행하지 않음
+ * - 실패하면 attempts 증가 후 다음 주기에 재시도, max-attempts 를 넘으면 멈춤 (last_error 확인)
+ * - 퀴즈 작업은 chunk 마다 제출 write-behind 버퍼를 막아 정리 중인 퀴즈의 답안이 다시 쓰이지 않게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurgeWorker {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PurgeMapper purgeMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final SubmissionWriteBehindBuffer writeBehindBuffer;
+
+    @Value("${purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${purge.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${purge.max-attempts:5}")
+    private int maxAttempts;
+
+    private TransactionTemplate txTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.txTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${purge.interval-ms:5000}")
+    public synchronized void run() {
+        int budget = maxChunksPerRun;
+        List<Long> jobIds = purgeMapper.findPendingJobIds(maxAttempts, maxChunksPerRun);
+        for (Long jobId : jobIds) {
+            if (budget <= 0) {
+                return;
+            }
+            budget -= process(jobId, budget);
+        }
+    }
+
+    /**
+     * 작업 하나를 끝나거나 예산을 다 쓸 때까지 진행. 사용한 chunk 수 반환
+     */
+    private int process(Long jobId, int budget) {
+        int used = 0;
+        while (used < budget) {
+            used++;
+            Boolean more;
+            try {
+                more = txTemplate.execute(status -> step(jobId));
+            } catch (RuntimeException e) {
+                log.warn("연관 데이터 정리 실패, 재시도 예정: jobId={}", jobId, e);
+                purgeMapper.recordFailure(jobId, truncate(e.getMessage()), TimeUtils.now());
+                return used;
+            }
+            if (!Boolean.TRUE.equals(more)) {
+                return used;
+            }
+        }
+        return used;
+    }
+
+    /**
+     * chunk 하나 처리. 이어서 더 진행할 단계가 있으면 true
+     */
+    private boolean step(Long jobId) {
+        PurgeJob job = purgeMapper.findByIdForUpdate(jobId).orElse(null);
+        if (job == null || job.getCompletedAt() != null || job.getStage() == PurgeStage.DONE) {
+            return false;
+        }
+
+        boolean quiz = job.getTargetType() == PurgeTarget.QUIZ;
+        if (quiz) {
+            // 재시작/다른 서버에서 삭제된 퀴즈도 chunk 마다 다시 막는다 (flush 중인 답안까지 기다림)
+            writeBehindBuffer.fenceQuiz(job.getTargetId());
+        }
+        int purged = purgeChunk(job);
+        PurgeStage next = purged < chunkSize ? job.getTargetType().next(job.getStage()) : job.getStage();
+        LocalDateTime now = TimeUtils.now();
+        boolean done = next == PurgeStage.DONE;
+        purgeMapper.updateProgress(jobId, next, purged, now, done ? now : null);
+        if (done && quiz) {
+            writeBehindBuffer.reopenQuiz(job.getTargetId());
+        }
+        if (done) {
+            log.info("연관 데이터 정리 완료: {} {}, rows={}",
+                    job.getTargetType(), job.getTargetId(), job.getPurgedRows() + purged);
+        }
+        return !done;
+    }
+
+    private int purgeChunk(PurgeJob job) {
+        Long id = job.getTargetId();
+        return switch (job.getStage()) {
+            case COMMENT_LIKES -> purgeMapper.deleteCommentLikesOfQuiz(id, chunkSize);
+            case COMMENTS -> purgeMapper.softDeleteCommentsOfQuiz(id, TimeUtils.now(), chunkSize);
+            case QUIZ_LIKES -> purgeMapper.deleteQuizLikesOfQuiz(id, chunkSize);
+            case SUBMISSION_DETAILS -> purgeMapper.deleteSubmissionDetailsOfQuiz(id, chunkSize);
+            case SUBMISSIONS -> purgeMapper.deleteSubmissionsOfQuiz(id, chunkSize);
+            case ANSWERS -> purgeMapper.deleteAnswersOfQuiz(id, chunkSize);
+            case QUESTIONS -> purgeMapper.deleteQuestionsOfQuiz(id, chunkSize);
+            case QUIZ -> purgeMapper.deleteTombstonedQuiz(id);
+            case USER_COMMENT_LIKES -> purgeMapper.deleteCommentLikesOfUser(id, chunkSize);
+            case USER_QUIZ_LIKES -> purgeMapper.deleteQuizLikesOfUser(id, chunkSize);
+            case DONE -> 0;
+        };
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
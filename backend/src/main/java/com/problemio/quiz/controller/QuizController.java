@@ -2,6 +2,7 @@ package com.problemio.quiz.controller;
 
 import com.problemio.global.auth.CustomUserDetails;
 import com.problemio.global.common.ApiResponse;
+import com.problemio.global.dto.CursorPageResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.dto.QuizCreateRequest;
@@ -53,6 +54,22 @@ public class QuizController {
         );
     }
 
+    /**
+     * 퀴즈 목록 조회 (커서 기반)
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<QuizSummaryDto>>> getQuizzesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String keyword
+    ) {
+        return ResponseEntity.ok(
+                ApiResponse.success(quizService.getQuizzesByCursor(cursor, size, sort, keyword))
+        );
+    }
+
     /**
      * 퀴즈 생성
      */
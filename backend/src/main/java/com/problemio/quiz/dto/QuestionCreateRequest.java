@@ -11,6 +11,9 @@ import java.util.List;
 @Setter
 public class QuestionCreateRequest {
 
+    // 수정 시 기존 문제 ID (없으면 새 문제)
+    private Long id;
+
     @JsonAlias("order")
     private Integer questionOrder;
 
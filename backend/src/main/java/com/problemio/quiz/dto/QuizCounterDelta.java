@@ -0,0 +1,16 @@
+package com.problemio.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 퀴즈 조회수/좋아요 수 일괄 반영용 증감분
+ */
+@Getter
+@AllArgsConstructor
+public class QuizCounterDelta {
+
+    private Long quizId;
+    private long playDelta;
+    private long likeDelta;
+}
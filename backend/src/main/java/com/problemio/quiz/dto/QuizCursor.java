@@ -0,0 +1,66 @@
+package com.problemio.quiz.dto;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 퀴즈 목록 커서 (마지막으로 본 행의 정렬 키).
+ * - latest / 피드: (at, id)
+ * - popular: (likeCount, playCount, at, id)
+ * - views: (playCount, likeCount, at, id)
+ * 클라이언트에는 불투명한 문자열(Base64 URL)로만 노출한다.
+ */
+@Getter
+public class QuizCursor {
+
+    private static final String SEPARATOR = "|";
+    // created_at 이 비어 있는 예전 행의 정렬 키 (MySQL DATETIME 최솟값, DESC 정렬에서 NULL 과 같이 맨 뒤)
+    public static final LocalDateTime MISSING_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final String sort;
+    private final LocalDateTime at;
+    private final Long id;
+    private final int likeCount;
+    private final int playCount;
+
+    public QuizCursor(String sort, LocalDateTime at, Long id, int likeCount, int playCount) {
+        this.sort = sort;
+        this.at = at;
+        this.id = id;
+        this.likeCount = likeCount;
+        this.playCount = playCount;
+    }
+
+    public String encode() {
+        LocalDateTime key = at != null ? at : MISSING_AT;
+        String raw = String.join(SEPARATOR, sort, key.toString(), String.valueOf(id),
+                String.valueOf(likeCount), String.valueOf(playCount));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석. 비어 있으면 null (첫 페이지), 형식이 틀리거나 정렬이 다르면 INVALID_INPUT_VALUE
+     */
+    public static QuizCursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !parts[0].equals(expectedSort)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return new QuizCursor(parts[0], LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                    Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
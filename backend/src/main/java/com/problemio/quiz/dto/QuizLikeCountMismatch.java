@@ -0,0 +1,16 @@
+package com.problemio.quiz.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * like_count 보정 대상: 저장된 like_count 와 실제 좋아요 행 수가 다른 퀴즈
+ */
+@Getter
+@Setter
+public class QuizLikeCountMismatch {
+
+    private Long quizId;
+    private int likeCount;
+    private int actualCount;
+}
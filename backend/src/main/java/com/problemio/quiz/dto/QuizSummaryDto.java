@@ -1,9 +1,12 @@
 package com.problemio.quiz.dto;
 
 import lombok.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.problemio.global.config.FileUrlSerializer;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +19,7 @@ public class QuizSummaryDto {
     private String description;
 
 
-    @JsonSerialize(using = FileUrlSerializer.class)
+    @JsonSerialize(using = FileUrlSerializer.Thumbnail.class)
     private String thumbnailUrl;
 
 
@@ -25,5 +28,10 @@ public class QuizSummaryDto {
     private Integer commentCount;
     private boolean hidden;
     private boolean isPublic;
+    private LocalDateTime createdAt;
+
+    // 좋아요 목록 커서용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime likedAt;
 
 }
@@ -9,10 +9,12 @@ import java.util.List;
 @Mapper
 public interface QuestionAnswerMapper {
 
-    void insertAnswer(QuestionAnswer answer);
+    int insertAnswers(@Param("answers") List<QuestionAnswer> answers);
 
     void deleteByQuestionId(@Param("questionId") Long questionId);
 
+    int deleteByQuestionIds(@Param("questionIds") List<Long> questionIds);
+
     List<QuestionAnswer> findByQuestionId(@Param("questionId") Long questionId);
 
     List<QuestionAnswer> findByQuestionIds(@Param("questionIds") List<Long> questionIds);
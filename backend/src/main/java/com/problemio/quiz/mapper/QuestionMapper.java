@@ -10,17 +10,20 @@ import java.util.Optional;
 @Mapper
 public interface QuestionMapper {
 
-    void insertQuestion(Question question);
+    /**
+     * 여러 문제 한 번에 저장 (생성된 ID 는 목록 순서대로 각 문제에 채워짐)
+     */
+    int insertQuestions(@Param("questions") List<Question> questions);
 
     void updateQuestion(Question question);
 
     void deleteQuestion(@Param("id") Long id);
 
+    int deleteByIds(@Param("ids") List<Long> ids);
+
     Optional<Question> findById(@Param("id") Long id);
 
     List<Question> findByQuizId(@Param("quizId") Long quizId);
 
-    List<Question> findRandomByQuizId(@Param("quizId") Long quizId, @Param("limit") int limit);
-
     void deleteByQuizId(@Param("quizId") Long quizId);
 }
@@ -9,9 +9,10 @@ import java.util.Optional;
 @Mapper
 public interface QuizLikeMapper {
 
-    void insertQuizLike(QuizLike quizLike);
+    // 이미 있으면 무시, 실제로 추가된 행 수 반환
+    int insertQuizLike(QuizLike quizLike);
 
-    void deleteQuizLike(@Param("userId") Long userId, @Param("quizId") Long quizId);
+    int deleteQuizLike(@Param("userId") Long userId, @Param("quizId") Long quizId);
 
     void deleteByQuizId(@Param("quizId") Long quizId);
 
@@ -20,6 +21,4 @@ public interface QuizLikeMapper {
     int countByQuizId(@Param("quizId") Long quizId);
 
     void deleteByUserId(@Param("userId") Long userId);
-
-    java.util.List<Long> findQuizIdsByUserId(@Param("userId") Long userId);
 }
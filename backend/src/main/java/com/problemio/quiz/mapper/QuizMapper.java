@@ -1,10 +1,14 @@
 package com.problemio.quiz.mapper;
 
 import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCounterDelta;
+import com.problemio.quiz.dto.QuizCursor;
+import com.problemio.quiz.dto.QuizLikeCountMismatch;
 import com.problemio.quiz.dto.QuizSummaryDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +19,9 @@ public interface QuizMapper {
 
     void updateQuiz(Quiz quiz);
 
-    void deleteQuiz(@Param("id") Long id);
+    int markDeleted(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    int markDeletedByUserId(@Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
 
     Optional<Quiz> findById(@Param("id") Long id);
 
@@ -23,18 +29,38 @@ public interface QuizMapper {
 
     List<Quiz> findQuizzesByUserId(@Param("userId") Long userId);
 
-    void incrementPlayCount(@Param("id") Long id);
-
+    // 키워드 없는 공개 목록 (키워드 검색은 QuizSearchIndex 로 ID를 찾은 뒤 findSearchableByIds)
     List<Quiz> searchQuizzes(@Param("offset") int offset,
                              @Param("size") int size,
-                             @Param("sort") String sort,
-                             @Param("keyword") String keyword);
+                             @Param("sort") String sort);
+
+    // 커서 기반 공개 목록 (cursor 가 null 이면 첫 페이지, sort 기준으로 cursor 다음부터 size 개)
+    List<Quiz> searchQuizzesAfter(@Param("cursor") QuizCursor cursor,
+                                  @Param("size") int size,
+                                  @Param("sort") String sort);
+
+    int countQuizzes();
+
+    // 검색 색인 재구성용
+    List<Quiz> findSearchableQuizzes();
+
+    // 검색 결과 한 페이지의 ID 중 현재 검색 대상인 퀴즈 (순서는 호출자가 맞춤)
+    List<Quiz> findSearchableByIds(@Param("ids") List<Long> ids);
+
+    // 탈퇴 유저가 누른 좋아요만큼 like_count 차감 (좋아요 행 삭제 전에 호출)
+    int decrementLikeCountsByLiker(@Param("userId") Long userId);
+
+    long findMaxId();
 
-    int countQuizzes(@Param("keyword") String keyword);
+    // like_count 보정 대상 조회 (id 구간 단위) / 조회 시점 값 그대로일 때만 갱신
+    List<QuizLikeCountMismatch> findLikeCountMismatches(@Param("fromId") long fromId, @Param("toId") long toId);
 
-    void incrementLikeCount(@Param("id") Long id);
+    int updateLikeCountIfUnchanged(@Param("quizId") Long quizId,
+                                   @Param("expected") int expected,
+                                   @Param("likeCount") int likeCount);
 
-    void decrementLikeCount(@Param("id") Long id);
+    // 조회수/좋아요 수 증감분 일괄 반영
+    void addCounts(@Param("deltas") List<QuizCounterDelta> deltas);
 
     // 퀴즈 작성자만 조회: 자기 퀴즈에 좋아요 못하게 막기 위함
     Long findUserIdByQuizId(@Param("id") Long id);
@@ -54,6 +80,18 @@ public interface QuizMapper {
             @Param("limit") int limit
     );
 
+    List<QuizSummaryDto> findQuizzesOfFollowingsAfter(
+            @Param("userId") Long userId,
+            @Param("cursor") QuizCursor cursor,
+            @Param("limit") int limit
+    );
+
+    List<QuizSummaryDto> findLikedQuizzesByUserAfter(
+            @Param("userId") Long userId,
+            @Param("cursor") QuizCursor cursor,
+            @Param("limit") int limit
+    );
+
     // 관리자용 퀴즈 조회
     List<Quiz> findAdminQuizzes(
             @Param("offset") int offset,
@@ -0,0 +1,46 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.domain.Question;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 퀴즈 문제 무작위 추출 (ORDER BY RAND() 대체).
+ * - 캐시된 퀴즈 묶음(QuizBundle)의 문제 ID 목록에서 추출하므로 DB 조회가 없다
+ * - 요청마다 복사본에서 앞쪽 limit 칸만 Fisher-Yates 로 섞어 추출: O(limit)
+ */
+@Component
+public class QuestionSampler {
+
+    /**
+     * 무작위 limit 개 문제 (문제 수보다 크면 전체를 섞어서)
+     */
+    public List<Question> sample(QuizBundle bundle, int limit) {
+        long[] ids = sampleIds(bundle.getQuestionIds(), limit);
+        List<Question> sampled = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            sampled.add(bundle.getQuestion(id));
+        }
+        return sampled;
+    }
+
+    /**
+     * 부분 Fisher-Yates: 앞에서부터 i 번째 칸을 [i, n) 중 임의 위치와 교환, k 칸만 수행
+     * (work 는 호출자 소유의 복사본이어야 한다)
+     */
+    private long[] sampleIds(long[] work, int limit) {
+        int k = Math.min(Math.max(limit, 0), work.length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(work.length - i);
+            long tmp = work[i];
+            work[i] = work[j];
+            work[j] = tmp;
+        }
+        return k == work.length ? work : Arrays.copyOf(work, k);
+    }
+}
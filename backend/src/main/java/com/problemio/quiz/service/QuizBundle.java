@@ -0,0 +1,156 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+import com.problemio.quiz.domain.Quiz;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈 플레이용 묶음 (퀴즈 기본 정보 + 순서대로 정렬된 문제 + 문제별 정답).
+ * - 퀴즈 버전마다 한 번 만들어 캐시하고 상세/문제 조회/플레이 컨텍스트가 공유 (읽기 전용으로만 사용)
+ * - version: 내용 해시. 내용이 같으면 서버가 달라도 같은 값이라 ETag 로 쓴다
+ * 좋아요/조회수처럼 자주 바뀌는 값은 담지 않는다.
+ */
+public final class QuizBundle {
+
+    private final Long quizId;
+    private final Long userId;
+    private final String title;
+    private final String description;
+    private final String thumbnailUrl;
+    private final boolean isPublic;
+    private final boolean isHidden;
+    private final List<Question> questions;
+    private final long[] questionIds;
+    private final Map<Long, Question> questionsById;
+    private final Map<Long, List<QuestionAnswer>> answersByQuestion;
+    private final List<QuestionAnswer> answers;
+    private final String version;
+
+    private QuizBundle(Quiz quiz, List<Question> questions, List<QuestionAnswer> answers) {
+        this.quizId = quiz.getId();
+        this.userId = quiz.getUserId();
+        this.title = quiz.getTitle();
+        this.description = quiz.getDescription();
+        this.thumbnailUrl = quiz.getThumbnailUrl();
+        this.isPublic = quiz.isPublic();
+        this.isHidden = quiz.isHidden();
+        this.questions = Collections.unmodifiableList(new ArrayList<>(questions));
+        this.answers = Collections.unmodifiableList(new ArrayList<>(answers));
+
+        this.questionIds = new long[questions.size()];
+        Map<Long, Question> byId = new LinkedHashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            questionIds[i] = q.getId();
+            byId.put(q.getId(), q);
+        }
+        this.questionsById = Collections.unmodifiableMap(byId);
+
+        Map<Long, List<QuestionAnswer>> grouped = new HashMap<>();
+        for (QuestionAnswer a : answers) {
+            grouped.computeIfAbsent(a.getQuestionId(), k -> new ArrayList<>()).add(a);
+        }
+        grouped.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        this.answersByQuestion = Collections.unmodifiableMap(grouped);
+
+        this.version = computeVersion();
+    }
+
+    /**
+     * @param questions 출제 순서(question_order)대로 정렬된 문제
+     */
+    public static QuizBundle of(Quiz quiz, List<Question> questions, List<QuestionAnswer> answers) {
+        return new QuizBundle(quiz, questions, answers);
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public boolean isPublic() {
+        return isPublic;
+    }
+
+    public boolean isHidden() {
+        return isHidden;
+    }
+
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * 출제 순서대로의 문제 ID (복사본)
+     */
+    public long[] getQuestionIds() {
+        return questionIds.clone();
+    }
+
+    public Question getQuestion(Long questionId) {
+        return questionsById.get(questionId);
+    }
+
+    public List<QuestionAnswer> getAnswers(Long questionId) {
+        return answersByQuestion.getOrDefault(questionId, List.of());
+    }
+
+    public List<QuestionAnswer> getAnswers() {
+        return answers;
+    }
+
+    public int getTotalQuestions() {
+        return questions.size();
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    private String computeVersion() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(quizId).append('\0').append(userId).append('\0')
+                .append(title).append('\0').append(description).append('\0')
+                .append(thumbnailUrl).append('\0').append(isPublic).append('\0').append(isHidden);
+        for (Question q : questions) {
+            sb.append('\1').append(q.getId()).append('\0').append(q.getQuestionOrder())
+                    .append('\0').append(q.getImageUrl()).append('\0').append(q.getDescription());
+            for (QuestionAnswer a : getAnswers(q.getId())) {
+                sb.append('\2').append(a.getId()).append('\0').append(a.getSortOrder())
+                        .append('\0').append(a.getAnswerText());
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return quizId + "-" + HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.problemio.quiz.service;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.mapper.QuestionAnswerMapper;
+import com.problemio.quiz.mapper.QuestionMapper;
+import com.problemio.quiz.mapper.QuizMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 퀴즈 묶음(QuizBundle) 캐시.
+ * - 캐시 미스 시 퀴즈/문제/정답을 한 번씩만 조회해 구성 (동일 키 동시 요청은 하나로 합쳐짐)
+ * - 무효화는 QuizCacheInvalidator 를 통해 수정/삭제/숨김 시점에 수행
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizBundleProvider {
+
+    public static final String CACHE_NAME = "quizBundle";
+
+    private final QuizMapper quizMapper;
+    private final QuestionMapper questionMapper;
+    private final QuestionAnswerMapper questionAnswerMapper;
+    private final CacheManager cacheManager;
+
+    public QuizBundle get(Long quizId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return load(quizId);
+        }
+        try {
+            return cache.get(quizId, () -> load(quizId));
+        } catch (Cache.ValueRetrievalException e) {
+            // 로더에서 던진 비즈니스 예외는 그대로 전달
+            if (e.getCause() instanceof BusinessException be) {
+                throw be;
+            }
+            throw e;
+        }
+    }
+
+    void evict(Long quizId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(quizId);
+        }
+    }
+
+    private QuizBundle load(Long quizId) {
+        // 존재하지 않는(또는 작성자가 탈퇴한) 퀴즈는 캐시하지 않음
+        Quiz quiz = quizMapper.findById(quizId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        return QuizBundle.of(quiz, questionMapper.findByQuizId(quizId), questionAnswerMapper.findByQuizId(quizId));
+    }
+}
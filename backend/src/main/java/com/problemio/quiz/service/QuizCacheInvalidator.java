@@ -0,0 +1,27 @@
+package com.problemio.quiz.service;
+
+import com.problemio.global.util.CacheEvictions;
+import com.problemio.submission.service.QuizAnswerKeyProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 퀴즈 내용에서 파생된 캐시(퀴즈 묶음, 채점용 정답 키) 무효화.
+ * 즉시 + 커밋 후 한 번 더 무효화 (CacheEvictions)
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizCacheInvalidator {
+
+    private final QuizBundleProvider bundleProvider;
+    private final QuizAnswerKeyProvider answerKeyProvider;
+
+    public void evict(Long quizId) {
+        if (quizId == null) {
+            return;
+        }
+        CacheEvictions.nowAndAfterCommit(() -> bundleProvider.evict(quizId));
+        // 정답 키는 묶음에서 다시 만들어지므로 묶음 다음에 무효화
+        answerKeyProvider.evict(quizId);
+    }
+}
@@ -0,0 +1,206 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCounterDelta;
+import com.problemio.quiz.dto.QuizLikeCountMismatch;
+import com.problemio.quiz.dto.QuizSummaryDto;
+import com.problemio.quiz.mapper.QuizMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 퀴즈 조회수/좋아요 수 카운터.
+ * - 요청 스레드는 퀴즈별 LongAdder 에 더하기만 하고 quizzes 행을 잠그지 않는다
+ * - 주기적으로 쌓인 증감분을 UPDATE 한 번(CASE)으로 모아 반영
+ * - 조회 시 아직 반영 전인 증감분을 더해서 보여준다
+ * 서버가 비정상 종료되면 마지막 flush 이후 증감분은 유실될 수 있다 (조회수/좋아요 수 한정).
+ * 좋아요 수는 QuizLikeCountReconciler 가 reconcileLikes 로 주기적으로 실제 행 수와 맞춘다.
+ * DB 에 반영한 값은 검색 색인의 정렬 키에도 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizCounterService {
+
+    private final QuizMapper quizMapper;
+    private final QuizSearchIndex searchIndex;
+
+    @Value("${quiz.counter.batch-size:500}")
+    private int batchSize;
+
+    private final ConcurrentHashMap<Long, LongAdder> playDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> likeDeltas = new ConcurrentHashMap<>();
+    // 좋아요 행을 바꾸는 중인 트랜잭션 수 (행 변경 ~ 증감분 반영 사이에는 보정하지 않음)
+    private final ConcurrentHashMap<Long, Integer> likesInFlight = new ConcurrentHashMap<>();
+
+    public void incrementPlay(Long quizId) {
+        playDeltas.computeIfAbsent(quizId, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 좋아요 행 변경 전에 호출. 트랜잭션이 끝날 때(커밋 시 증감분 반영 이후) 해제된다.
+     */
+    public void beginLikeChange(Long quizId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        likesInFlight.merge(quizId, 1, Integer::sum);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                likesInFlight.computeIfPresent(quizId, (k, v) -> v > 1 ? v - 1 : null);
+            }
+        });
+    }
+
+    /**
+     * 좋아요 증감. 트랜잭션 중이면 커밋된 경우에만 반영 (롤백 시 카운트가 어긋나지 않도록)
+     */
+    public void addLike(Long quizId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    likeDeltas.computeIfAbsent(quizId, k -> new LongAdder()).add(delta);
+                }
+            });
+        } else {
+            likeDeltas.computeIfAbsent(quizId, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    public long pendingPlays(Long quizId) {
+        LongAdder adder = playDeltas.get(quizId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long pendingLikes(Long quizId) {
+        LongAdder adder = likeDeltas.get(quizId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * DB 에서 읽은 퀴즈에 반영 전 증감분을 합친다
+     */
+    public Quiz apply(Quiz quiz) {
+        if (quiz != null) {
+            quiz.setPlayCount((int) (quiz.getPlayCount() + pendingPlays(quiz.getId())));
+            quiz.setLikeCount((int) Math.max(0, quiz.getLikeCount() + pendingLikes(quiz.getId())));
+        }
+        return quiz;
+    }
+
+    public QuizSummaryDto apply(QuizSummaryDto quiz) {
+        if (quiz != null) {
+            quiz.setPlayCount((int) (quiz.getPlayCount() + pendingPlays(quiz.getId())));
+            quiz.setLikeCount((int) Math.max(0, quiz.getLikeCount() + pendingLikes(quiz.getId())));
+        }
+        return quiz;
+    }
+
+    /**
+     * 삭제된 퀴즈의 증감분 폐기
+     */
+    public void discard(Long quizId) {
+        playDeltas.remove(quizId);
+        likeDeltas.remove(quizId);
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<QuizCounterDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<QuizCounterDelta> chunk = deltas.subList(from, Math.min(deltas.size(), from + batchSize));
+            try {
+                quizMapper.addCounts(chunk);
+                chunk.forEach(d -> searchIndex.addCounts(d.getQuizId(), d.getPlayDelta(), d.getLikeDelta()));
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영되도록 되돌린다
+                log.warn("퀴즈 카운터 반영 실패, 재시도 예정: quizzes={}", chunk.size(), e);
+                restore(chunk);
+            }
+        }
+        log.debug("퀴즈 카운터 반영: quizzes={}", deltas.size());
+    }
+
+    /**
+     * id 구간의 like_count 를 실제 좋아요 행 수로 보정. 보정한 퀴즈 수 반환
+     * flush 와 같은 모니터에서 실행되므로 꺼내 놓고 아직 반영하지 않은 증감분은 없다.
+     * 반영 전 증감분이 남아 있거나 좋아요 행을 바꾸는 중인 퀴즈는 건너뛴다
+     * (세는 시점에 보인 행의 증감분이 보정 후 다시 더해지는 것을 막기 위해, 다음 보정 때 처리).
+     */
+    public synchronized int reconcileLikes(long fromId, long toId) {
+        int repaired = 0;
+        for (QuizLikeCountMismatch m : quizMapper.findLikeCountMismatches(fromId, toId)) {
+            if (likesInFlight.containsKey(m.getQuizId()) || pendingLikes(m.getQuizId()) != 0) {
+                continue;
+            }
+            if (quizMapper.updateLikeCountIfUnchanged(m.getQuizId(), m.getLikeCount(), m.getActualCount()) > 0) {
+                searchIndex.setLikeCount(m.getQuizId(), m.getActualCount());
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 현재까지의 증감분을 가져가고 그만큼 빼 둔다.
+     * (sumThenReset 은 동시 증가분을 잃을 수 있어 sum 후 같은 값을 빼는 방식 사용)
+     */
+    private List<QuizCounterDelta> drain() {
+        List<QuizCounterDelta> deltas = new ArrayList<>();
+        Map<Long, long[]> merged = new HashMap<>();
+        playDeltas.forEach((quizId, adder) -> {
+            long taken = adder.sum();
+            if (taken != 0) {
+                adder.add(-taken);
+                merged.computeIfAbsent(quizId, k -> new long[2])[0] = taken;
+            }
+        });
+        likeDeltas.forEach((quizId, adder) -> {
+            long taken = adder.sum();
+            if (taken != 0) {
+                adder.add(-taken);
+                merged.computeIfAbsent(quizId, k -> new long[2])[1] = taken;
+            }
+        });
+        merged.forEach((quizId, d) -> deltas.add(new QuizCounterDelta(quizId, d[0], d[1])));
+        return deltas;
+    }
+
+    private void restore(List<QuizCounterDelta> chunk) {
+        for (QuizCounterDelta d : chunk) {
+            if (d.getPlayDelta() != 0) {
+                playDeltas.computeIfAbsent(d.getQuizId(), k -> new LongAdder()).add(d.getPlayDelta());
+            }
+            if (d.getLikeDelta() != 0) {
+                likeDeltas.computeIfAbsent(d.getQuizId(), k -> new LongAdder()).add(d.getLikeDelta());
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.mapper.QuizMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * quizzes.like_count 보정 작업.
+ * like_count 는 좋아요/취소/탈퇴 시 증감으로 유지되지만, 관리자 탈퇴 처리 등 증감을 거치지 않는
+ * 경로나 반영 실패로 어긋날 수 있어 주기적으로 활성 유저 기준 실제 좋아요 수와 맞춘다.
+ * 한 번에 전체를 잠그지 않도록 id 구간 단위로 나눠 실행하고, 좋아요가 처리 중인 퀴즈는 다음 주기로 미룬다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizLikeCountReconciler {
+
+    private final QuizMapper quizMapper;
+    private final QuizCounterService quizCounterService;
+
+    @Value("${quiz.like-count.reconcile-chunk-size:1000}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${quiz.like-count.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        // 메모리에 쌓인 증감분을 먼저 반영 (반영 전 증감분이 남은 퀴즈는 보정에서 제외되므로)
+        quizCounterService.flush();
+
+        long start = System.nanoTime();
+        long maxId = quizMapper.findMaxId();
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += quizCounterService.reconcileLikes(fromId, fromId + chunkSize - 1);
+        }
+        log.info("퀴즈 좋아요 수 보정: repaired={}, maxId={}, {}ms",
+                repaired, maxId, (System.nanoTime() - start) / 1_000_000);
+    }
+}
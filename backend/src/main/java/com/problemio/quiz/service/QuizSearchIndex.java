@@ -0,0 +1,408 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCursor;
+import com.problemio.quiz.mapper.QuizMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 퀴즈 제목/설명 검색용 메모리 역색인.
+ * - 공백을 포함한 2-gram 단위 색인 (띄어쓰기 없는 한국어도 부분 문자열로 검색)
+ * - 후보는 가장 짧은 posting 에서 고르고, 정규화된 원문 포함 여부로 다시 확인하므로
+ *   결과는 기존 LIKE '%keyword%' 와 같고 개수도 정확하다
+ * - 공개 + 숨김 아님 퀴즈만 색인, 생성/수정/삭제/숨김 변경은 커밋 후 반영
+ * - 정렬 키(작성일, 좋아요 수, 조회수)도 함께 들고 있어 정렬/페이징은 메모리에서 하고
+ *   DB 에는 현재 페이지 ID 만 넘긴다 (카운터는 QuizCounterService 가 DB 반영 후 갱신)
+ * - 기동 시 DB에서 전체 재구성 (관리자 API로 수동 재구성 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizSearchIndex {
+
+    private static final int GRAM = 2;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final QuizMapper quizMapper;
+
+    private volatile Segment segment = new Segment();
+    // 재구성 중 들어온 변경 (재구성 결과에 다시 적용), 재구성 중이 아니면 null. this 로 보호
+    private List<Consumer<Segment>> replay;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준 전체 재구성. 이미 재구성 중이면 -1
+     */
+    public int rebuild() {
+        synchronized (this) {
+            if (replay != null) {
+                return -1;
+            }
+            replay = new ArrayList<>();
+        }
+        try {
+            long start = System.nanoTime();
+            Segment fresh = new Segment();
+            for (Quiz quiz : quizMapper.findSearchableQuizzes()) {
+                fresh.put(Doc.of(quiz));
+            }
+            synchronized (this) {
+                replay.forEach(op -> op.accept(fresh));
+                segment = fresh;
+            }
+            log.info("퀴즈 검색 색인 재구성: docs={}, grams={}, {}ms",
+                    fresh.docs.size(), fresh.postings.size(), (System.nanoTime() - start) / 1_000_000);
+            return fresh.docs.size();
+        } finally {
+            synchronized (this) {
+                replay = null;
+            }
+        }
+    }
+
+    /**
+     * 퀴즈 생성/수정/공개 상태 변경 반영 (검색 대상이 아니게 되면 제거)
+     */
+    public void index(Quiz quiz) {
+        if (quiz == null || quiz.getId() == null) {
+            return;
+        }
+        if (quiz.isPublic() && !quiz.isHidden()) {
+            Doc doc = Doc.of(quiz);
+            afterCommit(s -> s.put(doc));
+        } else {
+            remove(quiz.getId());
+        }
+    }
+
+    public void remove(Long quizId) {
+        afterCommit(s -> s.remove(quizId));
+    }
+
+    /**
+     * 색인에는 있지만 DB 에서 더 이상 검색 대상이 아닌 퀴즈 제거 (페이지 조회 중 발견한 경우)
+     */
+    public void evict(Collection<Long> quizIds) {
+        if (!quizIds.isEmpty()) {
+            List<Long> ids = List.copyOf(quizIds);
+            afterCommit(s -> ids.forEach(s::remove));
+        }
+    }
+
+    /**
+     * DB 에 반영된 조회수/좋아요 증감분을 정렬 키에 더한다.
+     * 재구성 중이면 새 세그먼트는 DB 에서 다시 읽은 값을 쓰므로 현재 세그먼트에만 적용한다.
+     */
+    public void addCounts(Long quizId, long playDelta, long likeDelta) {
+        Doc doc = segment.docs.get(quizId);
+        if (doc != null) {
+            synchronized (doc) {
+                doc.playCount += (int) playDelta;
+                doc.likeCount = (int) Math.max(0, doc.likeCount + likeDelta);
+            }
+        }
+    }
+
+    /**
+     * 좋아요 수 보정 결과 반영
+     */
+    public void setLikeCount(Long quizId, int likeCount) {
+        Doc doc = segment.docs.get(quizId);
+        if (doc != null) {
+            synchronized (doc) {
+                doc.likeCount = likeCount;
+            }
+        }
+    }
+
+    /**
+     * 키워드 검색 (제목/설명 부분 일치)
+     */
+    public Hits search(String keyword) {
+        String q = normalize(keyword);
+        if (q.isEmpty()) {
+            return new Hits(List.of());
+        }
+        Segment s = segment;
+
+        Collection<Long> candidates;
+        if (q.length() < GRAM) {
+            candidates = s.docs.keySet();
+        } else {
+            candidates = null;
+            for (String gram : grams(q)) {
+                Set<Long> posting = s.postings.get(gram);
+                if (posting == null) {
+                    return new Hits(List.of());
+                }
+                if (candidates == null || posting.size() < candidates.size()) {
+                    candidates = posting;
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Long id : candidates) {
+            Doc doc = s.docs.get(id);
+            if (doc == null) {
+                continue;
+            }
+            int score = (doc.title.contains(q) ? TITLE_WEIGHT : 0)
+                    + (doc.description.contains(q) ? DESCRIPTION_WEIGHT : 0);
+            if (score > 0) {
+                hits.add(doc.hit(score));
+            }
+        }
+        return new Hits(hits);
+    }
+
+    private void afterCommit(Consumer<Segment> op) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(op);
+                }
+            });
+        } else {
+            apply(op);
+        }
+    }
+
+    private synchronized void apply(Consumer<Segment> op) {
+        op.accept(segment);
+        if (replay != null) {
+            replay.add(op);
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인 본체 (쓰기는 QuizSearchIndex 잠금 안에서만, 읽기는 잠금 없이)
+     */
+    private static final class Segment {
+        private final ConcurrentHashMap<Long, Doc> docs = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        private void put(Doc doc) {
+            remove(doc.id);
+            docs.put(doc.id, doc);
+            for (String gram : doc.grams()) {
+                postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(doc.id);
+            }
+        }
+
+        private void remove(Long quizId) {
+            Doc old = docs.remove(quizId);
+            if (old == null) {
+                return;
+            }
+            for (String gram : old.grams()) {
+                Set<Long> posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(quizId);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram, posting);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Doc {
+        private final Long id;
+        private final String title;
+        private final String description;
+        private final LocalDateTime createdAt;
+        // 정렬 키 (DB 반영 값 기준, 읽기/쓰기는 doc 잠금 안에서)
+        private int likeCount;
+        private int playCount;
+
+        private Doc(Long id, String title, String description, LocalDateTime createdAt,
+                    int likeCount, int playCount) {
+            this.id = id;
+            this.title = title;
+            this.description = description;
+            this.createdAt = createdAt;
+            this.likeCount = likeCount;
+            this.playCount = playCount;
+        }
+
+        private static Doc of(Quiz quiz) {
+            // created_at 이 빈 예전 행은 커서와 같은 키로 맨 뒤에 둔다
+            LocalDateTime createdAt = quiz.getCreatedAt() != null ? quiz.getCreatedAt() : QuizCursor.MISSING_AT;
+            return new Doc(quiz.getId(), normalize(quiz.getTitle()), normalize(quiz.getDescription()),
+                    createdAt, quiz.getLikeCount(), quiz.getPlayCount());
+        }
+
+        // 검색 시점의 정렬 키를 복사해 둔다 (정렬 중 값이 바뀌지 않도록)
+        private synchronized Hit hit(int score) {
+            return new Hit(id, score, createdAt, likeCount, playCount);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = QuizSearchIndex.grams(title);
+            grams.addAll(QuizSearchIndex.grams(description));
+            return grams;
+        }
+    }
+
+    public static final class Hit {
+        private final Long quizId;
+        private final int score;
+        private final LocalDateTime createdAt;
+        private final int likeCount;
+        private final int playCount;
+
+        private Hit(Long quizId, int score, LocalDateTime createdAt, int likeCount, int playCount) {
+            this.quizId = quizId;
+            this.score = score;
+            this.createdAt = createdAt;
+            this.likeCount = likeCount;
+            this.playCount = playCount;
+        }
+
+        public Long getQuizId() {
+            return quizId;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public int getLikeCount() {
+            return likeCount;
+        }
+
+        public int getPlayCount() {
+            return playCount;
+        }
+
+        /**
+         * 다음 페이지 커서 (목록 커서와 같은 정렬 키)
+         */
+        public QuizCursor toCursor(String sort) {
+            return new QuizCursor(sort, createdAt, quizId, likeCount, playCount);
+        }
+    }
+
+    /**
+     * 검색 결과 (정확한 일치 개수 + 정렬/페이징)
+     * 정렬 순서는 QuizMapper 목록 쿼리의 ORDER BY 와 같다.
+     */
+    public static final class Hits {
+
+        private static final Comparator<Hit> LATEST = Comparator
+                .comparing((Hit h) -> h.createdAt, Comparator.reverseOrder())
+                .thenComparing(h -> h.quizId, Comparator.reverseOrder());
+        // 제목 일치 우선, 같으면 최신순
+        private static final Comparator<Hit> RELEVANCE = Comparator
+                .comparingInt((Hit h) -> h.score).reversed()
+                .thenComparing(LATEST);
+        private static final Comparator<Hit> POPULAR = Comparator
+                .comparingInt((Hit h) -> h.likeCount).reversed()
+                .thenComparing(Comparator.comparingInt((Hit h) -> h.playCount).reversed())
+                .thenComparing(LATEST);
+        private static final Comparator<Hit> VIEWS = Comparator
+                .comparingInt((Hit h) -> h.playCount).reversed()
+                .thenComparing(Comparator.comparingInt((Hit h) -> h.likeCount).reversed())
+                .thenComparing(LATEST);
+
+        private final List<Hit> hits;
+
+        private Hits(List<Hit> hits) {
+            this.hits = hits;
+        }
+
+        public int total() {
+            return hits.size();
+        }
+
+        public boolean isEmpty() {
+            return hits.isEmpty();
+        }
+
+        /**
+         * offset 페이지의 퀴즈 ID (sort: relevance / popular / views / 그 외 최신순)
+         */
+        public List<Long> page(String sort, int offset, int size) {
+            return hits.stream()
+                    .sorted(order(sort))
+                    .skip(offset)
+                    .limit(size)
+                    .map(h -> h.quizId)
+                    .toList();
+        }
+
+        /**
+         * 커서 다음부터 limit 건 (cursor 가 null 이면 처음부터)
+         */
+        public List<Hit> after(QuizCursor cursor, String sort, int limit) {
+            Comparator<Hit> order = order(sort);
+            Hit last = cursor == null ? null
+                    : new Hit(cursor.getId(), 0, cursor.getAt(), cursor.getLikeCount(), cursor.getPlayCount());
+            return hits.stream()
+                    .filter(h -> last == null || order.compare(h, last) > 0)
+                    .sorted(order)
+                    .limit(limit)
+                    .toList();
+        }
+
+        private static Comparator<Hit> order(String sort) {
+            if ("relevance".equals(sort)) {
+                return RELEVANCE;
+            }
+            if ("popular".equals(sort)) {
+                return POPULAR;
+            }
+            if ("views".equals(sort)) {
+                return VIEWS;
+            }
+            return LATEST;
+        }
+    }
+}
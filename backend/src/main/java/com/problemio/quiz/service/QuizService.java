@@ -1,5 +1,6 @@
 package com.problemio.quiz.service;
 
+import com.problemio.global.dto.CursorPageResponse;
 import com.problemio.quiz.dto.*;
 
 import java.util.Map;
@@ -9,12 +10,18 @@ public interface QuizService {
 
     Map<String, Object> getQuizzes(int page, int size, String sort, String keyword);
 
+    // 커서 기반 목록 (cursor 가 없으면 첫 페이지)
+    CursorPageResponse<QuizSummaryDto> getQuizzesByCursor(String cursor, int size, String sort, String keyword);
+
     QuizResponse createQuiz(Long userId, QuizCreateRequest request);
 
     QuizResponse updateQuiz(Long userId, Long quizId, QuizUpdateRequest request);
 
     void deleteQuiz(Long userId, Long quizId);
 
+    // 탈퇴 유저의 퀴즈 전체 삭제 표시 (연관 데이터 정리는 PurgeWorker)
+    void deleteQuizzesOfUser(Long userId);
+
     QuizResponse getQuiz(Long quizId, Long viewerId);
     // 공개 퀴즈 목록
     List<QuizSummaryDto> getPublicQuizzes();
@@ -29,5 +36,9 @@ public interface QuizService {
 
     List<QuizSummaryDto> getLikedQuizzes(Long userId, int page, int size);
 
+    CursorPageResponse<QuizSummaryDto> getQuizzesOfFollowingsByCursor(Long userId, String cursor, int size);
+
+    CursorPageResponse<QuizSummaryDto> getLikedQuizzesByCursor(Long userId, String cursor, int size);
+
     List<QuestionResponse> getQuizQuestions(Long quizId, Long viewerId, Integer limit);
 }
@@ -1,8 +1,10 @@
 package com.problemio.quiz.service;
 
 import com.problemio.follow.mapper.FollowMapper;
+import com.problemio.global.dto.CursorPageResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
+import com.problemio.purge.service.PurgeJobService;
 import com.problemio.quiz.domain.Question;
 import com.problemio.quiz.domain.QuestionAnswer;
 import com.problemio.quiz.dto.AnswerCreateRequest;
@@ -13,27 +15,32 @@ import com.problemio.quiz.mapper.QuestionAnswerMapper;
 import com.problemio.quiz.mapper.QuestionMapper;
 import com.problemio.quiz.domain.Quiz;
 import com.problemio.quiz.dto.QuizCreateRequest;
+import com.problemio.quiz.dto.QuizCursor;
 import com.problemio.quiz.dto.QuizResponse;
 import com.problemio.quiz.dto.QuizSummaryDto;
 import com.problemio.quiz.dto.QuizUpdateRequest;
 import com.problemio.quiz.mapper.QuizLikeMapper;
 import com.problemio.quiz.mapper.QuizMapper;
-import com.problemio.submission.mapper.SubmissionDetailMapper;
-import com.problemio.submission.mapper.SubmissionMapper;
-import com.problemio.comment.mapper.CommentLikeMapper;
+import com.problemio.submission.service.SubmissionWriteBehindBuffer;
 import com.problemio.user.dto.UserResponse;
 import com.problemio.user.mapper.UserMapper;
 import com.problemio.comment.mapper.CommentMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.problemio.global.util.TimeUtils;
@@ -43,21 +50,31 @@ import com.problemio.global.util.TimeUtils;
 @Transactional
 public class QuizServiceImpl implements QuizService {
 
+    private static final String QUIZ_COUNT_CACHE = "quizCount";
+    private static final String QUIZ_COUNT_ALL = "all";
+    private static final String FEED_CURSOR_SORT = "latest";
+    // multi-row INSERT 한 번에 넣는 최대 행 수
+    private static final int INSERT_CHUNK = 500;
+
     // 퀴즈 기본 정보, 좋아요, 문제, 정답 매퍼
     private final QuizMapper quizMapper;
     private final QuizLikeMapper quizLikeMapper;
     private final QuestionMapper questionMapper;
     private final QuestionAnswerMapper questionAnswerMapper;
-    // 유저, 팔로우, 제출 관련 매퍼
+    // 유저, 팔로우 관련 매퍼
     private final UserMapper userMapper;
     private final FollowMapper followMapper;
-    private final SubmissionMapper submissionMapper;
-    private final SubmissionDetailMapper submissionDetailMapper;
     // 댓글 관련 매퍼
     private final CommentMapper commentMapper;
-    private final CommentLikeMapper commentLikeMapper;
     // 캐시 관리
     private final CacheManager cacheManager;
+    private final QuizBundleProvider bundleProvider;
+    private final QuizCacheInvalidator quizCacheInvalidator;
+    private final SubmissionWriteBehindBuffer writeBehindBuffer;
+    private final PurgeJobService purgeJobService;
+    private final QuizCounterService quizCounterService;
+    private final QuizSearchIndex searchIndex;
+    private final QuestionSampler questionSampler;
 
     /**
      * 퀴즈 목록 조회 (페이징, 정렬, 검색)
@@ -69,9 +86,19 @@ public class QuizServiceImpl implements QuizService {
         int safeSize = Math.max(size, 1);   // 최소 1건 이상 보장
         int offset = (safePage - 1) * safeSize;
 
-        // 퀴즈 목록 검색 및 전체 개수 조회
-        List<Quiz> quizzes = quizMapper.searchQuizzes(offset, safeSize, sort, keyword);
-        int total = quizMapper.countQuizzes(keyword);
+        // 퀴즈 목록 검색 및 전체 개수 조회 (키워드 검색은 메모리 색인 사용)
+        List<Quiz> quizzes;
+        int total;
+        if (keyword != null && !keyword.isBlank()) {
+            QuizSearchIndex.Hits hits = searchIndex.search(keyword);
+            total = hits.total();
+            quizzes = findSearchPage(hits, sort, offset, safeSize);
+        } else {
+            quizzes = quizMapper.searchQuizzes(offset, safeSize, sort);
+            total = countQuizzes();
+        }
+
+        quizzes.forEach(quizCounterService::apply);
 
         Map<Long, Integer> commentCountMap = quizzes.isEmpty()
                 ? Map.of()
@@ -94,6 +121,66 @@ public class QuizServiceImpl implements QuizService {
         );
     }
 
+    /**
+     * 퀴즈 목록 조회 (커서 기반)
+     * - 정렬 키 + id 로 이어서 조회하므로 깊은 페이지도 비용이 일정
+     * - 전체 개수는 첫 페이지에서만 캐시된 값으로 제공
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<QuizSummaryDto> getQuizzesByCursor(String cursor, int size, String sort, String keyword) {
+        String safeSort = normalizeSort(sort);
+        int safeSize = normalizeCursorSize(size);
+        QuizCursor after = QuizCursor.decode(cursor, safeSort);
+
+        List<Quiz> quizzes;
+        boolean hasNext;
+        String nextCursor = null;
+        Integer total = null;
+        if (keyword != null && !keyword.isBlank()) {
+            // 키워드 검색: 색인에서 커서 다음 페이지(+1건)를 고른 뒤 그 ID 만 조회
+            QuizSearchIndex.Hits hits = searchIndex.search(keyword);
+            List<QuizSearchIndex.Hit> page = hits.after(after, safeSort, safeSize + 1);
+            hasNext = page.size() > safeSize;
+            List<QuizSearchIndex.Hit> pageHits = hasNext ? page.subList(0, safeSize) : page;
+            quizzes = findSearchableInOrder(pageHits.stream().map(QuizSearchIndex.Hit::getQuizId).toList());
+            if (hasNext) {
+                nextCursor = pageHits.get(pageHits.size() - 1).toCursor(safeSort).encode();
+            }
+            total = hits.total();
+        } else {
+            if (after == null) {
+                total = countQuizzes();
+            }
+            // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+            List<Quiz> rows = quizMapper.searchQuizzesAfter(after, safeSize + 1, safeSort);
+            hasNext = rows.size() > safeSize;
+            quizzes = hasNext ? rows.subList(0, safeSize) : rows;
+
+            // 커서는 DB 값 기준으로 만든 뒤에 반영 전 카운터를 합친다
+            if (hasNext) {
+                Quiz last = quizzes.get(quizzes.size() - 1);
+                nextCursor = new QuizCursor(safeSort, last.getCreatedAt(), last.getId(),
+                        last.getLikeCount(), last.getPlayCount()).encode();
+            }
+        }
+        quizzes.forEach(quizCounterService::apply);
+
+        Map<Long, Integer> commentCountMap = quizzes.isEmpty()
+                ? Map.of()
+                : commentMapper.countCommentsByQuizIds(quizzes.stream().map(Quiz::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(CommentMapper.CommentCount::getQuizId, CommentMapper.CommentCount::getCount));
+
+        return CursorPageResponse.<QuizSummaryDto>builder()
+                .content(quizzes.stream().map(q -> toSummaryDto(q, commentCountMap)).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(safeSize)
+                .totalElements(after == null ? total : null)
+                .build();
+    }
+
     // ===== 퀴즈 생성/수정/삭제 =====
     @Override
     public QuizResponse createQuiz(Long userId, QuizCreateRequest request) {
@@ -118,6 +205,7 @@ public class QuizServiceImpl implements QuizService {
         // 퀴즈 삽입 -> 문제/정답 저장 -> 응답 생성
         quizMapper.insertQuiz(quiz);
         saveQuestions(quiz.getId(), request.getQuestions());
+        searchIndex.index(quiz);
 
         return buildQuizResponse(quiz, null, null, null);
     }
@@ -149,22 +237,16 @@ public class QuizServiceImpl implements QuizService {
         // 기본 정보 업데이트
         quiz.setUpdatedAt(TimeUtils.now());
         quizMapper.updateQuiz(quiz);
+        searchIndex.index(quiz);
 
-        // 질문 목록 재설정 (삭제 후 재생성)
-        if (request.getQuestions() != null) {
-            List<Question> existing = questionMapper.findByQuizId(quizId);
-            // 기존 질문, 정답 삭제
-            for (Question question : existing) {
-                questionAnswerMapper.deleteByQuestionId(question.getId());
-            }
-
-            questionMapper.deleteByQuizId(quizId);
-            // 새 질문/정답 저장
-            saveQuestions(quizId, request.getQuestions());
-        }
+        // 질문 목록 반영 (기존 목록과 비교해 바뀐 부분만), 응답은 반영 결과로 바로 만든다
+        List<QuestionResponse> questions = request.getQuestions() != null
+                ? syncQuestions(quizId, request.getQuestions())
+                : loadQuestionResponses(quizId);
+        // 플레이 묶음, 채점용 정답 키 무효화 (기본 정보만 바뀌어도 묶음 내용이 달라짐)
+        quizCacheInvalidator.evict(quizId);
 
-        // 응답 생성
-        return buildQuizResponse(quiz, loadQuestions(quizId), findAuthor(quiz.getUserId()), null);
+        return buildQuizResponse(quiz, questions, findAuthor(quiz.getUserId()), null);
     }
 
     @Override
@@ -177,34 +259,31 @@ public class QuizServiceImpl implements QuizService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        // 댓글 및 관련 데이터 삭제
-        List<Long> commentIds = commentMapper.findIdsByQuizId(quizId);
-        if (!commentIds.isEmpty()) {
-            commentLikeMapper.deleteByCommentIds(commentIds);
-            commentMapper.softDeleteByQuizId(quizId, TimeUtils.now());
-        }
-
-        // 퀴즈 좋아요 삭제
-        quizLikeMapper.deleteByQuizId(quizId);
-
-        // 제출 기록 삭제 (FK 제약 고려)
-        List<Question> questions = questionMapper.findByQuizId(quizId);
-        List<Long> questionIds = questions.stream()
-                .map(Question::getId)
-                .collect(Collectors.toList());
-        if (!questionIds.isEmpty()) {
-            submissionDetailMapper.deleteByQuestionIds(questionIds);
-        }
-        submissionMapper.deleteByQuizId(quizId);
+        // 삭제 표시만 하고 댓글/좋아요/제출 기록/문제는 PurgeWorker 가 나눠서 정리
+        quizMapper.markDeleted(quizId, TimeUtils.now());
+        purgeJobService.enqueueQuiz(quizId);
+        releaseQuiz(quizId);
+    }
 
-        // 질문 및 정답 삭제
-        for (Question question : questions) {
-            questionAnswerMapper.deleteByQuestionId(question.getId());
+    @Override
+    public void deleteQuizzesOfUser(Long userId) {
+        List<Quiz> quizzes = quizMapper.findQuizzesByUserId(userId);
+        if (quizzes.isEmpty()) {
+            return;
         }
-        questionMapper.deleteByQuizId(quizId);
+        // 한 번에 삭제 표시, 정리 작업 등록은 탈퇴 유저 작업과 함께 (PurgeJobService.enqueueUser)
+        quizMapper.markDeletedByUserId(userId, TimeUtils.now());
+        quizzes.forEach(quiz -> releaseQuiz(quiz.getId()));
+    }
 
-        // 퀴즈 삭제
-        quizMapper.deleteQuiz(quizId);
+    /**
+     * 삭제된 퀴즈의 메모리 상태 정리 (반영 전 답안/카운터, 캐시, 검색 색인)
+     */
+    private void releaseQuiz(Long quizId) {
+        writeBehindBuffer.discardQuiz(quizId);
+        quizCacheInvalidator.evict(quizId);
+        quizCounterService.discard(quizId);
+        searchIndex.remove(quizId);
     }
 
     // ===== 퀴즈 조회 =====
@@ -214,12 +293,13 @@ public class QuizServiceImpl implements QuizService {
         Quiz quiz = quizMapper.findById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        // 조회수 증가
-        quizMapper.incrementPlayCount(quizId);
-        quiz.setPlayCount(quiz.getPlayCount() + 1);
+        // 조회수 증가 (행 잠금 없이 카운터에 누적, 주기적으로 일괄 반영)
+        quizCounterService.incrementPlay(quizId);
+        quizCounterService.apply(quiz);
 
         UserResponse author = findAuthor(quiz.getUserId());
-        List<QuestionResponse> questions = loadQuestions(quizId);
+        // 조회수/좋아요 수는 위의 단건 조회 기준, 문제/정답은 캐시된 묶음에서
+        List<QuestionResponse> questions = toQuestionResponses(bundleProvider.get(quizId));
 
         Boolean isLikedByMe = null;
         Boolean isFollowedByMe = null;
@@ -238,6 +318,7 @@ public class QuizServiceImpl implements QuizService {
     @Transactional(readOnly = true)
     public List<QuizSummaryDto> getPublicQuizzes() {
         return quizMapper.findPublicQuizzes().stream()
+                .map(quizCounterService::apply)
                 .map(this::toSummaryDto)
                 .collect(Collectors.toList());
     }
@@ -249,6 +330,7 @@ public class QuizServiceImpl implements QuizService {
     @Transactional(readOnly = true)
     public List<QuizSummaryDto> getUserQuizzes(Long userId) {
         return quizMapper.findQuizzesByUserId(userId).stream()
+                .map(quizCounterService::apply)
                 .map(this::toSummaryDto)
                 .collect(Collectors.toList());
     }
@@ -267,15 +349,18 @@ public class QuizServiceImpl implements QuizService {
             throw new BusinessException(ErrorCode.CANNOT_LIKE_OWN_QUIZ);
         }
 
-        // 이미 좋아요 여부 확인
-        boolean alreadyLiked = quizLikeMapper.findByUserIdAndQuizId(userId, quizId).isPresent();
-        if (alreadyLiked) {
-            return; 
+        // 좋아요 레코드 생성, 실제로 추가된 경우에만 카운트 증가
+        quizCounterService.beginLikeChange(quizId);
+        int inserted;
+        try {
+            inserted = quizLikeMapper.insertQuizLike(buildQuizLike(userId, quizId));
+        } catch (DuplicateKeyException e) {
+            return; // 이미 좋아요
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 삭제된 퀴즈 (FK 위반)
+            throw new BusinessException(ErrorCode.QUIZ_NOT_FOUND);
         }
-
-        // 좋아요 레코드 생성 후 카운트 증가
-        quizLikeMapper.insertQuizLike(buildQuizLike(userId, quizId));
-        quizMapper.incrementLikeCount(quizId);
+        quizCounterService.addLike(quizId, inserted);
     }
 
     /**
@@ -286,8 +371,10 @@ public class QuizServiceImpl implements QuizService {
         quizMapper.findById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        quizLikeMapper.deleteQuizLike(userId, quizId);
-        quizMapper.decrementLikeCount(quizId);
+        // 실제로 삭제된 경우에만 카운트 감소
+        quizCounterService.beginLikeChange(quizId);
+        int deleted = quizLikeMapper.deleteQuizLike(userId, quizId);
+        quizCounterService.addLike(quizId, -deleted);
     }
 
     // ===== DTO 변환 헬퍼 =====
@@ -305,6 +392,7 @@ public class QuizServiceImpl implements QuizService {
                 .commentCount(commentCount)
                 .hidden(quiz.isHidden())
                 .isPublic(quiz.isPublic())
+                .createdAt(quiz.getCreatedAt())
                 .build();
     }
 
@@ -348,33 +436,177 @@ public class QuizServiceImpl implements QuizService {
     }
 
     // ===== 질문/정답 저장 및 로딩 헬퍼 =====
+    /**
+     * 새 퀴즈의 문제/정답 저장
+     */
     private void saveQuestions(Long quizId, List<QuestionCreateRequest> questions) {
         if (questions == null || questions.isEmpty()) {
             return;
         }
 
+        LocalDateTime now = TimeUtils.now();
+        List<Question> toInsert = new ArrayList<>(questions.size());
         int index = 1;
         for (QuestionCreateRequest request : questions) {
-            Question question = new Question();
-            question.setQuizId(quizId);
-            // 순서 미지정 시 인덱스 사용
-            int order = request.getQuestionOrder() != null ? request.getQuestionOrder() : index;
-            question.setQuestionOrder(order);
-            question.setImageUrl(request.getImageUrl());
-            question.setDescription(request.getDescription());
-            question.setCreatedAt(TimeUtils.now());
+            toInsert.add(toQuestion(quizId, request, index++, now));
+        }
+        insertQuestions(toInsert, questions);
+    }
 
-            questionMapper.insertQuestion(question);
-            saveAnswers(question.getId(), request.getAnswers());
-            index++;
+    /**
+     * 요청 문제 목록을 저장된 목록과 비교해 필요한 만큼만 반영.
+     * - id 가 기존 문제와 일치: 내용이 바뀐 경우만 UPDATE, 정답이 바뀐 경우만 정답 교체
+     * - id 가 없거나 이 퀴즈의 문제가 아님: 새 문제로 INSERT
+     * - 요청에 없는 기존 문제: 정답과 함께 DELETE
+     * 유지된 문제는 ID 가 그대로라 제출 기록(submission_details)과의 연결이 유지된다.
+     *
+     * @return 반영 후 문제 목록 (다시 조회하지 않고 저장한 엔티티로 만든 응답)
+     */
+    private List<QuestionResponse> syncQuestions(Long quizId, List<QuestionCreateRequest> requests) {
+        Map<Long, Question> existingById = new LinkedHashMap<>();
+        for (Question q : questionMapper.findByQuizId(quizId)) {
+            existingById.put(q.getId(), q);
         }
+        Map<Long, List<QuestionAnswer>> existingAnswers = questionAnswerMapper.findByQuizId(quizId).stream()
+                .collect(Collectors.groupingBy(QuestionAnswer::getQuestionId));
+
+        LocalDateTime now = TimeUtils.now();
+        List<Question> added = new ArrayList<>();
+        List<QuestionCreateRequest> addedRequests = new ArrayList<>();
+        List<Long> answersReplaced = new ArrayList<>();
+        List<QuestionAnswer> answersToInsert = new ArrayList<>();
+        List<Question> result = new ArrayList<>(requests.size());
+        Map<Long, List<QuestionAnswer>> resultAnswers = new LinkedHashMap<>();
+
+        int index = 1;
+        for (QuestionCreateRequest request : requests) {
+            Question desired = toQuestion(quizId, request, index++, now);
+            result.add(desired);
+            // 같은 id 가 두 번 오면 두 번째부터는 새 문제로
+            Question current = request.getId() != null ? existingById.remove(request.getId()) : null;
+            if (current == null) {
+                added.add(desired);
+                addedRequests.add(request);
+                continue;
+            }
+
+            desired.setId(current.getId());
+            if (!sameContent(current, desired)) {
+                questionMapper.updateQuestion(desired);
+            }
+            List<QuestionAnswer> currentAnswers = existingAnswers.getOrDefault(current.getId(), List.of());
+            List<QuestionAnswer> desiredAnswers = toAnswers(current.getId(), request.getAnswers());
+            if (sameAnswers(currentAnswers, desiredAnswers)) {
+                resultAnswers.put(current.getId(), currentAnswers);
+            } else {
+                answersReplaced.add(current.getId());
+                answersToInsert.addAll(desiredAnswers);
+                resultAnswers.put(current.getId(), desiredAnswers);
+            }
+        }
+
+        if (!existingById.isEmpty()) {
+            List<Long> removedIds = new ArrayList<>(existingById.keySet());
+            questionAnswerMapper.deleteByQuestionIds(removedIds);
+            questionMapper.deleteByIds(removedIds);
+        }
+        if (!answersReplaced.isEmpty()) {
+            questionAnswerMapper.deleteByQuestionIds(answersReplaced);
+        }
+        insertAnswers(answersToInsert);
+        resultAnswers.putAll(insertQuestions(added, addedRequests).stream()
+                .collect(Collectors.groupingBy(QuestionAnswer::getQuestionId)));
+
+        // 조회 쿼리와 같은 순서 (문제 순서, 정답 정렬 순서)
+        result.sort(Comparator.comparingInt(Question::getQuestionOrder));
+        Comparator<QuestionAnswer> answerOrder = Comparator.comparingInt(QuestionAnswer::getSortOrder);
+        return toQuestionResponses(result, id -> resultAnswers.getOrDefault(id, List.of()).stream()
+                .sorted(answerOrder)
+                .toList());
+    }
+
+    /**
+     * 문제 목록을 바꾸지 않는 수정의 응답용 (커밋 전이므로 캐시를 거치지 않고 DB 기준으로)
+     */
+    private List<QuestionResponse> loadQuestionResponses(Long quizId) {
+        Map<Long, List<QuestionAnswer>> answers = questionAnswerMapper.findByQuizId(quizId).stream()
+                .collect(Collectors.groupingBy(QuestionAnswer::getQuestionId));
+        return toQuestionResponses(questionMapper.findByQuizId(quizId),
+                id -> answers.getOrDefault(id, List.of()));
+    }
+
+    private Question toQuestion(Long quizId, QuestionCreateRequest request, int index, LocalDateTime now) {
+        Question question = new Question();
+        question.setQuizId(quizId);
+        // 순서 미지정 시 인덱스 사용
+        question.setQuestionOrder(request.getQuestionOrder() != null ? request.getQuestionOrder() : index);
+        question.setImageUrl(request.getImageUrl());
+        question.setDescription(request.getDescription());
+        question.setCreatedAt(now);
+        return question;
     }
 
-    private void saveAnswers(Long questionId, List<AnswerCreateRequest> answers) {
+    private static boolean sameContent(Question a, Question b) {
+        return a.getQuestionOrder() == b.getQuestionOrder()
+                && Objects.equals(a.getImageUrl(), b.getImageUrl())
+                && Objects.equals(a.getDescription(), b.getDescription());
+    }
+
+    /**
+     * 정답 목록 비교 (정답 문자열 + 정렬 순서, 저장 순서는 무관)
+     */
+    private static boolean sameAnswers(List<QuestionAnswer> current, List<QuestionAnswer> desired) {
+        if (current.size() != desired.size()) {
+            return false;
+        }
+        Comparator<QuestionAnswer> order = Comparator.comparingInt(QuestionAnswer::getSortOrder)
+                .thenComparing(QuestionAnswer::getAnswerText);
+        List<QuestionAnswer> a = current.stream().sorted(order).toList();
+        List<QuestionAnswer> b = desired.stream().sorted(order).toList();
+        for (int i = 0; i < a.size(); i++) {
+            if (a.get(i).getSortOrder() != b.get(i).getSortOrder()
+                    || !Objects.equals(a.get(i).getAnswerText(), b.get(i).getAnswerText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문제는 multi-row INSERT 로 한 번에 저장해 ID 를 받고, 정답은 모아서 저장
+     * (문제 수와 무관하게 몇 번의 쿼리로 끝남)
+     *
+     * @param requests questions 와 같은 순서의 원본 요청 (정답 출처)
+     * @return 저장한 정답 (ID 포함)
+     */
+    private List<QuestionAnswer> insertQuestions(List<Question> questions, List<QuestionCreateRequest> requests) {
+        if (questions.isEmpty()) {
+            return List.of();
+        }
+        for (int from = 0; from < questions.size(); from += INSERT_CHUNK) {
+            questionMapper.insertQuestions(questions.subList(from, Math.min(questions.size(), from + INSERT_CHUNK)));
+        }
+
+        List<QuestionAnswer> answers = new ArrayList<>();
+        for (int i = 0; i < questions.size(); i++) {
+            answers.addAll(toAnswers(questions.get(i).getId(), requests.get(i).getAnswers()));
+        }
+        insertAnswers(answers);
+        return answers;
+    }
+
+    private void insertAnswers(List<QuestionAnswer> answers) {
+        for (int from = 0; from < answers.size(); from += INSERT_CHUNK) {
+            questionAnswerMapper.insertAnswers(answers.subList(from, Math.min(answers.size(), from + INSERT_CHUNK)));
+        }
+    }
+
+    private List<QuestionAnswer> toAnswers(Long questionId, List<AnswerCreateRequest> answers) {
         if (answers == null || answers.isEmpty()) {
-            return;
+            return List.of();
         }
 
+        List<QuestionAnswer> result = new ArrayList<>(answers.size());
         int idx = 1;
         for (AnswerCreateRequest answerRequest : answers) {
             // 빈 정답 제외
@@ -385,35 +617,32 @@ public class QuizServiceImpl implements QuizService {
             QuestionAnswer answer = new QuestionAnswer();
             answer.setQuestionId(questionId);
             answer.setAnswerText(answerRequest.getAnswerText());
-            answer.setAnswerText(answerRequest.getAnswerText());
             answer.setSortOrder(answerRequest.getSortOrder() != null ? answerRequest.getSortOrder() : idx);
 
-            questionAnswerMapper.insertAnswer(answer);
+            result.add(answer);
             idx++;
         }
+        return result;
     }
 
-    private List<QuestionResponse> loadQuestions(Long quizId) {
-        List<Question> questions = questionMapper.findByQuizId(quizId);
-        Map<Long, List<QuestionAnswerDto>> answersByQuestion = loadAnswersByQuestionIds(
-                questions.stream().map(Question::getId).toList()
-        );
+    private List<QuestionResponse> toQuestionResponses(QuizBundle bundle) {
+        return toQuestionResponses(bundle.getQuestions(), bundle::getAnswers);
+    }
+
+    private List<QuestionResponse> toQuestionResponses(List<Question> questions,
+                                                       Function<Long, List<QuestionAnswer>> answersOf) {
         return questions.stream()
                 .map(q -> QuestionResponse.builder()
                         .id(q.getId())
                         .order(q.getQuestionOrder())
                         .description(q.getDescription())
                         .imageUrl(q.getImageUrl())
-                        .answers(answersByQuestion.getOrDefault(q.getId(), List.of()))
+                        .answers(toAnswerDtos(answersOf.apply(q.getId())))
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private List<QuestionResponse> mapQuestionsWithAnswers(List<Question> questions) {
-        Map<Long, List<QuestionAnswerDto>> answersByQuestion = loadAnswersByQuestionIds(
-                questions.stream().map(Question::getId).toList()
-        );
-
+    private List<QuestionResponse> mapQuestionsWithAnswers(QuizBundle bundle, List<Question> questions) {
         final int[] orderSeq = {1};
         return questions.stream()
                 .map(q -> QuestionResponse.builder()
@@ -421,32 +650,24 @@ public class QuizServiceImpl implements QuizService {
                         .order(orderSeq[0]++)
                         .description(q.getDescription())
                         .imageUrl(q.getImageUrl())
-                        .answers(answersByQuestion.getOrDefault(q.getId(), List.of()))
+                        .answers(toAnswerDtos(bundle.getAnswers(q.getId())))
                         .build())
                 .collect(Collectors.toList());
     }
 
     /**
-     * 복수의 질문 ID에 대한 정답 조회
+     * 정답 엔티티 -> DTO (묶음의 목록은 공유되므로 매번 새 DTO 로)
      */
-    private Map<Long, List<QuestionAnswerDto>> loadAnswersByQuestionIds(List<Long> questionIds) {
-        if (questionIds == null || questionIds.isEmpty()) {
-            return Map.of();
-        }
-
-        List<QuestionAnswer> answers = questionAnswerMapper.findByQuestionIds(questionIds);
-
+    private List<QuestionAnswerDto> toAnswerDtos(List<QuestionAnswer> answers) {
         return answers.stream()
-                .collect(Collectors.groupingBy(
-                        QuestionAnswer::getQuestionId,
-                        Collectors.mapping(a -> {
-                            QuestionAnswerDto dto = new QuestionAnswerDto();
-                            dto.setId(a.getId());
-                            dto.setAnswerText(a.getAnswerText());
-                            dto.setSortOrder(a.getSortOrder());
-                            return dto;
-                        }, Collectors.toList())
-                ));
+                .map(a -> {
+                    QuestionAnswerDto dto = new QuestionAnswerDto();
+                    dto.setId(a.getId());
+                    dto.setAnswerText(a.getAnswerText());
+                    dto.setSortOrder(a.getSortOrder());
+                    return dto;
+                })
+                .collect(Collectors.toList());
     }
 
     private UserResponse findAuthor(Long userId) {
@@ -483,30 +704,124 @@ public class QuizServiceImpl implements QuizService {
     @Transactional(readOnly = true)
     public List<QuizSummaryDto> getQuizzesOfFollowings(Long userId, int page, int size) {
         int offset = (page - 1) * size;
-        return quizMapper.findQuizzesOfFollowings(userId, offset, size);
+        List<QuizSummaryDto> quizzes = quizMapper.findQuizzesOfFollowings(userId, offset, size);
+        quizzes.forEach(quizCounterService::apply);
+        return quizzes;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<QuizSummaryDto> getLikedQuizzes(Long userId, int page, int size) {
         int offset = (page - 1) * size;
-        return quizMapper.findLikedQuizzesByUser(userId, offset, size);
+        List<QuizSummaryDto> quizzes = quizMapper.findLikedQuizzesByUser(userId, offset, size);
+        quizzes.forEach(quizCounterService::apply);
+        return quizzes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<QuizSummaryDto> getQuizzesOfFollowingsByCursor(Long userId, String cursor, int size) {
+        int safeSize = normalizeCursorSize(size);
+        QuizCursor after = QuizCursor.decode(cursor, FEED_CURSOR_SORT);
+        List<QuizSummaryDto> rows = quizMapper.findQuizzesOfFollowingsAfter(userId, after, safeSize + 1);
+        return toFeedPage(rows, safeSize, QuizSummaryDto::getCreatedAt);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<QuizSummaryDto> getLikedQuizzesByCursor(Long userId, String cursor, int size) {
+        int safeSize = normalizeCursorSize(size);
+        QuizCursor after = QuizCursor.decode(cursor, FEED_CURSOR_SORT);
+        List<QuizSummaryDto> rows = quizMapper.findLikedQuizzesByUserAfter(userId, after, safeSize + 1);
+        return toFeedPage(rows, safeSize, QuizSummaryDto::getLikedAt);
+    }
+
+    /**
+     * 피드 목록(팔로잉/좋아요) 공통: 다음 커서 생성 후 반영 전 카운터 합산
+     */
+    private CursorPageResponse<QuizSummaryDto> toFeedPage(List<QuizSummaryDto> rows, int size,
+                                                          Function<QuizSummaryDto, LocalDateTime> cursorAt) {
+        boolean hasNext = rows.size() > size;
+        List<QuizSummaryDto> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            QuizSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new QuizCursor(FEED_CURSOR_SORT, cursorAt.apply(last), last.getId(), 0, 0).encode();
+        }
+        content.forEach(quizCounterService::apply);
+
+        return CursorPageResponse.<QuizSummaryDto>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
+    /**
+     * 공개 퀴즈 전체 개수 (짧은 TTL 캐시, 목록과 약간 어긋날 수 있음)
+     */
+    private int countQuizzes() {
+        Cache cache = cacheManager.getCache(QUIZ_COUNT_CACHE);
+        if (cache == null) {
+            return quizMapper.countQuizzes();
+        }
+        Integer total = cache.get(QUIZ_COUNT_ALL, quizMapper::countQuizzes);
+        return total != null ? total : 0;
+    }
+
+    /**
+     * 검색 결과 한 페이지 - 색인에서 정렬/페이징한 뒤 해당 페이지 ID 만 조회
+     * (relevance: 제목 일치 우선, popular/views: 좋아요/조회수, 그 외: 최신순)
+     */
+    private List<Quiz> findSearchPage(QuizSearchIndex.Hits hits, String sort, int offset, int size) {
+        if (hits.isEmpty() || offset >= hits.total()) {
+            return List.of();
+        }
+        return findSearchableInOrder(hits.page(sort, offset, size));
+    }
+
+    /**
+     * 색인이 고른 ID 를 그 순서대로 조회. DB 에서 검색 대상이 아니게 된 퀴즈
+     * (작성자 탈퇴, 삭제 등 색인 반영이 빠진 경우)는 빼고 색인에서도 제거한다.
+     */
+    private List<Quiz> findSearchableInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Quiz> byId = quizMapper.findSearchableByIds(ids).stream()
+                .collect(Collectors.toMap(Quiz::getId, q -> q));
+        if (byId.size() < ids.size()) {
+            searchIndex.evict(ids.stream().filter(id -> !byId.containsKey(id)).toList());
+        }
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static String normalizeSort(String sort) {
+        return ("popular".equals(sort) || "views".equals(sort)) ? sort : "latest";
+    }
+
+    private static int normalizeCursorSize(int size) {
+        return Math.min(Math.max(size, 1), 100);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<QuestionResponse> getQuizQuestions(Long quizId, Long viewerId, Integer limit) {
-        Quiz quiz = quizMapper.findById(quizId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        QuizBundle bundle = bundleProvider.get(quizId);
 
         // 비공개 퀴즈 접근 제어
-        if (!quiz.isPublic() && (viewerId == null || !quiz.getUserId().equals(viewerId))) {
+        if (!bundle.isPublic() && (viewerId == null || !bundle.getUserId().equals(viewerId))) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
         int safeLimit = normalizeLimit(limit);
-        List<Question> questions = questionMapper.findRandomByQuizId(quizId, safeLimit);
-        return mapQuestionsWithAnswers(questions);
+        List<Question> questions = questionSampler.sample(bundle, safeLimit);
+        return mapQuestionsWithAnswers(bundle, questions);
     }
 
     private int normalizeLimit(Integer limit) {
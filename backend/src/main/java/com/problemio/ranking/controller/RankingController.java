@@ -3,11 +3,13 @@ package com.problemio.ranking.controller;
 import com.problemio.ranking.domain.RankingPeriod;
 import com.problemio.ranking.dto.RankingResponseDto;
 import com.problemio.ranking.service.RankingService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -23,8 +25,14 @@ public class RankingController {
     @GetMapping
     public List<RankingResponseDto> getRanking(
             @RequestParam(name = "period", defaultValue = "TODAY") String period,
-            @RequestParam(name = "limit", defaultValue = "20") int limit
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
+        // from/to 가 주어지면 임의 기간 랭킹
+        if (from != null || to != null) {
+            return rankingService.getRanking(from, to, limit);
+        }
         RankingPeriod p = RankingPeriod.valueOf(period.toUpperCase());
         return rankingService.getRanking(p, limit);
     }
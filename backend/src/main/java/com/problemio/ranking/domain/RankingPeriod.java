@@ -3,5 +3,7 @@ package com.problemio.ranking.domain;
 public enum RankingPeriod {
     TODAY,
     YESTERDAY,
-    WEEK
+    WEEK,
+    MONTH,
+    ALL_TIME
 }
@@ -0,0 +1,64 @@
+package com.problemio.ranking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 랭킹 버킷 재구성용 집계 행 (유저 x 날짜 x 퀴즈)
+ */
+public class RankingBucketRowDto {
+    private Long userId;
+    private LocalDate day;
+    private Long quizId;
+    private int totalCorrect;
+    private int totalQuestions;
+    private LocalDateTime lastSubmittedAt;
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public void setQuizId(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    public int getTotalCorrect() {
+        return totalCorrect;
+    }
+
+    public void setTotalCorrect(int totalCorrect) {
+        this.totalCorrect = totalCorrect;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public void setTotalQuestions(int totalQuestions) {
+        this.totalQuestions = totalQuestions;
+    }
+
+    public LocalDateTime getLastSubmittedAt() {
+        return lastSubmittedAt;
+    }
+
+    public void setLastSubmittedAt(LocalDateTime lastSubmittedAt) {
+        this.lastSubmittedAt = lastSubmittedAt;
+    }
+}
@@ -8,7 +8,7 @@ public class RankingResponseDto {
     private String nickname;
 
 
-    @JsonSerialize(using = FileUrlSerializer.class)
+    @JsonSerialize(using = FileUrlSerializer.AvatarSmall.class)
     private String profileImageUrl;
 
     private int solvedQuizCount;
@@ -1,17 +1,24 @@
 package com.problemio.ranking.mapper;
 
+import com.problemio.ranking.dto.RankingBucketRowDto;
 import com.problemio.ranking.dto.RankingRowDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface RankingMapper {
-    List<RankingRowDto> findRankingInPeriod(
+    void streamRankingRows(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end,
-            @Param("limit") int limit
+            ResultHandler<RankingRowDto> handler
+    );
+
+    List<RankingBucketRowDto> findDailyBucketRows(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 }
@@ -0,0 +1,202 @@
+package com.problemio.ranking.service;
+
+import com.problemio.global.util.TimeUtils;
+import com.problemio.ranking.dto.RankingBucketRowDto;
+import com.problemio.ranking.dto.RankingRowDto;
+import com.problemio.ranking.mapper.RankingMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 랭킹용 일별 집계 저장소 (유저 x 날짜 버킷).
+ * - 버킷: 푼 퀴즈 집합, 정답 수 합, 문항 수 합, 마지막 제출 시각
+ * - 제출 시작/채점 시 증분 반영, 기간 랭킹은 최대 며칠치 버킷 병합으로 계산
+ * - 기동 시 보관 기간 전체를 DB에서 재구성, 매일 새벽 지난 날짜 재구성 + 오래된 버킷 정리
+ * 제출은 시작 시각(submitted_at)이 속한 날짜에 집계된다 (기존 SQL 기준과 동일).
+ */
+@Slf4j
+@Component
+public class DailyRankingStore implements SmartInitializingSingleton {
+
+    private final RankingMapper rankingMapper;
+    private final int retentionDays;
+
+    private final ConcurrentHashMap<LocalDate, ConcurrentHashMap<Long, Bucket>> days = new ConcurrentHashMap<>();
+
+    public DailyRankingStore(RankingMapper rankingMapper,
+                             @Value("${ranking.buckets.retention-days:8}") int retentionDays) {
+        this.rankingMapper = rankingMapper;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 모든 빈 초기화(제출 저널 복구 포함) 이후, 웹 요청을 받기 전에 재구성
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        LocalDate today = today();
+        rebuild(oldestRetained(today), today.plusDays(1));
+    }
+
+    /**
+     * 지난 날짜 버킷을 DB 기준으로 다시 맞추고(삭제된 제출 등 반영) 보관 기간이 지난 버킷 정리
+     * 오늘 버킷은 진행 중인 증분과 겹치지 않도록 건드리지 않는다.
+     */
+    @Scheduled(cron = "${ranking.buckets.rebuild-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        LocalDate today = today();
+        LocalDate oldest = oldestRetained(today);
+        days.keySet().removeIf(day -> day.isBefore(oldest));
+        rebuild(oldest, today);
+    }
+
+    public void onSubmissionStarted(Long userId, Long quizId, int totalQuestions, LocalDateTime submittedAt) {
+        if (userId == null || submittedAt == null) {
+            return;
+        }
+        bucket(submittedAt.toLocalDate(), userId).start(quizId, totalQuestions, submittedAt);
+    }
+
+    public void onCorrectDelta(Long userId, LocalDateTime submittedAt, int delta) {
+        if (userId == null || submittedAt == null || delta == 0) {
+            return;
+        }
+        bucket(submittedAt.toLocalDate(), userId).addCorrect(delta);
+    }
+
+    /**
+     * 보관 중인 버킷만으로 계산 가능한 기간인지
+     */
+    public boolean covers(LocalDate from) {
+        return !from.isBefore(oldestRetained(today()));
+    }
+
+    /**
+     * [from, to) 기간 버킷을 유저별로 병합한 집계 (닉네임/프로필 제외)
+     */
+    public List<RankingRowDto> aggregate(LocalDate from, LocalDate to) {
+        Map<Long, Merged> merged = new HashMap<>();
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            Map<Long, Bucket> buckets = days.get(day);
+            if (buckets == null) {
+                continue;
+            }
+            buckets.forEach((userId, bucket) ->
+                    bucket.mergeInto(merged.computeIfAbsent(userId, k -> new Merged())));
+        }
+
+        List<RankingRowDto> rows = new ArrayList<>(merged.size());
+        merged.forEach((userId, m) -> {
+            if (m.quizIds.isEmpty()) {
+                return;
+            }
+            RankingRowDto row = new RankingRowDto();
+            row.setUserId(userId);
+            row.setSolvedQuizCount(m.quizIds.size());
+            row.setTotalCorrect((int) m.totalCorrect);
+            row.setTotalQuestions((int) m.totalQuestions);
+            row.setAccuracy(m.totalQuestions > 0 ? (double) m.totalCorrect / m.totalQuestions : 0.0);
+            row.setLastSubmittedAt(m.lastSubmittedAt);
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    private void rebuild(LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+        List<RankingBucketRowDto> rows = rankingMapper.findDailyBucketRows(from.atStartOfDay(), to.atStartOfDay());
+
+        Map<LocalDate, ConcurrentHashMap<Long, Bucket>> fresh = new HashMap<>();
+        for (RankingBucketRowDto row : rows) {
+            fresh.computeIfAbsent(row.getDay(), k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(row.getUserId(), k -> new Bucket())
+                    .load(row);
+        }
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            ConcurrentHashMap<Long, Bucket> buckets = fresh.get(day);
+            if (buckets == null) {
+                days.remove(day);
+            } else {
+                days.put(day, buckets);
+            }
+        }
+        log.info("랭킹 일별 버킷 재구성: {} ~ {}, rows={}, {}ms",
+                from, to.minusDays(1), rows.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Bucket bucket(LocalDate day, Long userId) {
+        return days.computeIfAbsent(day, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(userId, k -> new Bucket());
+    }
+
+    private LocalDate oldestRetained(LocalDate today) {
+        return today.minusDays(retentionDays - 1L);
+    }
+
+    private static LocalDate today() {
+        return TimeUtils.now().toLocalDate();
+    }
+
+    /**
+     * 유저 하루치 집계
+     */
+    private static final class Bucket {
+        private final Set<Long> quizIds = new HashSet<>();
+        private long totalCorrect;
+        private long totalQuestions;
+        private LocalDateTime lastSubmittedAt;
+
+        private synchronized void load(RankingBucketRowDto row) {
+            quizIds.add(row.getQuizId());
+            totalCorrect += row.getTotalCorrect();
+            totalQuestions += row.getTotalQuestions();
+            touch(row.getLastSubmittedAt());
+        }
+
+        private synchronized void start(Long quizId, int questions, LocalDateTime submittedAt) {
+            quizIds.add(quizId);
+            totalQuestions += questions;
+            touch(submittedAt);
+        }
+
+        private synchronized void addCorrect(int delta) {
+            totalCorrect += delta;
+        }
+
+        private synchronized void mergeInto(Merged m) {
+            m.quizIds.addAll(quizIds);
+            m.totalCorrect += totalCorrect;
+            m.totalQuestions += totalQuestions;
+            if (lastSubmittedAt != null
+                    && (m.lastSubmittedAt == null || lastSubmittedAt.isAfter(m.lastSubmittedAt))) {
+                m.lastSubmittedAt = lastSubmittedAt;
+            }
+        }
+
+        private void touch(LocalDateTime at) {
+            if (at != null && (lastSubmittedAt == null || at.isAfter(lastSubmittedAt))) {
+                lastSubmittedAt = at;
+            }
+        }
+    }
+
+    private static final class Merged {
+        private final Set<Long> quizIds = new HashSet<>();
+        private long totalCorrect;
+        private long totalQuestions;
+        private LocalDateTime lastSubmittedAt;
+    }
+}
@@ -0,0 +1,53 @@
+package com.problemio.ranking.service;
+
+import com.problemio.ranking.dto.RankingRowDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 점수 계산 (유일한 점수 공식, SQL 에는 정렬 공식을 두지 않는다)
+ * score = 푼 퀴즈 수 * (base + weight * 보정 정답률) * 문제 수 보정 * 100
+ * - 보정 정답률: 사전 문항 수/정답률로 스무딩 (몇 문제만 푼 100% 방지)
+ * - 문제 수 보정: 퀴즈당 평균 문항 수 / 최대 문항 수 (최대 1.0)
+ */
+@Component
+public class RankingScorer {
+
+    private final double accuracyBase;
+    private final double accuracyWeight;
+    private final double priorQuestions;
+    private final double priorAccuracy;
+    private final double fullQuestionCount;
+
+    public RankingScorer(@Value("${ranking.score.accuracy-base:0.3}") double accuracyBase,
+                         @Value("${ranking.score.accuracy-weight:0.7}") double accuracyWeight,
+                         @Value("${ranking.score.prior-questions:20.0}") double priorQuestions,
+                         @Value("${ranking.score.prior-accuracy:0.6}") double priorAccuracy,
+                         @Value("${ranking.score.full-question-count:50.0}") double fullQuestionCount) {
+        this.accuracyBase = accuracyBase;
+        this.accuracyWeight = accuracyWeight;
+        this.priorQuestions = priorQuestions;
+        this.priorAccuracy = priorAccuracy;
+        this.fullQuestionCount = fullQuestionCount;
+    }
+
+    public double score(RankingRowDto r) {
+        double smoothedAccuracy = smoothedAccuracy(r.getTotalCorrect(), r.getTotalQuestions());
+        double avgQuestionsPerQuiz = (r.getSolvedQuizCount() > 0)
+                ? ((double) r.getTotalQuestions() / r.getSolvedQuizCount())
+                : 0.0;
+        // 문제 수 보정: 50개 풀 때 1.0, 10개 풀 때 0.2
+        double questionAdjust = Math.min(1.0, avgQuestionsPerQuiz / fullQuestionCount);
+
+        return r.getSolvedQuizCount()
+                * (accuracyBase + accuracyWeight * smoothedAccuracy)
+                * questionAdjust
+                * 100;
+    }
+
+    private double smoothedAccuracy(int totalCorrect, int totalQuestions) {
+        double correct = Math.max(0, totalCorrect);
+        double questions = Math.max(0, totalQuestions);
+        return (correct + priorQuestions * priorAccuracy) / (questions + priorQuestions);
+    }
+}
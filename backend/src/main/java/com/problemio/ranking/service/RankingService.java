@@ -3,8 +3,14 @@ package com.problemio.ranking.service;
 import com.problemio.ranking.domain.RankingPeriod;
 import com.problemio.ranking.dto.RankingResponseDto;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface RankingService {
     List<RankingResponseDto> getRanking(RankingPeriod period, int limit);
+
+    /**
+     * 임의 기간 랭킹 (from ~ to, 양 끝 날짜 포함)
+     */
+    List<RankingResponseDto> getRanking(LocalDate from, LocalDate to, int limit);
 }
@@ -1,9 +1,15 @@
 package com.problemio.ranking.service;
 
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.TimeUtils;
 import com.problemio.ranking.domain.RankingPeriod;
 import com.problemio.ranking.dto.RankingResponseDto;
 import com.problemio.ranking.dto.RankingRowDto;
 import com.problemio.ranking.mapper.RankingMapper;
+import com.problemio.ranking.service.TopRankingHeap.ScoredRow;
+import com.problemio.user.dto.UserResponse;
+import com.problemio.user.mapper.UserMapper;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,21 +17,38 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 public class RankingServiceImpl implements RankingService {
 
+    private final DailyRankingStore dailyRankingStore;
     private final RankingMapper rankingMapper;
+    private final RankingScorer rankingScorer;
+    private final UserMapper userMapper;
 
-    private static final double ACCURACY_BASE = 0.3;   // weight floor
-    private static final double ACCURACY_WEIGHT = 0.7; // weight for accuracy
-    private static final double PRIOR_QUESTIONS = 20.0;
-    private static final double PRIOR_ACCURACY = 0.6;
-    private static final double FULL_QUESTION_COUNT = 50.0; // 선택지 최대값 (10/20/30/50)
+    private static final int PROFILE_LOOKAHEAD = 5; // 탈퇴 유저 제외 대비 여유분
 
-    public RankingServiceImpl(RankingMapper rankingMapper) {
+    // 점수 내림차순, 동점이면 최근 제출 순
+    private static final Comparator<ScoredRow> SCORE_ORDER = Comparator
+            .comparingDouble((ScoredRow r) -> r.score).reversed()
+            .thenComparing(r -> r.row.getLastSubmittedAt(), Comparator.nullsLast(Comparator.reverseOrder()));
+
+    public RankingServiceImpl(DailyRankingStore dailyRankingStore,
+                              RankingMapper rankingMapper,
+                              RankingScorer rankingScorer,
+                              UserMapper userMapper) {
+        this.dailyRankingStore = dailyRankingStore;
         this.rankingMapper = rankingMapper;
+        this.rankingScorer = rankingScorer;
+        this.userMapper = userMapper;
     }
 
     @Override
@@ -36,55 +59,118 @@ public class RankingServiceImpl implements RankingService {
     )
     @Transactional(readOnly = true)
     public List<RankingResponseDto> getRanking(RankingPeriod period, int limit) {
-        int topN = (limit > 0 && limit <= 100) ? limit : 20;
-
-        LocalDate today = LocalDate.now();
-        LocalDateTime start;
-        LocalDateTime end;
+        LocalDate today = TimeUtils.now().toLocalDate();
+        LocalDate start;
+        LocalDate end;
 
         switch (period) {
             case TODAY -> {
-                start = today.atStartOfDay();
-                end = today.plusDays(1).atStartOfDay();
+                start = today;
+                end = today.plusDays(1);
             }
             case YESTERDAY -> {
-                start = today.minusDays(1).atStartOfDay();
-                end = today.atStartOfDay();
+                start = today.minusDays(1);
+                end = today;
             }
             case WEEK -> {
-                LocalDate weekStart = today.with(DayOfWeek.MONDAY);
-                start = weekStart.atStartOfDay();
-                end = weekStart.plusWeeks(1).atStartOfDay();
+                start = today.with(DayOfWeek.MONDAY);
+                end = start.plusWeeks(1);
+            }
+            case MONTH -> {
+                start = today.withDayOfMonth(1);
+                end = start.plusMonths(1);
+            }
+            case ALL_TIME -> {
+                start = null;
+                end = null;
             }
             default -> throw new IllegalArgumentException("Unsupported period: " + period);
         }
 
-        List<RankingRowDto> rows = rankingMapper.findRankingInPeriod(start, end, topN);
+        return rank(start, end, normalizeLimit(limit));
+    }
 
-        return rows.stream()
-                .map(r -> RankingResponseDto.of(r, calcScore(r)))
-                .sorted((a, b) -> Integer.compare(b.getScore(), a.getScore()))
-                .toList();
+    @Override
+    @Cacheable(
+            value = "ranking",
+            key = "'RANGE_' + #from + '_' + #to + '_' + #limit",
+            unless = "#result == null || #result.isEmpty()"
+    )
+    @Transactional(readOnly = true)
+    public List<RankingResponseDto> getRanking(LocalDate from, LocalDate to, int limit) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        // to 는 해당 날짜 포함
+        return rank(from, to.plusDays(1), normalizeLimit(limit));
     }
 
-    private int calcScore(RankingRowDto r) {
-        double smoothedAccuracy = calcSmoothedAccuracy(r.getTotalCorrect(), r.getTotalQuestions());
-        double avgQuestionsPerQuiz = (r.getSolvedQuizCount() > 0)
-                ? ((double) r.getTotalQuestions() / r.getSolvedQuizCount())
-                : 0.0;
-        // 문제 수 보정: 50개 풀 때 1.0, 10개 풀 때 0.2
-        double questionAdjust = Math.min(1.0, avgQuestionsPerQuiz / FULL_QUESTION_COUNT);
-
-        double score = r.getSolvedQuizCount()
-                * (ACCURACY_BASE + ACCURACY_WEIGHT * smoothedAccuracy)
-                * questionAdjust
-                * 100;
-        return (int) Math.round(score);
+    /**
+     * [start, end) 기간 랭킹. 후보 행을 하나씩 점수 계산해 상위 N 힙에만 남긴다.
+     * - 보관 중인 일별 버킷으로 계산 가능한 기간이면 메모리에서, 아니면 SQL 집계 스트리밍
+     * - 탈퇴 유저가 여유분보다 많이 섞여 있으면 제외 목록을 늘려 다시 선별
+     */
+    private List<RankingResponseDto> rank(LocalDate start, LocalDate end, int topN) {
+        Consumer<Consumer<RankingRowDto>> source = source(start, end);
+        Set<Long> excluded = new HashSet<>();
+        int capacity = topN + PROFILE_LOOKAHEAD;
+
+        while (true) {
+            TopRankingHeap heap = new TopRankingHeap(capacity, SCORE_ORDER);
+            source.accept(row -> {
+                if (row.getSolvedQuizCount() > 0 && !excluded.contains(row.getUserId())) {
+                    heap.offer(row, rankingScorer.score(row));
+                }
+            });
+
+            List<RankingResponseDto> result = fillProfiles(heap.sorted(), topN, excluded);
+            // 모든 후보가 힙에 들어왔다면 더 찾을 유저가 없음
+            if (result.size() >= topN || heap.offered() <= heap.capacity()) {
+                return result;
+            }
+            capacity *= 2;
+        }
+    }
+
+    private Consumer<Consumer<RankingRowDto>> source(LocalDate start, LocalDate end) {
+        if (start != null && end != null && dailyRankingStore.covers(start)) {
+            return sink -> dailyRankingStore.aggregate(start, end).forEach(sink);
+        }
+        LocalDateTime from = start != null ? start.atStartOfDay() : null;
+        LocalDateTime to = end != null ? end.atStartOfDay() : null;
+        return sink -> rankingMapper.streamRankingRows(from, to, ctx -> sink.accept(ctx.getResultObject()));
+    }
+
+    /**
+     * 점수 순으로 닉네임/프로필을 채워 상위 topN 구성. 탈퇴 유저는 excluded 에 기록
+     */
+    private List<RankingResponseDto> fillProfiles(List<ScoredRow> scored, int topN, Set<Long> excluded) {
+        List<RankingResponseDto> result = new ArrayList<>(topN);
+        if (scored.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, UserResponse> users = new HashMap<>();
+        for (UserResponse u : userMapper.findByIds(scored.stream().map(r -> r.row.getUserId()).toList())) {
+            users.put(u.getId(), u);
+        }
+        for (ScoredRow r : scored) {
+            UserResponse user = users.get(r.row.getUserId());
+            if (user == null) {
+                excluded.add(r.row.getUserId());
+                continue;
+            }
+            if (result.size() >= topN) {
+                continue;
+            }
+            r.row.setNickname(user.getNickname());
+            r.row.setProfileImageUrl(user.getProfileImageUrl());
+            result.add(RankingResponseDto.of(r.row, (int) Math.round(r.score)));
+        }
+        return result;
     }
 
-    private double calcSmoothedAccuracy(int totalCorrect, int totalQuestions) {
-        double correct = Math.max(0, totalCorrect);
-        double questions = Math.max(0, totalQuestions);
-        return (correct + PRIOR_QUESTIONS * PRIOR_ACCURACY) / (questions + PRIOR_QUESTIONS);
+    private static int normalizeLimit(int limit) {
+        return (limit > 0 && limit <= 100) ? limit : 20;
     }
 }
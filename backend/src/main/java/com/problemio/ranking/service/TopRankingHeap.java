@@ -0,0 +1,71 @@
+package com.problemio.ranking.service;
+
+import com.problemio.ranking.dto.RankingRowDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 상위 N개만 유지하는 최소 힙.
+ * 루트가 현재 N개 중 가장 낮은 순위이므로, 새 행은 루트보다 높을 때만 교체한다.
+ * 전체 행 수와 무관하게 메모리 O(N), 시간 O(행 수 * log N).
+ */
+final class TopRankingHeap {
+
+    private final int capacity;
+    private final Comparator<ScoredRow> order;
+    private final PriorityQueue<ScoredRow> heap;
+    private long offered;
+
+    /**
+     * @param order 순위 순서 (앞설수록 높은 순위)
+     */
+    TopRankingHeap(int capacity, Comparator<ScoredRow> order) {
+        this.capacity = capacity;
+        this.order = order;
+        this.heap = new PriorityQueue<>(capacity + 1, order.reversed());
+    }
+
+    void offer(RankingRowDto row, double score) {
+        offered++;
+        ScoredRow candidate = new ScoredRow(row, score);
+        if (heap.size() < capacity) {
+            heap.add(candidate);
+        } else if (order.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * 지금까지 들어온 행 수 (capacity 이하면 모든 후보가 힙에 남아 있음)
+     */
+    long offered() {
+        return offered;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 높은 순위부터 정렬된 결과
+     */
+    List<ScoredRow> sorted() {
+        List<ScoredRow> rows = new ArrayList<>(heap);
+        rows.sort(order);
+        return rows;
+    }
+
+    static final class ScoredRow {
+        final RankingRowDto row;
+        final double score;
+
+        ScoredRow(RankingRowDto row, double score) {
+            this.row = row;
+            this.score = score;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,10 +26,15 @@ public class SubmissionController {
 
     @GetMapping("/api/quizzes/{quizId}/play-context")
     public ResponseEntity<ApiResponse<QuizPlayContextResponse>> getPlayContext(
-            @PathVariable Long quizId) {
-        return ResponseEntity.ok(
-                ApiResponse.success(submissionService.getPlayContext(quizId))
-        );
+            @PathVariable Long quizId,
+            WebRequest webRequest) {
+        QuizPlayContextResponse context = submissionService.getPlayContext(quizId);
+
+        // 퀴즈 내용이 그대로면 304 (If-None-Match 비교, 응답에 ETag 설정)
+        if (webRequest.checkNotModified("\"" + context.getVersion() + "\"")) {
+            return null;
+        }
+        return ResponseEntity.ok(ApiResponse.success(context));
     }
 
     @PostMapping("/api/quizzes/{quizId}/submissions")
@@ -18,6 +18,8 @@ public class QuizPlayContextResponse {
     private String thumbnailUrl;
     private int totalQuestions;
     private List<QuestionDto> questions;
+    // 퀴즈 묶음 버전 (ETag 와 같은 값, 내용이 바뀌면 달라짐)
+    private String version;
 
     @Data
     @NoArgsConstructor
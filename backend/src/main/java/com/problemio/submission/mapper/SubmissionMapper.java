@@ -22,6 +22,11 @@ public interface SubmissionMapper {
                         @Param("quizId") Long quizId,
                         @Param("playTime") Double playTime);
 
+    void updateProgress(@Param("id") Long id,
+                        @Param("quizId") Long quizId,
+                        @Param("correctCount") int correctCount,
+                        @Param("playTime") Double playTime);
+
     void updatePlayTimeNow(@Param("id") Long id, @Param("quizId") Long quizId, @Param("now") LocalDateTime now);
 
 
@@ -0,0 +1,110 @@
+package com.problemio.submission.service;
+
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 퀴즈 단위로 미리 컴파일된 정답 키.
+ * 문제 ID -> 정규화된 정답 집합을 들고 있어 채점 시 DB 조회 없이 해시 조회로 끝난다.
+ * 생성 이후 변경되지 않는 불변 객체이며, 퀴즈 수정/삭제 시 통째로 무효화된다.
+ */
+public final class QuizAnswerKey {
+
+    private final Long quizId;
+    private final int totalQuestions;
+    private final Map<Long, QuestionKey> questions;
+
+    private QuizAnswerKey(Long quizId, Map<Long, QuestionKey> questions) {
+        this.quizId = quizId;
+        this.totalQuestions = questions.size();
+        this.questions = questions;
+    }
+
+    public static QuizAnswerKey compile(Long quizId, List<Question> questions, List<QuestionAnswer> answers) {
+        // 문제 ID별 정답 묶기 (정렬 순서 유지)
+        Map<Long, List<QuestionAnswer>> grouped = new HashMap<>();
+        for (QuestionAnswer a : answers) {
+            grouped.computeIfAbsent(a.getQuestionId(), k -> new ArrayList<>()).add(a);
+        }
+
+        Map<Long, QuestionKey> compiled = new HashMap<>(Math.max(16, questions.size() * 2));
+        for (Question q : questions) {
+            List<QuestionAnswer> list = grouped.getOrDefault(q.getId(), List.of());
+            List<String> texts = new ArrayList<>(list.size());
+            Set<String> normalized = new HashSet<>(Math.max(4, list.size() * 2));
+            for (QuestionAnswer a : list) {
+                texts.add(a.getAnswerText());
+                normalized.add(normalize(a.getAnswerText()));
+            }
+            compiled.put(q.getId(), new QuestionKey(
+                    q.getId(),
+                    q.getImageUrl(),
+                    Collections.unmodifiableList(texts),
+                    Collections.unmodifiableSet(normalized)
+            ));
+        }
+        return new QuizAnswerKey(quizId, Collections.unmodifiableMap(compiled));
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    /**
+     * 해당 퀴즈에 속한 문제가 아니면 null
+     */
+    public QuestionKey get(Long questionId) {
+        return questionId == null ? null : questions.get(questionId);
+    }
+
+    public static final class QuestionKey {
+        private final Long questionId;
+        private final String imageUrl;
+        private final List<String> answerTexts;
+        private final Set<String> normalizedAnswers;
+
+        private QuestionKey(Long questionId, String imageUrl, List<String> answerTexts, Set<String> normalizedAnswers) {
+            this.questionId = questionId;
+            this.imageUrl = imageUrl;
+            this.answerTexts = answerTexts;
+            this.normalizedAnswers = normalizedAnswers;
+        }
+
+        public boolean isCorrect(String userAnswer) {
+            return normalizedAnswers.contains(normalize(userAnswer));
+        }
+
+        public Long getQuestionId() {
+            return questionId;
+        }
+
+        public String getImageUrl() {
+            return imageUrl;
+        }
+
+        public List<String> getAnswerTexts() {
+            return answerTexts;
+        }
+
+        public String getFirstAnswer() {
+            return answerTexts.isEmpty() ? null : answerTexts.get(0);
+        }
+    }
+}
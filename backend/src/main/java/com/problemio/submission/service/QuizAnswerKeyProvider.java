@@ -0,0 +1,74 @@
+package com.problemio.submission.service;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.util.CacheEvictions;
+import com.problemio.quiz.service.QuizBundle;
+import com.problemio.quiz.service.QuizBundleProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 퀴즈별 정답 키(QuizAnswerKey) 캐시.
+ * - play-context 진입 시 미리 적재(preload)
+ * - 캐시 미스 시 퀴즈 묶음(QuizBundle)에서 컴파일 (동일 키 동시 요청은 하나로 합쳐짐)
+ * - 퀴즈 수정/삭제 시 evict
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizAnswerKeyProvider {
+
+    public static final String CACHE_NAME = "quizAnswerKey";
+
+    private final QuizBundleProvider bundleProvider;
+    private final CacheManager cacheManager;
+
+    /**
+     * 캐시된 정답 키 조회, 없으면 DB에서 컴파일 후 적재
+     */
+    public QuizAnswerKey get(Long quizId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return load(quizId);
+        }
+        try {
+            return cache.get(quizId, () -> load(quizId));
+        } catch (Cache.ValueRetrievalException e) {
+            // 로더에서 던진 비즈니스 예외는 그대로 전달
+            if (e.getCause() instanceof BusinessException be) {
+                throw be;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 조회해 둔 퀴즈 묶음으로 정답 키를 만들어 캐시에 넣는다.
+     */
+    public QuizAnswerKey preload(QuizBundle bundle) {
+        QuizAnswerKey key = QuizAnswerKey.compile(bundle.getQuizId(), bundle.getQuestions(), bundle.getAnswers());
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(bundle.getQuizId(), key);
+        }
+        return key;
+    }
+
+    /**
+     * 즉시 + 커밋 후 한 번 더 무효화
+     */
+    public void evict(Long quizId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null || quizId == null) {
+            return;
+        }
+        CacheEvictions.nowAndAfterCommit(() -> cache.evict(quizId));
+    }
+
+    private QuizAnswerKey load(Long quizId) {
+        // 존재하지 않는(또는 작성자가 탈퇴한) 퀴즈는 묶음 조회에서 예외
+        QuizBundle bundle = bundleProvider.get(quizId);
+        return QuizAnswerKey.compile(quizId, bundle.getQuestions(), bundle.getAnswers());
+    }
+}
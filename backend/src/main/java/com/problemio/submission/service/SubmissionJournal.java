@@ -0,0 +1,159 @@
+package com.problemio.submission.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아직 DB에 반영되지 않은 답안 기록을 로컬 파일에 먼저 남기는 append-only 저널.
+ * - 한 줄에 답안 하나: submissionId,quizId,questionId,correct(0/1),playTime
+ * - flush 시점마다 세그먼트를 교체(rotate)하고, DB 반영이 끝난 세그먼트는 삭제
+ * - 서버 재시작 시 남아 있는 세그먼트를 읽어 재반영
+ * 동시성 제어는 호출자(SubmissionWriteBehindBuffer)의 락에 맡긴다.
+ */
+@Slf4j
+class SubmissionJournal {
+
+    private static final String PREFIX = "submission-journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path dir;
+    private final boolean fsync;
+
+    private long sequence;
+    private Path activePath;
+    private FileChannel active;
+
+    SubmissionJournal(Path dir, boolean fsync) throws IOException {
+        this.dir = dir;
+        this.fsync = fsync;
+        Files.createDirectories(dir);
+        this.sequence = findLastSequence();
+    }
+
+    /**
+     * 재시작 전에 남아 있던 세그먼트 목록 (오래된 순)
+     */
+    List<Path> existingSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, PREFIX + "*" + SUFFIX)) {
+            for (Path p : stream) {
+                segments.add(p);
+            }
+        }
+        segments.sort((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)));
+        return segments;
+    }
+
+    /**
+     * 새 세그먼트를 연다. 기존에 쓰던 세그먼트가 있으면 닫고 경로를 반환한다.
+     */
+    Path rotate() throws IOException {
+        Path sealed = activePath;
+        if (active != null) {
+            active.close();
+        }
+        sequence++;
+        activePath = dir.resolve(PREFIX + sequence + SUFFIX);
+        active = FileChannel.open(activePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return sealed;
+    }
+
+    void append(List<Entry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder(entries.size() * 40);
+        for (Entry e : entries) {
+            sb.append(e.getSubmissionId()).append(',')
+                    .append(e.getQuizId()).append(',')
+                    .append(e.getQuestionId()).append(',')
+                    .append(e.isCorrect() ? '1' : '0').append(',')
+                    .append(e.getPlayTime()).append('\n');
+        }
+        ByteBuffer buf = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.US_ASCII));
+        while (buf.hasRemaining()) {
+            active.write(buf);
+        }
+        if (fsync) {
+            active.force(false);
+        }
+    }
+
+    List<Entry> read(Path segment) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(segment, StandardCharsets.US_ASCII)) {
+            String[] parts = line.split(",");
+            // 마지막 줄이 쓰다 만 상태일 수 있으므로 형식이 맞지 않으면 무시
+            if (parts.length != 5) {
+                continue;
+            }
+            try {
+                entries.add(new Entry(
+                        Long.parseLong(parts[0]),
+                        Long.parseLong(parts[1]),
+                        Long.parseLong(parts[2]),
+                        "1".equals(parts[3]),
+                        Double.parseDouble(parts[4])
+                ));
+            } catch (NumberFormatException e) {
+                log.warn("손상된 저널 라인 무시: {} ({})", line, segment.getFileName());
+            }
+        }
+        return entries;
+    }
+
+    void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            log.warn("저널 세그먼트 삭제 실패: {}", segment, e);
+        }
+    }
+
+    void close() throws IOException {
+        if (active != null) {
+            active.close();
+            active = null;
+        }
+    }
+
+    private long findLastSequence() throws IOException {
+        long max = 0;
+        for (Path p : existingSegments()) {
+            max = Math.max(max, sequenceOf(p));
+        }
+        return max;
+    }
+
+    private static long sequenceOf(Path p) {
+        String name = p.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class Entry {
+        private final long submissionId;
+        private final long quizId;
+        private final long questionId;
+        private final boolean correct;
+        private final double playTime;
+    }
+}
@@ -2,13 +2,10 @@ package com.problemio.submission.service;
 
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
-import com.problemio.quiz.domain.Question;
-import com.problemio.quiz.domain.QuestionAnswer;
-import com.problemio.quiz.mapper.QuestionAnswerMapper;
 import com.problemio.quiz.mapper.QuestionMapper;
-import com.problemio.quiz.mapper.QuizMapper;
+import com.problemio.quiz.service.QuizBundle;
+import com.problemio.quiz.service.QuizBundleProvider;
 import com.problemio.submission.domain.Submission;
-import com.problemio.submission.domain.SubmissionDetail;
 import com.problemio.submission.dto.QuizAnswerResponse;
 import com.problemio.submission.dto.QuizPlayContextResponse;
 import com.problemio.submission.dto.QuizSubmissionRequest;
@@ -16,15 +13,10 @@ import com.problemio.submission.dto.QuizSubmissionResponse;
 import com.problemio.submission.mapper.SubmissionDetailMapper;
 import com.problemio.submission.mapper.SubmissionMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Locale;
 
 import com.problemio.global.util.TimeUtils;
 
@@ -34,23 +26,21 @@ public class SubmissionServiceImpl implements SubmissionService {
 
     private final SubmissionMapper submissionMapper;
     private final SubmissionDetailMapper submissionDetailMapper;
-    private final QuizMapper quizMapper;
+    private final QuizBundleProvider bundleProvider;
+    private final QuizAnswerKeyProvider answerKeyProvider;
+    private final SubmissionWriteBehindBuffer writeBehindBuffer;
     private final QuestionMapper questionMapper;
-    private final QuestionAnswerMapper questionAnswerMapper;
-    private final CacheManager cacheManager;
 
     @Override
     @Transactional(readOnly = true)
     public QuizPlayContextResponse getPlayContext(Long quizId) {
-        var quiz = quizMapper.findById(quizId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        // 퀴즈 정보 + 문제 + 정답은 캐시된 묶음에서 (퀴즈 미존재 시 예외)
+        QuizBundle bundle = bundleProvider.get(quizId);
 
-        List<Question> questions = questionMapper.findByQuizId(quizId);
+        // 제출 시 채점에 쓸 정답 키를 미리 컴파일해 캐시에 적재
+        answerKeyProvider.preload(bundle);
 
-        // 미리 캐시에 로드
-        preloadQuestionCaches(questions, quizId);
-
-        List<QuizPlayContextResponse.QuestionDto> questionDtos = questions.stream()
+        List<QuizPlayContextResponse.QuestionDto> questionDtos = bundle.getQuestions().stream()
                 .map(q -> QuizPlayContextResponse.QuestionDto.builder()
                         .id(q.getId())
                         .order(q.getQuestionOrder())
@@ -61,69 +51,64 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         return QuizPlayContextResponse.builder()
                 .quizId(quizId)
-                .title(quiz.getTitle())
-                .description(quiz.getDescription())
-                .thumbnailUrl(quiz.getThumbnailUrl())
-                .totalQuestions(questions.size())
+                .title(bundle.getTitle())
+                .description(bundle.getDescription())
+                .thumbnailUrl(bundle.getThumbnailUrl())
+                .totalQuestions(bundle.getTotalQuestions())
                 .questions(questionDtos)
+                .version(bundle.getVersion())
                 .build();
     }
 
     @Override
     @Transactional
     public QuizAnswerResponse submitQuiz(Long quizId, Long userIdOrNull, QuizSubmissionRequest request) {
-        // 퀴즈 존재 여부 확인
-        quizMapper.findById(quizId).orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
-
-        // 문제 검증 및 정답 목록 조회
-        Question question = getQuestionCached(request.getQuestionId());
-        if (!question.getQuizId().equals(quizId)) {
+        // 정답 키 조회 (캐시 미스 시에만 DB 조회, 퀴즈 미존재 시 예외)
+        QuizAnswerKey answerKey = answerKeyProvider.get(quizId);
+
+        // 해당 퀴즈의 문제인지 검증 후 해시 조회로 채점
+        QuizAnswerKey.QuestionKey question = answerKey.get(request.getQuestionId());
+        if (question == null) {
+            // 키에 없으면 다른 퀴즈의 문제인지(ACCESS_DENIED) 없는 문제인지(QUESTION_NOT_FOUND) 구분
+            questionMapper.findById(request.getQuestionId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
+        boolean correct = question.isCorrect(request.getAnswerText());
 
-        List<QuestionAnswer> answers = getQuestionAnswersCached(request.getQuestionId());
-        boolean correct = isAnswerCorrect(request.getAnswerText(), answers);
-
-        Submission submission = resolveSubmission(quizId, userIdOrNull, request.getSubmissionId(), request.getTotalQuestions());
-
-        SubmissionDetail detail = new SubmissionDetail();
-        detail.setSubmissionId(submission.getId());
-        detail.setQuestionId(question.getId());
-        detail.setCorrect(correct);
-        submissionDetailMapper.insertSubmissionDetail(detail);
-
-        int correctCount = submissionDetailMapper.countCorrectBySubmissionId(submission.getId());
-        
-        // Java에서 플레이 시간 업데이트
-        LocalDateTime now = TimeUtils.now();
-        double playTime = 0.0;
-        if (submission.getSubmittedAt() != null) {
-            java.time.Duration duration = java.time.Duration.between(submission.getSubmittedAt(), now);
-            playTime = duration.getSeconds() + (duration.getNano() / 1_000_000_000.0);
-        }
-        
-        submissionMapper.updatePlayTime(submission.getId(), quizId, playTime);
-        submissionMapper.updateCorrectCount(submission.getId(), quizId, correctCount);
+        Long submissionId = resolveSubmission(quizId, userIdOrNull, request.getSubmissionId(), request.getTotalQuestions(), answerKey);
 
-        int answeredCount = submissionDetailMapper.countBySubmissionId(submission.getId());
-        submission.setCorrectCount(correctCount);
+        // 메모리 진행 상태 갱신 + 저널 기록 (DB 반영은 write-behind 버퍼가 일괄 처리)
+        SubmissionWriteBehindBuffer.Snapshot progress =
+                writeBehindBuffer.record(submissionId, quizId, question.getQuestionId(), correct);
 
         return QuizAnswerResponse.builder()
-                .submissionId(submission.getId())
-                .questionId(question.getId())
+                .submissionId(submissionId)
+                .questionId(question.getQuestionId())
                 .correct(correct)
-                .correctAnswer(answers.isEmpty() ? null : answers.get(0).getAnswerText())
-                .correctAnswers(answers.stream().map(QuestionAnswer::getAnswerText).toList())
+                .correctAnswer(question.getFirstAnswer())
+                .correctAnswers(question.getAnswerTexts())
                 .imageUrl(question.getImageUrl())
-                .totalQuestions(submission.getTotalQuestions())
-                .answeredCount(answeredCount)
-                .correctCount(correctCount)
+                .totalQuestions(progress.getTotalQuestions())
+                .answeredCount(progress.getAnsweredCount())
+                .correctCount(progress.getCorrectCount())
                 .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public QuizSubmissionResponse getSubmissionResult(Long submissionId) {
+        // 아직 DB에 반영되지 않은 답안이 있을 수 있으므로 메모리 상태 우선
+        var progress = writeBehindBuffer.snapshot(submissionId);
+        if (progress.isPresent()) {
+            return QuizSubmissionResponse.builder()
+                    .submissionId(submissionId)
+                    .totalQuestions(progress.get().getTotalQuestions())
+                    .correctCount(progress.get().getCorrectCount())
+                    .answeredCount(progress.get().getAnsweredCount())
+                    .build();
+        }
+
         Submission submission = submissionMapper.findById(submissionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
 
@@ -137,86 +122,32 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .build();
     }
 
-    private Submission resolveSubmission(Long quizId, Long userIdOrNull, Long submissionId, Integer requestedTotal) {
-        if (submissionId == null) {
-            int totalQuestions = requestedTotal != null
-                    ? requestedTotal
-                    : questionMapper.findByQuizId(quizId).size();
-
-            Submission submission = new Submission();
-            submission.setQuizId(quizId);
-            submission.setUserId(userIdOrNull);
-            submission.setTotalQuestions(totalQuestions);
-            submission.setCorrectCount(0);
-            submission.setSubmittedAt(TimeUtils.now());
-            submissionMapper.insertSubmission(submission);
-            return submission;
+    private Long resolveSubmission(Long quizId, Long userIdOrNull, Long submissionId, Integer requestedTotal,
+                                   QuizAnswerKey answerKey) {
+        if (submissionId != null) {
+            // 기존 제출 이력 검증은 write-behind 버퍼 로딩 시 수행
+            return submissionId;
         }
 
-        // 기존 제출 이력 조회 (제출 시간 확인용)
-        Submission submission = submissionMapper.findById(submissionId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
-        
-        // 필요 시 총 문항 수 업데이트?
-        if (requestedTotal != null && !requestedTotal.equals(submission.getTotalQuestions())) {
-            // submission.setTotalQuestions(requestedTotal); // Not persisting this update for now as it's not critical
-        }
-        
-        return submission;
-    }
-
-    private boolean isAnswerCorrect(String userAnswer, List<QuestionAnswer> answers) {
-        String normalizedUser = normalize(userAnswer);
-        return answers.stream()
-                .map(QuestionAnswer::getAnswerText)
-                .map(this::normalize)
-                .anyMatch(ans -> ans.equals(normalizedUser));
-    }
-
-    @Cacheable(cacheNames = "question", key = "#questionId", sync = true)
-    private Question getQuestionCached(Long questionId) {
-        return questionMapper.findById(questionId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
-    }
+        int totalQuestions = requestedTotal != null
+                ? requestedTotal
+                : answerKey.getTotalQuestions();
 
-    @Cacheable(cacheNames = "questionAnswers", key = "#questionId", sync = true)
-    private List<QuestionAnswer> getQuestionAnswersCached(Long questionId) {
-        return questionAnswerMapper.findByQuestionId(questionId);
-    }
-
-    private String normalize(String value) {
-        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        Submission submission = new Submission();
+        submission.setQuizId(quizId);
+        submission.setUserId(userIdOrNull);
+        submission.setTotalQuestions(totalQuestions);
+        submission.setCorrectCount(0);
+        submission.setSubmittedAt(TimeUtils.now());
+        submissionMapper.insertSubmission(submission);
+        writeBehindBuffer.register(submission);
+        return submission.getId();
     }
 
-    private void preloadQuestionCaches(List<Question> questions, Long quizId) {
-        Cache questionCache = cacheManager.getCache("question");
-        Cache answerCache = cacheManager.getCache("questionAnswers");
-        if (questionCache == null || answerCache == null) {
-            return;
-        }
-
-        // 질문 캐시 채우기
-        for (Question q : questions) {
-            questionCache.put(q.getId(), q);
-        }
-
-        // 퀴즈 단위로 정답을 한 번에 조회해 캐시에 채움
-        List<QuestionAnswer> answers = questionAnswerMapper.findByQuizId(quizId);
-        // 문제 ID별 리스트 구성
-        java.util.Map<Long, java.util.List<QuestionAnswer>> grouped = new java.util.HashMap<>();
-        for (QuestionAnswer a : answers) {
-            grouped.computeIfAbsent(a.getQuestionId(), k -> new java.util.ArrayList<>()).add(a);
-        }
-        // 캐시에 저장 (빈 정답도 빈 리스트로 처리하여 캐시 미스 방지)
-        for (Question q : questions) {
-            java.util.List<QuestionAnswer> list = grouped.getOrDefault(q.getId(), java.util.List.of());
-            answerCache.put(q.getId(), list);
-        }
-    }
     @Override
     @Transactional
     public Long createSubmission(Long quizId, Long userId, Long challengeId) {
-        int totalQuestions = questionMapper.findByQuizId(quizId).size();
+        int totalQuestions = bundleProvider.get(quizId).getTotalQuestions();
 
         Submission submission = new Submission();
         submission.setQuizId(quizId);
@@ -228,6 +159,7 @@ public class SubmissionServiceImpl implements SubmissionService {
         submission.setPlayTime(0.0);
 
         submissionMapper.insertSubmission(submission);
+        writeBehindBuffer.register(submission);
         return submission.getId();
     }
 }
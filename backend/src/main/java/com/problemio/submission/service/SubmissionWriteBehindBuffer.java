@@ -0,0 +1,597 @@
+package com.problemio.submission.service;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.ranking.service.DailyRankingStore;
+import com.problemio.submission.domain.Submission;
+import com.problemio.submission.domain.SubmissionDetail;
+import com.problemio.submission.mapper.SubmissionDetailMapper;
+import com.problemio.submission.mapper.SubmissionMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제출 답안 write-behind 버퍼.
+ * - 제출(submission)별 진행 상태(정답 수, 응답 수, 플레이 시간)를 메모리에 유지해 답안마다 즉시 응답
+ * - 답안은 로컬 저널에 먼저 기록한 뒤(유실 방지), 주기/건수 조건에 따라 DB에 일괄 반영
+ *   (submission_details 멀티 로우 INSERT + 제출당 UPDATE 1회)
+ * - 서버 재시작 시 반영되지 않은 저널을 다시 읽어 DB에 반영
+ * - 삭제된 퀴즈는 정리(PurgeWorker)가 끝날 때까지 닫아 두고 새 답안을 받거나 반영하지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionWriteBehindBuffer {
+
+    private final SubmissionMapper submissionMapper;
+    private final SubmissionDetailMapper submissionDetailMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskScheduler taskScheduler;
+    private final DailyRankingStore dailyRankingStore;
+
+    @Value("${submission.write-behind.journal-dir:./data/submission-journal}")
+    private String journalDir;
+
+    @Value("${submission.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${submission.write-behind.idle-evict-minutes:30}")
+    private long idleEvictMinutes;
+
+    @Value("${submission.write-behind.fsync:true}")
+    private boolean fsync;
+
+    // 제출 ID -> 진행 상태
+    private final ConcurrentHashMap<Long, Progress> progresses = new ConcurrentHashMap<>();
+    // 답안 기록(read) / 세그먼트 교체·drain(write)
+    private final ReentrantReadWriteLock journalLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // DB 반영이 끝나면 삭제할 세그먼트 (flushLock 보호)
+    private final List<Path> sealedSegments = new ArrayList<>();
+    // 삭제되어 답안을 받지 않는 퀴즈 (연관 데이터 정리가 끝나면 해제)
+    private final Set<Long> closedQuizzes = ConcurrentHashMap.newKeySet();
+
+    private SubmissionJournal journal;
+    private TransactionTemplate txTemplate;
+
+    @PostConstruct
+    public void init() throws IOException {
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        // 호출자 트랜잭션과 분리 (반영 실패가 호출자 롤백으로 번지지 않도록)
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.journal = new SubmissionJournal(Paths.get(journalDir).toAbsolutePath().normalize(), fsync);
+        List<Path> leftovers = journal.existingSegments();
+        journal.rotate();
+        if (!leftovers.isEmpty()) {
+            replay(leftovers);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        flush();
+        journal.close();
+    }
+
+    /**
+     * 방금 INSERT한 제출을 등록한다.
+     * 트랜잭션 안이면 커밋 이후에만 DB 반영 대상이 된다 (FK 위반 방지).
+     */
+    public void register(Submission submission) {
+        Progress progress = new Progress(submission, List.of());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            progresses.put(submission.getId(), progress);
+            onStarted(submission);
+            return;
+        }
+        progress.committed = false;
+        progresses.put(submission.getId(), progress);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    progress.committed = true;
+                    onStarted(submission);
+                } else {
+                    progresses.remove(submission.getId(), progress);
+                    synchronized (progress) {
+                        progress.detached = true;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 답안 하나를 기록하고 갱신된 진행 상태를 반환한다.
+     * 같은 문제를 다시 풀면 마지막 답안 기준으로 정답 수를 다시 계산한다.
+     */
+    public Snapshot record(Long submissionId, Long quizId, Long questionId, boolean correct) {
+        while (true) {
+            Progress progress = load(submissionId);
+            if (!progress.quizId.equals(quizId)) {
+                throw new BusinessException(ErrorCode.ACCESS_DENIED);
+            }
+
+            journalLock.readLock().lock();
+            try {
+                synchronized (progress) {
+                    // 정리(evict)된 상태 객체를 잡았으면 다시 로딩
+                    if (progress.detached) {
+                        continue;
+                    }
+                    // discardQuiz 는 쓰기 잠금으로 닫으므로 읽기 잠금 안에서 확인하면 빠짐이 없다
+                    if (closedQuizzes.contains(quizId)) {
+                        throw new BusinessException(ErrorCode.QUIZ_NOT_FOUND);
+                    }
+                    double playTime = progress.elapsedSeconds(TimeUtils.now());
+                    journal.append(List.of(new SubmissionJournal.Entry(
+                            submissionId, quizId, questionId, correct, playTime)));
+
+                    int correctBefore = progress.correctCount;
+                    if (progress.apply(questionId, correct, playTime)) {
+                        pendingCount.incrementAndGet();
+                    }
+                    dailyRankingStore.onCorrectDelta(progress.userId, progress.submittedAt,
+                            progress.correctCount - correctBefore);
+                    Snapshot snapshot = progress.snapshot();
+                    requestFlushIfFull();
+                    return snapshot;
+                }
+            } catch (IOException e) {
+                log.error("제출 저널 기록 실패: submissionId={}", submissionId, e);
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            } finally {
+                journalLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 메모리에 올라와 있는 제출의 최신 진행 상태 (DB보다 앞서 있을 수 있음)
+     */
+    public Optional<Snapshot> snapshot(Long submissionId) {
+        Progress progress = progresses.get(submissionId);
+        if (progress == null) {
+            return Optional.empty();
+        }
+        synchronized (progress) {
+            return progress.detached ? Optional.empty() : Optional.of(progress.snapshot());
+        }
+    }
+
+    /**
+     * 퀴즈 삭제 시 아직 반영되지 않은 답안 폐기. 이후 이 퀴즈의 답안은 받지 않는다 (reopenQuiz 전까지)
+     * 호출한 트랜잭션이 롤백되면 다시 연다.
+     */
+    public void discardQuiz(Long quizId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        closedQuizzes.remove(quizId);
+                    }
+                }
+            });
+        }
+        journalLock.writeLock().lock();
+        try {
+            closedQuizzes.add(quizId);
+            progresses.values().removeIf(p -> {
+                synchronized (p) {
+                    if (!p.quizId.equals(quizId)) {
+                        return false;
+                    }
+                    pendingCount.addAndGet(-p.pending.size());
+                    p.detached = true;
+                    return true;
+                }
+            });
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 연관 데이터 정리 chunk 직전에 호출 (PurgeWorker).
+     * 남은 답안을 폐기하고, 이미 꺼내 반영 중인 flush 가 끝날 때까지 기다린다.
+     * 반환 후에는 이 퀴즈의 답안이 DB 에 쓰이지 않는다.
+     */
+    public void fenceQuiz(Long quizId) {
+        discardQuiz(quizId);
+        flushLock.lock();
+        flushLock.unlock();
+    }
+
+    /**
+     * 연관 데이터 정리가 끝난 퀴즈 해제 (제출 행이 없으므로 더 이상 답안이 들어올 수 없음)
+     */
+    public void reopenQuiz(Long quizId) {
+        closedQuizzes.remove(quizId);
+    }
+
+    @Scheduled(fixedDelayString = "${submission.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            doFlush();
+            evictIdle();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 기간 랭킹 일별 집계에 새 제출 반영 (커밋된 제출만)
+    private void onStarted(Submission submission) {
+        dailyRankingStore.onSubmissionStarted(submission.getUserId(), submission.getQuizId(),
+                submission.getTotalQuestions(), submission.getSubmittedAt());
+    }
+
+    private void requestFlushIfFull() {
+        if (pendingCount.get() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    private void doFlush() {
+        List<Batch> batches = new ArrayList<>();
+
+        journalLock.writeLock().lock();
+        try {
+            Path sealed = journal.rotate();
+            if (sealed != null) {
+                sealedSegments.add(sealed);
+            }
+
+            List<SubmissionJournal.Entry> carryOver = new ArrayList<>();
+            for (Progress p : progresses.values()) {
+                synchronized (p) {
+                    if (!p.committed) {
+                        // 아직 커밋 전인 제출은 다음 세그먼트로 이월
+                        carryOver.addAll(p.pendingEntries());
+                    } else if (p.dirty) {
+                        batches.add(p.drain());
+                    }
+                }
+            }
+            journal.append(carryOver);
+            pendingCount.set(carryOver.size());
+        } catch (IOException e) {
+            log.error("제출 저널 세그먼트 교체 실패", e);
+            return;
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+
+        if (!batches.isEmpty()) {
+            long start = System.nanoTime();
+            List<Batch> failed = write(batches);
+            if (!failed.isEmpty() && !requeue(failed)) {
+                // 재기록 실패 시 세그먼트를 남겨 재시작 시 복구
+                return;
+            }
+            log.debug("제출 write-behind flush: submissions={}, failed={}, {}ms",
+                    batches.size(), failed.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+
+        // drain된 답안은 DB에 반영됐거나 새 세그먼트에 다시 기록됨
+        sealedSegments.forEach(journal::delete);
+        sealedSegments.clear();
+    }
+
+    /**
+     * 일괄 반영 후, 실패 시 제출 단위로 재시도. 일시적 오류로 실패한 배치를 반환한다.
+     */
+    private List<Batch> write(List<Batch> batches) {
+        try {
+            txTemplate.executeWithoutResult(status -> persist(batches));
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("제출 일괄 반영 실패, 제출 단위로 재시도: {}", e.getMessage());
+        }
+
+        List<Batch> failed = new ArrayList<>();
+        for (Batch batch : batches) {
+            try {
+                txTemplate.executeWithoutResult(status -> persist(List.of(batch)));
+            } catch (DataIntegrityViolationException e) {
+                // 이미 삭제된 제출/문제 -> 재시도해도 실패하므로 폐기
+                log.warn("반영 불가 답안 폐기: submissionId={} ({})", batch.submissionId, e.getMessage());
+            } catch (RuntimeException e) {
+                failed.add(batch);
+            }
+        }
+        return failed;
+    }
+
+    private void persist(List<Batch> batches) {
+        List<SubmissionDetail> details = new ArrayList<>();
+        for (Batch batch : batches) {
+            details.addAll(batch.details);
+        }
+        for (int from = 0; from < details.size(); from += batchSize) {
+            submissionDetailMapper.insertSubmissionDetails(
+                    details.subList(from, Math.min(from + batchSize, details.size())));
+        }
+        for (Batch batch : batches) {
+            submissionMapper.updateProgress(batch.submissionId, batch.quizId, batch.correctCount, batch.playTime);
+        }
+    }
+
+    /**
+     * 일시적 오류로 반영하지 못한 답안을 다시 대기열과 현재 세그먼트에 넣는다.
+     */
+    private boolean requeue(List<Batch> failed) {
+        journalLock.readLock().lock();
+        try {
+            for (Batch batch : failed) {
+                Progress p = progresses.get(batch.submissionId);
+                if (p == null) {
+                    continue;
+                }
+                synchronized (p) {
+                    if (p.detached) {
+                        continue;
+                    }
+                    List<SubmissionJournal.Entry> entries = new ArrayList<>();
+                    for (SubmissionDetail d : batch.details) {
+                        // 그 사이 같은 문제를 다시 풀었다면 최신 답안 유지
+                        if (p.pending.putIfAbsent(d.getQuestionId(), d.isCorrect()) == null) {
+                            pendingCount.incrementAndGet();
+                            entries.add(new SubmissionJournal.Entry(
+                                    p.submissionId, p.quizId, d.getQuestionId(), d.isCorrect(), p.playTime));
+                        }
+                    }
+                    p.dirty = true;
+                    journal.append(entries);
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("미반영 답안 재기록 실패", e);
+            return false;
+        } finally {
+            journalLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반영이 끝나고 오래 사용되지 않은 진행 상태 정리
+     */
+    private void evictIdle() {
+        long threshold = System.currentTimeMillis() - Duration.ofMinutes(idleEvictMinutes).toMillis();
+        journalLock.writeLock().lock();
+        try {
+            progresses.values().removeIf(p -> {
+                synchronized (p) {
+                    if (p.committed && !p.dirty && p.pending.isEmpty() && p.lastAccess < threshold) {
+                        p.detached = true;
+                        return true;
+                    }
+                    return false;
+                }
+            });
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    private Progress load(Long submissionId) {
+        Progress progress = progresses.get(submissionId);
+        if (progress != null) {
+            return progress;
+        }
+        Submission submission = submissionMapper.findById(submissionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
+        Progress loaded = new Progress(submission, submissionDetailMapper.findBySubmissionId(submissionId));
+        Progress existing = progresses.putIfAbsent(submissionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 재시작 전 남은 저널을 DB에 반영 (ON DUPLICATE KEY 이므로 중복 반영되어도 무방)
+     */
+    private void replay(List<Path> segments) throws IOException {
+        Map<Long, Map<Long, Boolean>> answersBySubmission = new LinkedHashMap<>();
+        Map<Long, Long> quizIds = new HashMap<>();
+        Map<Long, Double> playTimes = new HashMap<>();
+        for (Path segment : segments) {
+            for (SubmissionJournal.Entry e : journal.read(segment)) {
+                answersBySubmission.computeIfAbsent(e.getSubmissionId(), k -> new LinkedHashMap<>())
+                        .put(e.getQuestionId(), e.isCorrect());
+                quizIds.put(e.getSubmissionId(), e.getQuizId());
+                playTimes.merge(e.getSubmissionId(), e.getPlayTime(), Math::max);
+            }
+        }
+
+        int applied = 0;
+        boolean allApplied = true;
+        for (Map.Entry<Long, Map<Long, Boolean>> entry : answersBySubmission.entrySet()) {
+            Long submissionId = entry.getKey();
+            try {
+                Boolean done = txTemplate.execute(status -> {
+                    if (submissionMapper.findById(submissionId).isEmpty()) {
+                        return false;
+                    }
+                    List<SubmissionDetail> details = new ArrayList<>();
+                    entry.getValue().forEach((questionId, correct) ->
+                            details.add(toDetail(submissionId, questionId, correct)));
+                    submissionDetailMapper.insertSubmissionDetails(details);
+                    int correctCount = submissionDetailMapper.countCorrectBySubmissionId(submissionId);
+                    submissionMapper.updateProgress(submissionId, quizIds.get(submissionId), correctCount,
+                            playTimes.get(submissionId));
+                    return true;
+                });
+                if (Boolean.TRUE.equals(done)) {
+                    applied++;
+                }
+            } catch (DataIntegrityViolationException e) {
+                log.warn("저널 복구 중 반영 불가 답안 폐기: submissionId={}", submissionId);
+            } catch (RuntimeException e) {
+                allApplied = false;
+                log.error("저널 복구 실패: submissionId={}", submissionId, e);
+            }
+        }
+
+        log.info("제출 저널 복구: segments={}, submissions={}, applied={}",
+                segments.size(), answersBySubmission.size(), applied);
+        if (allApplied) {
+            segments.forEach(journal::delete);
+        }
+    }
+
+    private static SubmissionDetail toDetail(Long submissionId, Long questionId, boolean correct) {
+        SubmissionDetail detail = new SubmissionDetail();
+        detail.setSubmissionId(submissionId);
+        detail.setQuestionId(questionId);
+        detail.setCorrect(correct);
+        return detail;
+    }
+
+    /**
+     * 제출 하나의 진행 상태. 모든 필드는 객체 자체의 모니터로 보호한다.
+     */
+    private static final class Progress {
+        private final Long submissionId;
+        private final Long quizId;
+        private final Long userId;
+        private final Long challengeId;
+        private final int totalQuestions;
+        private final LocalDateTime submittedAt;
+
+        // 문제 ID -> 마지막 답안 정답 여부 (DB 반영분 포함)
+        private final Map<Long, Boolean> answers = new HashMap<>();
+        // 아직 DB에 반영되지 않은 답안
+        private Map<Long, Boolean> pending = new LinkedHashMap<>();
+        private int correctCount;
+        private double playTime;
+        private boolean dirty;
+        private volatile boolean committed = true;
+        private boolean detached;
+        private long lastAccess = System.currentTimeMillis();
+
+        private Progress(Submission submission, List<SubmissionDetail> persisted) {
+            this.submissionId = submission.getId();
+            this.quizId = submission.getQuizId();
+            this.userId = submission.getUserId();
+            this.challengeId = submission.getChallengeId();
+            this.totalQuestions = submission.getTotalQuestions();
+            this.submittedAt = submission.getSubmittedAt();
+            this.playTime = submission.getPlayTime() != null ? submission.getPlayTime() : 0.0;
+            for (SubmissionDetail d : persisted) {
+                answers.put(d.getQuestionId(), d.isCorrect());
+            }
+            this.correctCount = (int) answers.values().stream().filter(Boolean::booleanValue).count();
+        }
+
+        private double elapsedSeconds(LocalDateTime now) {
+            if (submittedAt == null) {
+                return 0.0;
+            }
+            Duration duration = Duration.between(submittedAt, now);
+            return duration.getSeconds() + (duration.getNano() / 1_000_000_000.0);
+        }
+
+        /**
+         * @return 반영 대기 답안이 새로 추가되었으면 true
+         */
+        private boolean apply(Long questionId, boolean correct, double playTime) {
+            Boolean previous = answers.put(questionId, correct);
+            if (Boolean.TRUE.equals(previous)) {
+                correctCount--;
+            }
+            if (correct) {
+                correctCount++;
+            }
+            this.playTime = playTime;
+            this.dirty = true;
+            this.lastAccess = System.currentTimeMillis();
+            return pending.put(questionId, correct) == null;
+        }
+
+        private Batch drain() {
+            List<SubmissionDetail> details = new ArrayList<>(pending.size());
+            pending.forEach((questionId, correct) -> details.add(toDetail(submissionId, questionId, correct)));
+            pending = new LinkedHashMap<>();
+            dirty = false;
+            return new Batch(submissionId, quizId, details, correctCount, playTime);
+        }
+
+        private List<SubmissionJournal.Entry> pendingEntries() {
+            List<SubmissionJournal.Entry> entries = new ArrayList<>(pending.size());
+            pending.forEach((questionId, correct) ->
+                    entries.add(new SubmissionJournal.Entry(submissionId, quizId, questionId, correct, playTime)));
+            return entries;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(submissionId, quizId, userId, challengeId, totalQuestions,
+                    answers.size(), correctCount, playTime, submittedAt);
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class Batch {
+        private final Long submissionId;
+        private final Long quizId;
+        private final List<SubmissionDetail> details;
+        private final int correctCount;
+        private final double playTime;
+    }
+
+    /**
+     * 진행 상태 조회용 불변 스냅샷
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final Long submissionId;
+        private final Long quizId;
+        private final Long userId;
+        private final Long challengeId;
+        private final int totalQuestions;
+        private final int answeredCount;
+        private final int correctCount;
+        private final double playTime;
+        private final LocalDateTime submittedAt;
+    }
+}
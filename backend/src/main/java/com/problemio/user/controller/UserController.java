@@ -2,6 +2,7 @@ package com.problemio.user.controller;
 
 import com.problemio.global.auth.CustomUserDetails;
 import com.problemio.global.common.ApiResponse;
+import com.problemio.global.dto.CursorPageResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.dto.QuizSummaryDto;
@@ -144,6 +145,28 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
+    // 팔로우한 유저들의 퀴즈 목록 조회 (커서 기반)
+    @GetMapping("/me/quizzes/followings/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<QuizSummaryDto>>> getQuizzesOfFollowingsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = requireLogin(userDetails);
+        return ResponseEntity.ok(ApiResponse.success(quizService.getQuizzesOfFollowingsByCursor(userId, cursor, size)));
+    }
+
+    // 좋아요한 퀴즈 목록 조회 (커서 기반)
+    @GetMapping("/me/quizzes/liked/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<QuizSummaryDto>>> getLikedQuizzesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = requireLogin(userDetails);
+        return ResponseEntity.ok(ApiResponse.success(quizService.getLikedQuizzesByCursor(userId, cursor, size)));
+    }
+
     // 특정 유저의 다른 퀴즈 목록 조회
     @GetMapping("/{userId}/quizzes")
     public ResponseEntity<ApiResponse<List<QuizSummaryDto>>> getUserQuizzes(
@@ -15,7 +15,7 @@ public class UserPopoverResponse {
     private String nickname;        // 닉네임
 
 
-    @JsonSerialize(using = FileUrlSerializer.class)
+    @JsonSerialize(using = FileUrlSerializer.Avatar.class)
     private String profileImageUrl; // 프로필 이미지
     private String statusMessage;   // 상태 메시지
     private String profileTheme;
@@ -0,0 +1,17 @@
+package com.problemio.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유저 정보(프로필/비밀번호/탈퇴) 변경 알림.
+ * 유저 관련 캐시는 각자 이 이벤트를 받아 무효화한다 (변경 지점에서 캐시를 직접 건드리지 않음).
+ * email 은 변경 전 이메일 (탈퇴 시 익명화되기 전 값).
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final String email;
+}
@@ -3,10 +3,13 @@ package com.problemio.user.repository;
 import com.problemio.user.domain.DeleteStatus;
 import com.problemio.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +20,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickname);
 
+    // 비밀번호 해시 교체 (해시는 트랜잭션 밖에서 계산, 읽은 뒤 다른 요청이 먼저 바꿨으면 0 건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash, u.updatedAt = :now WHERE u.id = :id AND u.passwordHash = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash, @Param("now") LocalDateTime now);
+
     // 중복 검사
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
@@ -56,7 +66,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     int countByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 
     // 생성한 퀴즈 수 확인 (Native Query)
-    @Query(value = "SELECT COUNT(*) FROM quizzes WHERE user_id = :userId", nativeQuery = true)
+    @Query(value = "SELECT COUNT(*) FROM quizzes WHERE user_id = :userId AND deleted_at IS NULL", nativeQuery = true)
     long countCreatedQuizzes(@Param("userId") Long userId);
 
 
@@ -0,0 +1,31 @@
+package com.problemio.user.service;
+
+import com.problemio.global.util.CacheEvictions;
+import com.problemio.user.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 변경 시 작성자 프로필 캐시(userProfile) 무효화 (즉시 + 커밋 후 한 번 더)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        CacheEvictions.nowAndAfterCommit(() -> evict(event.getUserId()));
+    }
+
+    private void evict(Long userId) {
+        Cache cache = cacheManager.getCache("userProfile");
+        if (cache != null && userId != null) {
+            cache.evict(userId);
+        }
+    }
+}
@@ -1,34 +1,41 @@
 package com.problemio.user.usecase;
 
+import com.problemio.global.auth.PasswordHasher;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.user.domain.DeleteStatus;
 import com.problemio.user.domain.User;
+import com.problemio.user.event.UserChangedEvent;
 import com.problemio.user.repository.UserRepository;
 import com.problemio.global.util.TimeUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 비밀번호 변경. BCrypt 검증/해시는 DB 커넥션을 잡지 않도록 트랜잭션 없이 수행하고,
+ * 반영은 읽어 온 해시 기준 조건부 UPDATE 한 번 (그 사이 다른 요청이 바꿨으면 INVALID_LOGIN)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ChangePasswordUseCase {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
     public void execute(Long userId, String oldPassword, String newPassword) {
         User user = userRepository.findByIdAndIsDeleted(userId, DeleteStatus.ACTIVE)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(oldPassword, user.getPasswordHash())) {
+        if (!passwordHasher.matches(oldPassword, user.getPasswordHash())) {
             throw new BusinessException(ErrorCode.INVALID_LOGIN);
         }
 
-        String encodedPassword = passwordEncoder.encode(newPassword);
-        user.updatePassword(encodedPassword);
+        String encodedPassword = passwordHasher.encode(newPassword);
+        if (userRepository.updatePasswordIfUnchanged(userId, user.getPasswordHash(), encodedPassword, TimeUtils.now()) == 0) {
+            throw new BusinessException(ErrorCode.INVALID_LOGIN);
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(userId, user.getEmail()));
     }
 }
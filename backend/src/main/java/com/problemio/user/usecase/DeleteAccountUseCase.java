@@ -1,80 +1,93 @@
 package com.problemio.user.usecase;
 
-import com.problemio.comment.mapper.CommentLikeMapper;
 import com.problemio.comment.mapper.CommentMapper;
+import com.problemio.comment.service.CommentPageCache;
 import com.problemio.follow.mapper.FollowMapper;
+import com.problemio.global.auth.PasswordHasher;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.global.util.TimeUtils;
-import com.problemio.quiz.domain.Quiz;
+import com.problemio.purge.service.PurgeJobService;
 import com.problemio.quiz.mapper.QuizLikeMapper;
 import com.problemio.quiz.mapper.QuizMapper;
 import com.problemio.quiz.service.QuizService;
 import com.problemio.user.domain.DeleteStatus;
 import com.problemio.user.domain.User;
-import com.problemio.auth.repository.RefreshTokenRepository;
+import com.problemio.user.event.UserChangedEvent;
+import com.problemio.auth.service.RefreshTokenRegistry;
 import com.problemio.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
 import java.util.UUID;
 
+/**
+ * 회원 탈퇴. 비밀번호 확인(BCrypt)은 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 하고, 삭제/익명화는 한 트랜잭션에서 처리
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class DeleteAccountUseCase {
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenRegistry refreshTokenRegistry;
     private final FollowMapper followMapper;
-    private final QuizLikeMapper quizLikeMapper;
     private final QuizMapper quizMapper;
-    private final CommentLikeMapper commentLikeMapper;
+    private final QuizLikeMapper quizLikeMapper;
     private final CommentMapper commentMapper;
+    private final CommentPageCache commentPageCache;
     private final QuizService quizService;
-    private final PasswordEncoder passwordEncoder;
-    private final CacheManager cacheManager;
+    private final PurgeJobService purgeJobService;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate txTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.txTemplate = new TransactionTemplate(transactionManager);
+    }
 
     public void execute(Long userId, String password) {
-        User user = userRepository.findByIdAndIsDeleted(userId, DeleteStatus.ACTIVE)
+        User found = userRepository.findByIdAndIsDeleted(userId, DeleteStatus.ACTIVE)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHasher.matches(password, found.getPasswordHash())) {
             throw new BusinessException(ErrorCode.INVALID_LOGIN);
         }
+        txTemplate.executeWithoutResult(status -> delete(userId));
+    }
+
+    private void delete(Long userId) {
+        // 트랜잭션 안에서 다시 읽어 변경 감지 대상으로 (확인 사이에 탈퇴됐으면 USER_NOT_FOUND)
+        User user = userRepository.findByIdAndIsDeleted(userId, DeleteStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
         // 1. 연관 데이터 삭제 (기존기능 유지, JPA 리포지토리 사용)
-        refreshTokenRepository.deleteByUser_Id(userId);
+        refreshTokenRegistry.revokeAll(userId);
         followMapper.deleteByUserId(userId);
 
-        List<Long> likedQuizIds = quizLikeMapper.findQuizIdsByUserId(userId);
-        if (!likedQuizIds.isEmpty()) {
-            quizLikeMapper.deleteByUserId(userId);
-            likedQuizIds.forEach(quizMapper::decrementLikeCount);
-        }
+        // 누른 좋아요만큼 한 번에 차감
+        // 퀴즈 좋아요 행은 같은 트랜잭션에서 지워 좋아요 수 보정이 차감분을 되돌리지 않게 한다
+        // (댓글 좋아요 행 삭제는 PurgeWorker, 보정 시 탈퇴 유저 제외)
+        quizMapper.decrementLikeCountsByLiker(userId);
+        quizLikeMapper.deleteByUserId(userId);
+        commentMapper.decreaseLikeCountsByLiker(userId);
 
-        List<Long> likedCommentIds = commentLikeMapper.findLikedCommentIdsByUser(userId);
-        if (!likedCommentIds.isEmpty()) {
-            commentLikeMapper.deleteByUserId(userId);
-            likedCommentIds.forEach(commentMapper::decreaseLikeCount);
-        }
-
-        List<Long> myCommentIds = commentMapper.findIdsByUserId(userId);
-        if (!myCommentIds.isEmpty()) {
-            commentMapper.anonymizeByUserId(userId, TimeUtils.now());
-        }
+        commentMapper.anonymizeByUserId(userId, TimeUtils.now());
+        // 여러 퀴즈의 댓글 목록이 바뀌므로 댓글 캐시 전체 무효화
+        commentPageCache.clear();
 
-        List<Quiz> myQuizzes = quizMapper.findQuizzesByUserId(userId);
-        for (Quiz quiz : myQuizzes) {
-            quizService.deleteQuiz(userId, quiz.getId());
-        }
+        // 작성한 퀴즈는 삭제 표시만, 연관 데이터는 PurgeWorker 가 나눠서 정리
+        quizService.deleteQuizzesOfUser(userId);
+        purgeJobService.enqueueUser(userId);
 
-        // 2. 캐시 무효화
-        evictUserCaches(user.getEmail(), userId);
+        // 2. 변경 알림 (유저 캐시는 리스너가 무효화, 익명화 전 이메일 기준)
+        eventPublisher.publishEvent(new UserChangedEvent(userId, user.getEmail()));
 
         // 3. 사용자 익명화 및 삭제 처리
         String tombstone = "deleted_" + UUID.randomUUID();
@@ -83,15 +96,4 @@ public class DeleteAccountUseCase {
         
         // 참고: JPA 변경 감지(Dirty checking)로 인해 업데이트 쿼리가 자동으로 실행됩니다.
     }
-
-    private void evictUserCaches(String email, Long userId) {
-        Cache cache = cacheManager.getCache("userDetails");
-        if (cache != null && email != null) {
-            cache.evict(email);
-        }
-        Cache profileCache = cacheManager.getCache("userProfile");
-        if (profileCache != null && userId != null) {
-            profileCache.evict(userId);
-        }
-    }
 }
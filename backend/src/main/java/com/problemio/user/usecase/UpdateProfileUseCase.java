@@ -2,15 +2,16 @@ package com.problemio.user.usecase;
 
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.service.ImageVariantService;
 import com.problemio.global.service.LocalFileService;
 import com.problemio.global.util.TimeUtils;
 import com.problemio.user.domain.DeleteStatus;
 import com.problemio.user.domain.User;
 import com.problemio.user.dto.UserResponse;
+import com.problemio.user.event.UserChangedEvent;
 import com.problemio.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -24,7 +25,8 @@ public class UpdateProfileUseCase {
 
     private final UserRepository userRepository;
     private final LocalFileService localFileService;
-    private final CacheManager cacheManager;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String PROFILE_DIR = "public/upload/profile";
 
@@ -58,6 +60,7 @@ public class UpdateProfileUseCase {
             }
             String fileKey = PROFILE_DIR + "/" + UUID.randomUUID() + extension;
             newProfileImageUrl = localFileService.upload(file, fileKey);
+            imageVariantService.generateForUpload(PROFILE_DIR, newProfileImageUrl);
         } else {
             // If file is explicitly null but request has null url, keep old. 
             // Logic differs slightly from original but intent is: if file given, use it. if not, check request or keep old.
@@ -92,23 +95,12 @@ public class UpdateProfileUseCase {
         // Given original code used userMapper.updateProfile which set updated_at explicitly.
         // We will assume JPA Auditing is enabled.
 
-        // 5. Evict Caches
-        evictUserCaches(user.getEmail(), userId);
+        // 5. Notify change (caches are evicted by listeners)
+        eventPublisher.publishEvent(new UserChangedEvent(userId, user.getEmail()));
 
         return UserResponse.from(user);
     }
 
-    private void evictUserCaches(String email, Long userId) {
-        Cache cache = cacheManager.getCache("userDetails");
-        if (cache != null && email != null) {
-            cache.evict(email);
-        }
-        Cache profileCache = cacheManager.getCache("userProfile");
-        if (profileCache != null && userId != null) {
-            profileCache.evict(userId);
-        }
-    }
-
     private String normalizeDecorationValue(String value) {
         if (value == null || value.isBlank()) {
             return value;
@@ -0,0 +1,141 @@
+package com.problemio.auth.service;
+
+import com.problemio.auth.domain.RefreshToken;
+import com.problemio.auth.repository.RefreshTokenRepository;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRegistryTest {
+
+    private static final Long FAMILY_ID = 1L;
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RefreshTokenRegistry(refreshTokenRepository, 100);
+        ReflectionTestUtils.setField(registry, "reuseGraceSeconds", 10L);
+        registry.register(session(0, null, null));
+    }
+
+    @Test
+    @DisplayName("현재 세대 토큰이면 DB 세대를 compare-and-set 으로 올리고 다음 세대를 반환한다")
+    void rotatesCurrentGeneration() {
+        when(refreshTokenRepository.rotateGeneration(eq(FAMILY_ID), eq(0), eq(1), any())).thenReturn(1);
+
+        assertThat(registry.rotate(FAMILY_ID, 0, USER_ID)).isEqualTo(1);
+        verify(refreshTokenRepository, never()).findByIdForUpdate(anyLong());
+        verify(refreshTokenRepository, never()).revokeById(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("직전 세대 토큰이 유예 시간 안에 오면 세대를 올리지 않고 현재 세대로 다시 발급한다")
+    void previousGenerationWithinGrace() {
+        when(refreshTokenRepository.rotateGeneration(eq(FAMILY_ID), eq(1), eq(2), any())).thenReturn(0);
+        when(refreshTokenRepository.findByIdForUpdate(FAMILY_ID))
+                .thenReturn(Optional.of(session(2, TimeUtils.now().minusSeconds(3), null)));
+
+        assertThat(registry.rotate(FAMILY_ID, 1, USER_ID)).isEqualTo(2);
+        verify(refreshTokenRepository, never()).revokeById(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("직전 세대라도 유예 시간이 지났으면 재사용으로 보고 세션을 폐기한다")
+    void previousGenerationAfterGrace() {
+        when(refreshTokenRepository.rotateGeneration(eq(FAMILY_ID), eq(1), eq(2), any())).thenReturn(0);
+        when(refreshTokenRepository.findByIdForUpdate(FAMILY_ID))
+                .thenReturn(Optional.of(session(2, TimeUtils.now().minusSeconds(60), null)));
+
+        assertDenied(() -> registry.rotate(FAMILY_ID, 1, USER_ID));
+        verify(refreshTokenRepository).revokeById(eq(FAMILY_ID), any());
+    }
+
+    @Test
+    @DisplayName("두 세대 이상 지난 토큰이 오면 유예 없이 세션을 폐기하고, 이후 요청은 DB 의 폐기 상태로 거절한다")
+    void reuseRevokesFamily() {
+        when(refreshTokenRepository.rotateGeneration(eq(FAMILY_ID), eq(1), eq(2), any())).thenReturn(0);
+        when(refreshTokenRepository.findByIdForUpdate(FAMILY_ID))
+                .thenReturn(Optional.of(session(3, TimeUtils.now(), null)));
+
+        assertDenied(() -> registry.rotate(FAMILY_ID, 1, USER_ID));
+        verify(refreshTokenRepository).revokeById(eq(FAMILY_ID), any());
+
+        // 캐시에서 지워졌으므로 DB 에서 폐기된 세션을 다시 읽고 compare-and-set 없이 거절
+        when(refreshTokenRepository.findById(FAMILY_ID))
+                .thenReturn(Optional.of(session(3, TimeUtils.now(), TimeUtils.now())));
+        assertDenied(() -> registry.rotate(FAMILY_ID, 3, USER_ID));
+        verify(refreshTokenRepository, times(1)).rotateGeneration(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기된 세션은 메모리에 남아 있어도 DB 기준으로 거절하고 재사용으로 보지 않는다")
+    void revokedElsewhere() {
+        when(refreshTokenRepository.rotateGeneration(eq(FAMILY_ID), eq(0), eq(1), any())).thenReturn(0);
+        when(refreshTokenRepository.findByIdForUpdate(FAMILY_ID))
+                .thenReturn(Optional.of(session(0, null, TimeUtils.now())));
+
+        assertDenied(() -> registry.rotate(FAMILY_ID, 0, USER_ID));
+        verify(refreshTokenRepository, never()).revokeById(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("다른 유저의 세션이나 없는 세션이면 DB 를 갱신하지 않고 거절한다")
+    void foreignOrMissingFamily() {
+        assertDenied(() -> registry.rotate(FAMILY_ID, 0, 99L));
+
+        when(refreshTokenRepository.findById(2L)).thenReturn(Optional.empty());
+        assertDenied(() -> registry.rotate(2L, 0, USER_ID));
+
+        verify(refreshTokenRepository, never()).rotateGeneration(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    private static void assertDenied(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+
+    private static RefreshToken session(int generation, LocalDateTime rotatedAt, LocalDateTime revokedAt) {
+        User user = User.builder().email("user@problemio.com").nickname("user").build();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        RefreshToken token = RefreshToken.builder()
+                .user(user)
+                .tokenValue("session-key")
+                .expiresAt(TimeUtils.now().plusWeeks(2))
+                .build();
+        ReflectionTestUtils.setField(token, "id", FAMILY_ID);
+        ReflectionTestUtils.setField(token, "generation", generation);
+        ReflectionTestUtils.setField(token, "rotatedAt", rotatedAt);
+        ReflectionTestUtils.setField(token, "revokedAt", revokedAt);
+        return token;
+    }
+}
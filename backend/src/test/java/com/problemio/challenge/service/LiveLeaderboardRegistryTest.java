@@ -0,0 +1,83 @@
+package com.problemio.challenge.service;
+
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.submission.domain.Submission;
+import com.problemio.user.mapper.UserMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LiveLeaderboardRegistryTest {
+
+    private static final Long CHALLENGE_ID = 1L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private ChallengeMapper challengeMapper;
+
+    @Mock
+    private ChallengeRankingMapper challengeRankingMapper;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private LiveLeaderboardRegistry registry;
+
+    @Test
+    @DisplayName("확정 후 지운 랭킹은 조회 경로(find, topRankingsIfPresent, offerIfPresent)에서 다시 구성하지 않는다")
+    void removedBoardIsNotRebuiltByReadPaths() {
+        when(challengeRankingMapper.findSubmissionsByChallengeId(CHALLENGE_ID)).thenReturn(List.of(submission(10L, 100L)));
+
+        assertThat(registry.get(CHALLENGE_ID).size()).isEqualTo(1);
+        assertThat(registry.find(CHALLENGE_ID)).isPresent();
+
+        registry.remove(CHALLENGE_ID);
+
+        assertThat(registry.find(CHALLENGE_ID)).isEmpty();
+        assertThat(registry.topRankingsIfPresent(CHALLENGE_ID, 10)).isEmpty();
+        registry.offerIfPresent(CHALLENGE_ID, 11L, 101L, 3, 12.0, T0);
+        assertThat(registry.find(CHALLENGE_ID)).isEmpty();
+
+        verify(challengeRankingMapper, times(1)).findSubmissionsByChallengeId(CHALLENGE_ID);
+    }
+
+    @Test
+    @DisplayName("offerIfPresent 는 구성된 랭킹이 있으면 반영한다")
+    void offerIfPresentUpdatesExistingBoard() {
+        when(challengeRankingMapper.findSubmissionsByChallengeId(CHALLENGE_ID)).thenReturn(List.of());
+        LiveLeaderboard board = registry.get(CHALLENGE_ID);
+
+        registry.offerIfPresent(CHALLENGE_ID, 11L, 101L, 3, 12.0, T0);
+
+        assertThat(board.standingOf(11L)).isNotNull();
+        assertThat(board.standingOf(11L).getRank()).isEqualTo(1);
+    }
+
+    private static Submission submission(Long userId, Long submissionId) {
+        Submission s = new Submission();
+        s.setId(submissionId);
+        s.setUserId(userId);
+        s.setCorrectCount(5);
+        s.setPlayTime(30.0);
+        s.setSubmittedAt(T0);
+        return s;
+    }
+}
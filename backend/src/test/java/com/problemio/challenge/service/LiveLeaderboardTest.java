@@ -0,0 +1,108 @@
+package com.problemio.challenge.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveLeaderboardTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("정답 수 내림차순 -> 플레이 시간 오름차순 -> 시작 시각 오름차순으로 정렬한다")
+    void ordersByScoreThenTimeThenStart() {
+        LiveLeaderboard board = new LiveLeaderboard();
+        board.offer(1L, 11L, 5, 30.0, T0);
+        board.offer(2L, 21L, 7, 50.0, T0);
+        board.offer(3L, 31L, 5, 20.0, T0);
+        board.offer(4L, 41L, 5, 20.0, T0.minusMinutes(1));
+
+        assertThat(board.top(10)).extracting(LiveLeaderboard.Entry::getUserId)
+                .containsExactly(2L, 4L, 3L, 1L);
+        assertThat(board.top(2)).extracting(LiveLeaderboard.Entry::getUserId)
+                .containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("동점자는 같은 등수, 다음 등수는 동점자 수만큼 건너뛴다 (RANK)")
+    void tiesShareRank() {
+        LiveLeaderboard board = new LiveLeaderboard();
+        board.offer(1L, 11L, 9, 10.0, T0);
+        board.offer(2L, 21L, 5, 10.0, T0);
+        board.offer(3L, 31L, 5, 10.0, T0);
+        board.offer(4L, 41L, 3, 10.0, T0);
+
+        assertThat(board.standingOf(1L).getRank()).isEqualTo(1);
+        assertThat(board.standingOf(2L).getRank()).isEqualTo(2);
+        assertThat(board.standingOf(3L).getRank()).isEqualTo(2);
+        assertThat(board.standingOf(4L).getRank()).isEqualTo(4);
+        assertThat(LiveLeaderboard.tied(board.standingOf(2L).getBest(), board.standingOf(3L).getBest())).isTrue();
+        assertThat(board.standingOf(99L)).isNull();
+    }
+
+    @Test
+    @DisplayName("유저마다 최고 기록 하나만 유지하고, 최고 기록이 나빠지면 다른 제출로 대체한다")
+    void keepsBestSubmissionPerUser() {
+        LiveLeaderboard board = new LiveLeaderboard();
+        board.offer(1L, 11L, 3, 10.0, T0);
+        board.offer(1L, 12L, 6, 10.0, T0);
+        board.offer(2L, 21L, 4, 10.0, T0);
+
+        assertThat(board.size()).isEqualTo(2);
+        assertThat(board.standingOf(1L).getBest().getSubmissionId()).isEqualTo(12L);
+        assertThat(board.standingOf(1L).getRank()).isEqualTo(1);
+
+        // 최고 기록이던 제출의 진행 상태가 갱신되어 점수가 내려간 경우
+        board.offer(1L, 12L, 2, 10.0, T0);
+        assertThat(board.size()).isEqualTo(2);
+        assertThat(board.standingOf(1L).getBest().getSubmissionId()).isEqualTo(11L);
+        assertThat(board.standingOf(1L).getRank()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비회원 기록은 무시하고, 제거한 유저는 등수에서 빠진다")
+    void ignoresGuestsAndRemovesUsers() {
+        LiveLeaderboard board = new LiveLeaderboard();
+        board.offer(null, 1L, 10, 1.0, T0);
+        board.offer(1L, 11L, 5, 10.0, T0);
+        board.offer(2L, 21L, 4, 10.0, T0);
+        assertThat(board.size()).isEqualTo(2);
+
+        board.remove(1L);
+        assertThat(board.size()).isEqualTo(1);
+        assertThat(board.standingOf(1L)).isNull();
+        assertThat(board.standingOf(2L).getRank()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 갱신 후에도 상위 목록과 등수가 전체 정렬 결과와 같다")
+    void matchesFullSortAfterRandomUpdates() {
+        LiveLeaderboard board = new LiveLeaderboard();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            long user = 1 + random.nextInt(200);
+            long submission = user * 1000 + random.nextInt(3);
+            int correct = random.nextInt(10);
+            double playTime = random.nextInt(5);
+            board.offer(user, submission, correct, playTime, T0);
+        }
+
+        List<LiveLeaderboard.Entry> top = board.top(Integer.MAX_VALUE);
+        assertThat(top).hasSize(board.size());
+        assertThat(top).isSortedAccordingTo(LiveLeaderboard::compare);
+
+        Comparator<LiveLeaderboard.Entry> byRankKey = Comparator
+                .comparingInt((LiveLeaderboard.Entry e) -> -e.getCorrectCount())
+                .thenComparingDouble(LiveLeaderboard.Entry::getPlayTime);
+        for (LiveLeaderboard.Entry e : top) {
+            long strictlyBetter = top.stream().filter(o -> byRankKey.compare(o, e) < 0).count();
+            assertThat(board.standingOf(e.getUserId()).getRank()).isEqualTo(strictlyBetter + 1);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.problemio.comment.dto;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 복원한다")
+    void roundTrip() {
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 10, 20, 30, 123_000_000);
+
+        CommentCursor decoded = CommentCursor.decode(new CommentCursor(at, 42L).encode());
+
+        assertThat(decoded.getAt()).isEqualTo(at);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)")
+    void blankIsFirstPage() {
+        assertThat(CommentCursor.decode(null)).isNull();
+        assertThat(CommentCursor.decode("")).isNull();
+        assertThat(CommentCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("created_at 이 없는 행도 인코딩할 수 있다")
+    void encodesNullCreatedAt() {
+        CommentCursor decoded = CommentCursor.decode(new CommentCursor(null, 1L).encode());
+
+        assertThat(decoded.getAt()).isEqualTo(CommentCursor.MISSING_AT);
+        assertThat(decoded.getId()).isEqualTo(1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64 !!", "MjAyNg", "2026-01-01T00:00|x", "yesterday|1", "2026-01-01T00:00|1|2"})
+    @DisplayName("형식이 틀린 커서는 INVALID_INPUT_VALUE")
+    void rejectsMalformed(String raw) {
+        String cursor = raw.contains("|")
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8))
+                : raw;
+
+        assertThatThrownBy(() -> CommentCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
@@ -0,0 +1,149 @@
+package com.problemio.global.controller;
+
+import com.problemio.global.service.ImageVariantService;
+import com.problemio.global.service.LocalFileService;
+import com.problemio.global.service.UploadFileCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class UploadFileControllerTest {
+
+    private static final String HASH_NAME = "0123456789abcdef0123456789abcdef.png";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    private MockMvc mockMvc;
+    private byte[] image;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LocalFileService localFileService = new LocalFileService();
+        ReflectionTestUtils.setField(localFileService, "uploadDir", tempDir.resolve("uploads").toString());
+        localFileService.init();
+
+        // 64 바이트 이하만 메모리 캐시, 그보다 크면 FileChannel 로 전송
+        UploadFileController controller = new UploadFileController(localFileService,
+                new UploadFileCache(1024 * 1024, 64), imageVariantService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        image = new byte[1000];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) i;
+        }
+        Path dir = Files.createDirectories(tempDir.resolve("uploads/quiz/thumbnail"));
+        Files.write(dir.resolve(HASH_NAME), image);
+        Files.writeString(dir.resolve("theme.css"), "body{}");
+        Files.writeString(tempDir.resolve("secret.txt"), "secret");
+    }
+
+    @Test
+    @DisplayName("내용 해시 이름 파일은 전체 내용과 immutable 캐시 헤더, 이름 기반 ETag 로 응답한다")
+    void servesFullContent() throws Exception {
+        mockMvc.perform(get("/uploads/quiz/thumbnail/" + HASH_NAME))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH_NAME + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, image.length))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    @DisplayName("해시 이름이 아닌 작은 파일은 메모리 캐시에서 주고 짧은 캐시 + 재검증으로 응답한다")
+    void servesMutableFileWithRevalidation() throws Exception {
+        mockMvc.perform(get("/uploads/quiz/thumbnail/theme.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=300"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string("body{}"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 본문 없이 304")
+    void notModified() throws Exception {
+        mockMvc.perform(get("/uploads/quiz/thumbnail/" + HASH_NAME)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"other\", \"" + HASH_NAME + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("단일 Range 는 206 과 해당 구간만, If-Range 가 다르거나 여러 구간이면 전체를 준다")
+    void singleRange() throws Exception {
+        mockMvc.perform(get("/uploads/quiz/thumbnail/" + HASH_NAME).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/1000"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 10, 20)));
+
+        mockMvc.perform(get("/uploads/quiz/thumbnail/" + HASH_NAME).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 995-999/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 995, 1000)));
+
+        mockMvc.perform(get("/uploads/quiz/thumbnail/" + HASH_NAME)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+
+        mockMvc.perform(get("/uploads/quiz/thumbnail/" + HASH_NAME).header(HttpHeaders.RANGE, "bytes=0-1,5-6"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 Range 는 416 과 Content-Range: bytes */크기")
+    void unsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/uploads/quiz/thumbnail/" + HASH_NAME).header(HttpHeaders.RANGE, "bytes=5000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"));
+    }
+
+    @Test
+    @DisplayName("업로드 디렉터리 밖을 가리키는 경로(인코딩 포함)는 404, 없는 파일도 404")
+    void rejectsPathTraversal() throws Exception {
+        MvcResult plain = mockMvc.perform(get(URI.create("/uploads/quiz/../../secret.txt")))
+                .andExpect(status().isNotFound())
+                .andReturn();
+        MvcResult encoded = mockMvc.perform(get(URI.create("/uploads/..%2Fsecret.txt")))
+                .andExpect(status().isNotFound())
+                .andReturn();
+        assertThat(plain.getResponse().getContentAsString(StandardCharsets.UTF_8)).doesNotContain("secret");
+        assertThat(encoded.getResponse().getContentAsString(StandardCharsets.UTF_8)).doesNotContain("secret");
+
+        mockMvc.perform(get("/uploads/quiz/thumbnail/missing.txt"))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(imageVariantService);
+    }
+}
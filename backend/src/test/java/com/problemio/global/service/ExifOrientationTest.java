@@ -0,0 +1,124 @@
+package com.problemio.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExifOrientationTest {
+
+    @ParameterizedTest
+    @CsvSource({"6, true", "8, false", "3, true", "1, false"})
+    @DisplayName("JPEG 의 Exif APP1 에서 Orientation 을 읽는다 (리틀/빅 엔디언)")
+    void readsOrientationFromJpeg(int orientation, boolean littleEndian) throws IOException {
+        byte[] jpeg = withApp1(jpeg(8, 4), exif(orientation, littleEndian));
+
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(jpeg))).isEqualTo(orientation);
+    }
+
+    @Test
+    @DisplayName("Exif 가 없거나 JPEG 가 아니거나 값이 범위를 벗어나면 NORMAL")
+    void defaultsToNormal() throws IOException {
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(jpeg(8, 4)))).isEqualTo(ExifOrientation.NORMAL);
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "png", png);
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(png.toByteArray()))).isEqualTo(ExifOrientation.NORMAL);
+
+        byte[] xmpOnly = withApp1(jpeg(8, 4), "http://ns.adobe.com/xap/1.0/\0<x/>".getBytes());
+        assertThat(ExifOrientation.read(new ByteArrayInputStream(xmpOnly))).isEqualTo(ExifOrientation.NORMAL);
+
+        assertThat(ExifOrientation.parseExif(exif(9, true))).isZero();
+        assertThat(ExifOrientation.parseExif(new byte[]{'E', 'x', 'i', 'f', 0, 0, 'I', 'I'})).isZero();
+    }
+
+    @Test
+    @DisplayName("90도 회전 값은 가로세로를 바꿔 돌리고, 반전 값은 픽셀 위치만 뒤집는다")
+    void appliesOrientation() {
+        // 가로 2px: 왼쪽 빨강, 오른쪽 파랑
+        BufferedImage src = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+        src.setRGB(0, 0, Color.RED.getRGB());
+        src.setRGB(1, 0, Color.BLUE.getRGB());
+
+        // 시계 방향 90도: 왼쪽이 위로
+        BufferedImage cw = ExifOrientation.apply(src, 6);
+        assertThat(cw.getWidth()).isEqualTo(1);
+        assertThat(cw.getHeight()).isEqualTo(2);
+        assertThat(new Color(cw.getRGB(0, 0))).isEqualTo(Color.RED);
+        assertThat(new Color(cw.getRGB(0, 1))).isEqualTo(Color.BLUE);
+
+        // 반시계 방향 90도: 왼쪽이 아래로
+        BufferedImage ccw = ExifOrientation.apply(src, 8);
+        assertThat(new Color(ccw.getRGB(0, 0))).isEqualTo(Color.BLUE);
+        assertThat(new Color(ccw.getRGB(0, 1))).isEqualTo(Color.RED);
+
+        BufferedImage mirrored = ExifOrientation.apply(src, 2);
+        assertThat(mirrored.getWidth()).isEqualTo(2);
+        assertThat(new Color(mirrored.getRGB(0, 0))).isEqualTo(Color.BLUE);
+        assertThat(new Color(mirrored.getRGB(1, 0))).isEqualTo(Color.RED);
+
+        assertThat(ExifOrientation.apply(src, ExifOrientation.NORMAL)).isSameAs(src);
+        assertThat(ExifOrientation.swapsAxes(6)).isTrue();
+        assertThat(ExifOrientation.swapsAxes(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("세로로 찍은 사진(Orientation 6)은 회전 후 축소해 세로 썸네일이 된다")
+    void orientationAppliedBeforeResize() {
+        BufferedImage sensor = new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage thumb = ImageVariantService.resize(ExifOrientation.apply(sensor, 6), ImageVariant.THUMBNAIL);
+
+        assertThat(thumb.getWidth()).isEqualTo(480);
+        assertThat(thumb.getHeight()).isEqualTo(720);
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return out.toByteArray();
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 (Orientation 항목 하나)
+    private static byte[] exif(int orientation, boolean littleEndian) {
+        ByteBuffer buf = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4);
+        buf.put(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        buf.put(littleEndian ? new byte[]{'I', 'I'} : new byte[]{'M', 'M'});
+        buf.order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        buf.putShort((short) 42);
+        buf.putInt(8);
+        buf.putShort((short) 1);
+        buf.putShort((short) 0x0112);
+        buf.putShort((short) 3);
+        buf.putInt(1);
+        buf.putShort((short) orientation);
+        buf.putShort((short) 0);
+        buf.putInt(0);
+        return buf.array();
+    }
+
+    // SOI 바로 뒤에 APP1 세그먼트 삽입
+    private static byte[] withApp1(byte[] jpeg, byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        int length = payload.length + 2;
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.write(payload, 0, payload.length);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
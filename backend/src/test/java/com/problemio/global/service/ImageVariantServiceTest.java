@@ -0,0 +1,83 @@
+package com.problemio.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantServiceTest {
+
+    @Test
+    @DisplayName("썸네일은 너비를 480 이하로 비율 유지하며 줄이고, 작은 이미지는 확대하지 않는다")
+    void thumbnailKeepsAspectRatio() {
+        BufferedImage wide = ImageVariantService.resize(image(2000, 1000, Color.BLUE), ImageVariant.THUMBNAIL);
+        assertThat(wide.getWidth()).isEqualTo(480);
+        assertThat(wide.getHeight()).isEqualTo(240);
+
+        BufferedImage small = ImageVariantService.resize(image(300, 200, Color.BLUE), ImageVariant.THUMBNAIL);
+        assertThat(small.getWidth()).isEqualTo(300);
+        assertThat(small.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("아바타는 가운데 정사각형을 잘라 size x size 로 줄인다")
+    void avatarCropsCenterSquare() {
+        // 양쪽 200px 은 빨강, 가운데 400px 은 파랑 -> 가운데를 자르면 전부 파랑
+        BufferedImage src = image(800, 400, Color.RED);
+        Graphics2D g = src.createGraphics();
+        g.setColor(Color.BLUE);
+        g.fillRect(200, 0, 400, 400);
+        g.dispose();
+
+        BufferedImage avatar = ImageVariantService.resize(src, ImageVariant.AVATAR);
+
+        assertThat(avatar.getWidth()).isEqualTo(256);
+        assertThat(avatar.getHeight()).isEqualTo(256);
+        assertThat(new Color(avatar.getRGB(0, 128))).isEqualTo(Color.BLUE);
+        assertThat(new Color(avatar.getRGB(255, 128))).isEqualTo(Color.BLUE);
+        assertThat(new Color(avatar.getRGB(128, 128))).isEqualTo(Color.BLUE);
+
+        BufferedImage tiny = ImageVariantService.resize(image(50, 80, Color.BLUE), ImageVariant.AVATAR_SMALL);
+        assertThat(tiny.getWidth()).isEqualTo(50);
+        assertThat(tiny.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("투명 영역은 흰 배경으로 채운다 (JPEG 는 알파 없음)")
+    void transparentBecomesWhite() {
+        BufferedImage src = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage out = ImageVariantService.resize(src, ImageVariant.AVATAR_SMALL);
+
+        assertThat(out.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        assertThat(new Color(out.getRGB(50, 50))).isEqualTo(Color.WHITE);
+    }
+
+    @Test
+    @DisplayName("디코딩 간격은 기준 변이 목표 크기의 2배 이상 남도록 정하고, 회전할 사진은 회전 후 너비 기준")
+    void subsamplingKeepsTwiceTargetSize() {
+        assertThat(ImageVariantService.subsampling(4000, 3000, ImageVariant.THUMBNAIL, false)).isEqualTo(4);
+        assertThat(ImageVariantService.subsampling(4000, 3000, ImageVariant.THUMBNAIL, true)).isEqualTo(3);
+        assertThat(ImageVariantService.subsampling(4000, 3000, ImageVariant.AVATAR_SMALL, false)).isEqualTo(15);
+        assertThat(ImageVariantService.subsampling(800, 600, ImageVariant.THUMBNAIL, false)).isEqualTo(1);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            int step = ImageVariantService.subsampling(6000, 4000, variant, false);
+            int basis = variant.isSquare() ? 4000 : 6000;
+            assertThat(basis / step).isGreaterThanOrEqualTo(variant.getSize() * 2);
+        }
+    }
+
+    private static BufferedImage image(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,80 @@
+package com.problemio.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantTest {
+
+    @Test
+    @DisplayName("jpg/jpeg/png 원본은 같은 디렉터리에 {이름}_{suffix}.jpg, 확장자 대소문자는 무시한다")
+    void keyForSupportedOriginals() {
+        assertThat(ImageVariant.THUMBNAIL.keyFor("quiz/thumbnail/abc.png")).isEqualTo("quiz/thumbnail/abc_thumb.jpg");
+        assertThat(ImageVariant.AVATAR_SMALL.keyFor("user/profile/abc.JPEG")).isEqualTo("user/profile/abc_a96.jpg");
+        assertThat(ImageVariant.AVATAR.keyFor("a.b/abc.Jpg")).isEqualTo("a.b/abc_a256.jpg");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"quiz/thumbnail/anim.gif", "quiz/thumbnail/noext", "quiz.v2/noext", "quiz/.png", "file.webp"})
+    @DisplayName("변형을 만들 수 없는 원본(gif, 확장자 없음, 이름 없음 등)은 null")
+    void keyForUnsupportedOriginals(String key) {
+        assertThat(ImageVariant.THUMBNAIL.keyFor(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("null Key 는 null")
+    void keyForNull() {
+        assertThat(ImageVariant.THUMBNAIL.keyFor(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ImageVariant.class)
+    @DisplayName("변형 Key 를 parse 하면 변형과 원본 이름(확장자 제외)이 나오고, 후보에 원본 Key 가 있다")
+    void parseRoundTrip(ImageVariant variant) {
+        String originalKey = "user/profile/0123456789abcdef0123456789abcdef.PNG";
+
+        ImageVariant.Parsed parsed = ImageVariant.parse(variant.keyFor(originalKey)).orElseThrow();
+
+        assertThat(parsed.variant()).isEqualTo(variant);
+        assertThat(parsed.stem()).isEqualTo("user/profile/0123456789abcdef0123456789abcdef");
+        assertThat(ImageVariant.originalCandidates(parsed.stem())).contains(originalKey);
+    }
+
+    @Test
+    @DisplayName("이름에 밑줄이 있어도 마지막 밑줄 뒤만 suffix 로 본다")
+    void parseUsesLastUnderscore() {
+        ImageVariant.Parsed parsed = ImageVariant.parse("quiz/thumbnail/my_photo_thumb.jpg").orElseThrow();
+
+        assertThat(parsed.variant()).isEqualTo(ImageVariant.THUMBNAIL);
+        assertThat(parsed.stem()).isEqualTo("quiz/thumbnail/my_photo");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"quiz/thumbnail/abc.jpg", "quiz/thumbnail/abc_thumb.png", "quiz/thumbnail/abc_zzz.jpg",
+            "quiz/thumbnail/_thumb.jpg", "a_b/thumb.jpg"})
+    @DisplayName("변형 Key 가 아니면 empty")
+    void parseNonVariantKeys(String key) {
+        assertThat(ImageVariant.parse(key)).isEmpty();
+        assertThat(ImageVariant.parse(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본 후보는 지원 확장자를 소문자 -> 대문자 순으로")
+    void originalCandidatesOrder() {
+        assertThat(ImageVariant.originalCandidates("dir/abc")).containsExactly(
+                "dir/abc.jpg", "dir/abc.JPG", "dir/abc.jpeg", "dir/abc.JPEG", "dir/abc.png", "dir/abc.PNG");
+    }
+
+    @Test
+    @DisplayName("디렉터리별 변형: 썸네일은 THUMBNAIL, 프로필은 아바타 두 가지, 그 외는 없음")
+    void forDirectory() {
+        assertThat(ImageVariant.forDirectory("quiz/thumbnail")).containsExactly(ImageVariant.THUMBNAIL);
+        assertThat(ImageVariant.forDirectory("user/profile")).containsExactly(ImageVariant.AVATAR_SMALL, ImageVariant.AVATAR);
+        assertThat(ImageVariant.forDirectory("quiz/question")).isEmpty();
+        assertThat(ImageVariant.forDirectory(null)).isEmpty();
+    }
+}
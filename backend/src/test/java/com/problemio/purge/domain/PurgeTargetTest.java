@@ -0,0 +1,51 @@
+package com.problemio.purge.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurgeTargetTest {
+
+    @Test
+    @DisplayName("퀴즈 정리는 FK 순서대로 자식 테이블부터 진행하고 퀴즈 행을 마지막에 지운다")
+    void quizStagesInForeignKeyOrder() {
+        assertThat(walk(PurgeTarget.QUIZ)).containsExactly(
+                PurgeStage.COMMENT_LIKES,
+                PurgeStage.COMMENTS,
+                PurgeStage.QUIZ_LIKES,
+                PurgeStage.SUBMISSION_DETAILS,
+                PurgeStage.SUBMISSIONS,
+                PurgeStage.ANSWERS,
+                PurgeStage.QUESTIONS,
+                PurgeStage.QUIZ);
+    }
+
+    @Test
+    @DisplayName("탈퇴 유저 정리는 누른 좋아요 행만 지운다")
+    void userStages() {
+        assertThat(walk(PurgeTarget.USER)).containsExactly(
+                PurgeStage.USER_COMMENT_LIKES,
+                PurgeStage.USER_QUIZ_LIKES);
+    }
+
+    @Test
+    @DisplayName("마지막 단계나 다른 대상의 단계 다음은 DONE")
+    void nextOfLastOrForeignStageIsDone() {
+        assertThat(PurgeTarget.QUIZ.next(PurgeStage.QUIZ)).isEqualTo(PurgeStage.DONE);
+        assertThat(PurgeTarget.QUIZ.next(PurgeStage.USER_QUIZ_LIKES)).isEqualTo(PurgeStage.DONE);
+        assertThat(PurgeTarget.USER.next(PurgeStage.COMMENTS)).isEqualTo(PurgeStage.DONE);
+        assertThat(PurgeTarget.USER.next(PurgeStage.DONE)).isEqualTo(PurgeStage.DONE);
+    }
+
+    private static List<PurgeStage> walk(PurgeTarget target) {
+        List<PurgeStage> stages = new ArrayList<>();
+        for (PurgeStage stage = target.firstStage(); stage != PurgeStage.DONE; stage = target.next(stage)) {
+            stages.add(stage);
+        }
+        return stages;
+    }
+}
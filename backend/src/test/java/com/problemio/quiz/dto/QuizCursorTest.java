@@ -0,0 +1,77 @@
+package com.problemio.quiz.dto;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuizCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 복원한다")
+    void roundTrip() {
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 10, 20, 30, 123_000_000);
+        QuizCursor cursor = new QuizCursor("popular", at, 42L, 7, 100);
+
+        QuizCursor decoded = QuizCursor.decode(cursor.encode(), "popular");
+
+        assertThat(decoded.getSort()).isEqualTo("popular");
+        assertThat(decoded.getAt()).isEqualTo(at);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getLikeCount()).isEqualTo(7);
+        assertThat(decoded.getPlayCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)")
+    void blankIsFirstPage() {
+        assertThat(QuizCursor.decode(null, "latest")).isNull();
+        assertThat(QuizCursor.decode("  ", "latest")).isNull();
+    }
+
+    @Test
+    @DisplayName("created_at 이 없는 행도 인코딩할 수 있다")
+    void encodesNullCreatedAt() {
+        QuizCursor cursor = new QuizCursor("latest", null, 1L, 0, 0);
+
+        QuizCursor decoded = QuizCursor.decode(cursor.encode(), "latest");
+
+        assertThat(decoded.getAt()).isEqualTo(QuizCursor.MISSING_AT);
+        assertThat(decoded.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 정렬의 커서는 거부한다")
+    void rejectsOtherSort() {
+        String encoded = new QuizCursor("views", LocalDateTime.now(), 1L, 0, 0).encode();
+
+        assertInvalid(() -> QuizCursor.decode(encoded, "popular"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64 !!", "bGF0ZXN0", "latest|2026-01-01T00:00|x|0|0", "latest|yesterday|1|0|0"})
+    @DisplayName("형식이 틀린 커서는 INVALID_INPUT_VALUE")
+    void rejectsMalformed(String raw) {
+        String cursor = raw.contains("|")
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8))
+                : raw;
+
+        assertInvalid(() -> QuizCursor.decode(cursor, "latest"));
+    }
+
+    private static void assertInvalid(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
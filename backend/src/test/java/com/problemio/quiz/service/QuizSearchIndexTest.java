@@ -0,0 +1,170 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCursor;
+import com.problemio.quiz.mapper.QuizMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuizSearchIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Mock
+    private QuizMapper quizMapper;
+
+    @Test
+    @DisplayName("제목/설명 부분 일치만 찾고 개수가 정확하다 (띄어쓰기 없는 한국어, 대소문자 무시)")
+    void matchesLikeSubstring() {
+        QuizSearchIndex index = build(List.of(
+                quiz(1L, "자바 기초 퀴즈", "변수와 타입", 0, 0, T0),
+                quiz(2L, "스프링", "자바스크립트 아님", 0, 0, T0),
+                quiz(3L, "Java Quiz", "영문", 0, 0, T0),
+                quiz(4L, "파이썬", "기초 문법", 0, 0, T0)
+        ));
+
+        assertThat(index.search("자바").total()).isEqualTo(2);
+        assertThat(index.search("바스크").total()).isEqualTo(1);
+        assertThat(index.search("JAVA").total()).isEqualTo(1);
+        assertThat(index.search("기초").total()).isEqualTo(2);
+        assertThat(index.search("자").total()).isEqualTo(2);
+        assertThat(index.search("없는말").isEmpty()).isTrue();
+        assertThat(index.search("  ").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("relevance 는 제목 일치 우선, latest 는 최신순이고 작성일이 없으면 맨 뒤로 간다")
+    void relevanceAndLatestOrder() {
+        QuizSearchIndex index = build(List.of(
+                quiz(1L, "자바", "", 0, 0, T0),
+                quiz(2L, "스프링", "자바 활용", 0, 0, T0.plusDays(2)),
+                quiz(3L, "자바 심화", "", 0, 0, T0.plusDays(1)),
+                quiz(4L, "자바 옛날", "", 0, 0, null)
+        ));
+        QuizSearchIndex.Hits hits = index.search("자바");
+
+        assertThat(hits.page("relevance", 0, 10)).containsExactly(3L, 1L, 4L, 2L);
+        assertThat(hits.page("latest", 0, 10)).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(hits.page("latest", 1, 2)).containsExactly(3L, 1L);
+        assertThat(hits.page("latest", 4, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("popular 는 좋아요 -> 조회수, views 는 조회수 -> 좋아요 -> 최신순으로 정렬한다")
+    void popularAndViewsOrder() {
+        QuizSearchIndex index = build(List.of(
+                quiz(1L, "퀴즈 하나", "", 5, 10, T0),
+                quiz(2L, "퀴즈 둘", "", 5, 20, T0),
+                quiz(3L, "퀴즈 셋", "", 9, 1, T0),
+                quiz(4L, "퀴즈 넷", "", 1, 20, T0.plusDays(1))
+        ));
+        QuizSearchIndex.Hits hits = index.search("퀴즈");
+
+        assertThat(hits.page("popular", 0, 10)).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(hits.page("views", 0, 10)).containsExactly(2L, 4L, 1L, 3L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"latest", "popular", "views"})
+    @DisplayName("커서로 이어 읽으면 동점이 많아도 빠짐/중복 없이 전체 정렬과 같다")
+    void cursorPagingMatchesFullSort(String sort) {
+        Random random = new Random(11);
+        List<Quiz> quizzes = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            quizzes.add(quiz(id, "퀴즈 " + id, "", random.nextInt(4), random.nextInt(4),
+                    random.nextInt(10) == 0 ? null : T0.plusHours(random.nextInt(5))));
+        }
+        QuizSearchIndex.Hits hits = build(quizzes).search("퀴즈");
+
+        List<Long> paged = new ArrayList<>();
+        QuizCursor cursor = null;
+        while (true) {
+            List<QuizSearchIndex.Hit> page = hits.after(cursor, sort, 8);
+            page.forEach(h -> paged.add(h.getQuizId()));
+            if (page.size() < 8) {
+                break;
+            }
+            // 실제 요청처럼 문자열로 주고받는다
+            cursor = QuizCursor.decode(page.get(page.size() - 1).toCursor(sort).encode(), sort);
+        }
+
+        assertThat(paged).containsExactlyElementsOf(hits.page(sort, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("DB 에 반영된 증감분과 좋아요 보정 결과가 이후 검색의 정렬 키에 반영된다")
+    void countersUpdateSortKeys() {
+        QuizSearchIndex index = build(List.of(
+                quiz(1L, "퀴즈 하나", "", 3, 0, T0),
+                quiz(2L, "퀴즈 둘", "", 2, 0, T0)
+        ));
+        QuizSearchIndex.Hits before = index.search("퀴즈");
+
+        index.addCounts(2L, 5, 2);
+        assertThat(index.search("퀴즈").page("popular", 0, 10)).containsExactly(2L, 1L);
+        assertThat(index.search("퀴즈").page("views", 0, 10)).containsExactly(2L, 1L);
+        // 이미 받은 검색 결과는 검색 시점의 값으로 정렬한다
+        assertThat(before.page("popular", 0, 10)).containsExactly(1L, 2L);
+
+        index.setLikeCount(1L, 10);
+        assertThat(index.search("퀴즈").page("popular", 0, 10)).containsExactly(1L, 2L);
+
+        index.addCounts(99L, 1, 1);
+        assertThat(index.search("퀴즈").total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제/비공개 전환/제거된 퀴즈는 검색 결과와 개수에서 빠진다")
+    void removedQuizzesLeaveTotal() {
+        QuizSearchIndex index = build(List.of(
+                quiz(1L, "퀴즈 하나", "", 0, 0, T0),
+                quiz(2L, "퀴즈 둘", "", 0, 0, T0),
+                quiz(3L, "퀴즈 셋", "", 0, 0, T0)
+        ));
+
+        index.remove(1L);
+        Quiz hidden = quiz(2L, "퀴즈 둘", "", 0, 0, T0);
+        hidden.setHidden(true);
+        index.index(hidden);
+        assertThat(index.search("퀴즈").page("latest", 0, 10)).containsExactly(3L);
+
+        index.evict(List.of(3L));
+        assertThat(index.search("퀴즈").total()).isZero();
+
+        index.index(quiz(4L, "새 퀴즈", "", 0, 0, T0));
+        assertThat(index.search("퀴즈").page("latest", 0, 10)).containsExactly(4L);
+    }
+
+    private QuizSearchIndex build(List<Quiz> quizzes) {
+        when(quizMapper.findSearchableQuizzes()).thenReturn(quizzes);
+        QuizSearchIndex index = new QuizSearchIndex(quizMapper);
+        assertThat(index.rebuild()).isEqualTo(quizzes.size());
+        return index;
+    }
+
+    private static Quiz quiz(Long id, String title, String description, int likes, int plays, LocalDateTime createdAt) {
+        Quiz quiz = new Quiz();
+        quiz.setId(id);
+        quiz.setTitle(title);
+        quiz.setDescription(description);
+        quiz.setPublic(true);
+        quiz.setLikeCount(likes);
+        quiz.setPlayCount(plays);
+        quiz.setCreatedAt(createdAt);
+        return quiz;
+    }
+}
@@ -0,0 +1,88 @@
+package com.problemio.ranking.service;
+
+import com.problemio.ranking.dto.RankingRowDto;
+import com.problemio.ranking.service.TopRankingHeap.ScoredRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopRankingHeapTest {
+
+    // RankingServiceImpl 과 같은 순서: 점수 내림차순 -> 최근 제출 우선 (없으면 뒤로)
+    private static final Comparator<ScoredRow> ORDER = Comparator
+            .comparingDouble((ScoredRow r) -> r.score).reversed()
+            .thenComparing(r -> r.row.getLastSubmittedAt(), Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("capacity 개의 상위 행만 높은 순위부터 반환한다")
+    void keepsTopN() {
+        TopRankingHeap heap = new TopRankingHeap(3, ORDER);
+        double[] scores = {5, 1, 9, 7, 3, 8};
+        for (int i = 0; i < scores.length; i++) {
+            heap.offer(row(i + 1L, T0), scores[i]);
+        }
+
+        assertThat(heap.sorted()).extracting(r -> r.score).containsExactly(9.0, 8.0, 7.0);
+        assertThat(heap.offered()).isEqualTo(6);
+        assertThat(heap.capacity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("행이 capacity 보다 적으면 전부 남는다")
+    void fewerRowsThanCapacity() {
+        TopRankingHeap heap = new TopRankingHeap(10, ORDER);
+        heap.offer(row(1L, T0), 2);
+        heap.offer(row(2L, T0), 4);
+
+        assertThat(heap.sorted()).extracting(r -> r.row.getUserId()).containsExactly(2L, 1L);
+        assertThat(heap.offered()).isLessThanOrEqualTo(heap.capacity());
+    }
+
+    @Test
+    @DisplayName("동점이면 최근에 제출한 유저가 앞서고, 제출 시각이 없는 유저는 뒤로 간다")
+    void tieBreakByLastSubmitted() {
+        TopRankingHeap heap = new TopRankingHeap(2, ORDER);
+        heap.offer(row(1L, null), 5);
+        heap.offer(row(2L, T0), 5);
+        heap.offer(row(3L, T0.plusDays(1)), 5);
+
+        assertThat(heap.sorted()).extracting(r -> r.row.getUserId()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("무작위 입력에서도 전체 정렬 후 상위 N 과 같다")
+    void matchesFullSort() {
+        Random random = new Random(7);
+        TopRankingHeap heap = new TopRankingHeap(20, ORDER);
+        List<ScoredRow> all = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            RankingRowDto row = row(id, T0.plusMinutes(random.nextInt(10_000)));
+            double score = random.nextInt(500) / 10.0;
+            heap.offer(row, score);
+            all.add(new ScoredRow(row, score));
+        }
+        all.sort(ORDER);
+
+        List<ScoredRow> top = heap.sorted();
+        assertThat(top).hasSize(20);
+        for (int i = 0; i < top.size(); i++) {
+            assertThat(ORDER.compare(top.get(i), all.get(i))).isZero();
+        }
+    }
+
+    private static RankingRowDto row(Long userId, LocalDateTime lastSubmittedAt) {
+        RankingRowDto row = new RankingRowDto();
+        row.setUserId(userId);
+        row.setLastSubmittedAt(lastSubmittedAt);
+        return row;
+    }
+}
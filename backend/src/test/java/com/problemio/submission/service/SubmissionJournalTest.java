@@ -0,0 +1,101 @@
+package com.problemio.submission.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubmissionJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("기록한 답안을 재시작 후 세그먼트에서 그대로 읽는다")
+    void appendAndReplay() throws IOException {
+        SubmissionJournal journal = new SubmissionJournal(dir, false);
+        journal.rotate();
+        journal.append(List.of(
+                new SubmissionJournal.Entry(1L, 10L, 100L, true, 1.5),
+                new SubmissionJournal.Entry(1L, 10L, 101L, false, 3.25)
+        ));
+        journal.close();
+
+        SubmissionJournal reopened = new SubmissionJournal(dir, false);
+        List<Path> segments = reopened.existingSegments();
+        assertThat(segments).hasSize(1);
+
+        List<SubmissionJournal.Entry> entries = reopened.read(segments.get(0));
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(0).getSubmissionId()).isEqualTo(1L);
+        assertThat(entries.get(0).getQuizId()).isEqualTo(10L);
+        assertThat(entries.get(0).getQuestionId()).isEqualTo(100L);
+        assertThat(entries.get(0).isCorrect()).isTrue();
+        assertThat(entries.get(0).getPlayTime()).isEqualTo(1.5);
+        assertThat(entries.get(1).isCorrect()).isFalse();
+        assertThat(entries.get(1).getPlayTime()).isEqualTo(3.25);
+    }
+
+    @Test
+    @DisplayName("쓰다 만 마지막 줄과 손상된 줄은 건너뛴다")
+    void skipsTornAndCorruptLines() throws IOException {
+        SubmissionJournal journal = new SubmissionJournal(dir, false);
+        journal.rotate();
+        journal.append(List.of(new SubmissionJournal.Entry(1L, 10L, 100L, true, 1.0)));
+        journal.close();
+
+        Path segment = journal.existingSegments().get(0);
+        Files.writeString(segment, "x,10,101,1,2.0\n1,10,1", StandardCharsets.US_ASCII, StandardOpenOption.APPEND);
+
+        List<SubmissionJournal.Entry> entries = new SubmissionJournal(dir, false).read(segment);
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getQuestionId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("rotate 는 이전 세그먼트를 봉인해 반환하고, 반영이 끝난 세그먼트는 삭제된다")
+    void rotateAndTruncate() throws IOException {
+        SubmissionJournal journal = new SubmissionJournal(dir, false);
+        assertThat(journal.rotate()).isNull();
+        journal.append(List.of(new SubmissionJournal.Entry(1L, 10L, 100L, true, 1.0)));
+
+        Path sealed = journal.rotate();
+        journal.append(List.of(new SubmissionJournal.Entry(2L, 10L, 100L, false, 2.0)));
+        assertThat(journal.existingSegments()).hasSize(2);
+        assertThat(journal.existingSegments().get(0)).isEqualTo(sealed);
+
+        journal.delete(sealed);
+        journal.close();
+
+        List<Path> remaining = journal.existingSegments();
+        assertThat(remaining).hasSize(1);
+        assertThat(new SubmissionJournal(dir, false).read(remaining.get(0)))
+                .extracting(SubmissionJournal.Entry::getSubmissionId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("재시작하면 기존 세그먼트 뒤 번호로 이어서 연다")
+    void continuesSequenceAfterRestart() throws IOException {
+        SubmissionJournal first = new SubmissionJournal(dir, false);
+        first.rotate();
+        first.rotate();
+        first.close();
+
+        SubmissionJournal second = new SubmissionJournal(dir, false);
+        second.rotate();
+        second.close();
+
+        assertThat(second.existingSegments())
+                .extracting(p -> p.getFileName().toString())
+                .containsExactly("submission-journal-1.log", "submission-journal-2.log", "submission-journal-3.log");
+    }
+}
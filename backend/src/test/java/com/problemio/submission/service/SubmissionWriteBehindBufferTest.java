@@ -0,0 +1,190 @@
+package com.problemio.submission.service;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.ranking.service.DailyRankingStore;
+import com.problemio.submission.domain.Submission;
+import com.problemio.submission.domain.SubmissionDetail;
+import com.problemio.submission.mapper.SubmissionDetailMapper;
+import com.problemio.submission.mapper.SubmissionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionWriteBehindBufferTest {
+
+    @Mock
+    private SubmissionMapper submissionMapper;
+
+    @Mock
+    private SubmissionDetailMapper submissionDetailMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private DailyRankingStore dailyRankingStore;
+
+    @TempDir
+    Path journalDir;
+
+    private SubmissionWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        buffer = new SubmissionWriteBehindBuffer(submissionMapper, submissionDetailMapper,
+                transactionManager, taskScheduler, dailyRankingStore);
+        ReflectionTestUtils.setField(buffer, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(buffer, "batchSize", 2);
+        ReflectionTestUtils.setField(buffer, "idleEvictMinutes", 30L);
+        ReflectionTestUtils.setField(buffer, "fsync", false);
+        buffer.init();
+        buffer.register(submission(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("대기 답안이 batch-size 에 도달하면 flush 를 예약하고, flush 시 일괄 반영한다")
+    void flushOnThreshold() {
+        buffer.record(1L, 10L, 100L, true);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.record(1L, 10L, 101L, false);
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.flush();
+
+        List<SubmissionDetail> details = captureDetails();
+        assertThat(details).extracting(SubmissionDetail::getQuestionId).containsExactly(100L, 101L);
+        assertThat(details).extracting(SubmissionDetail::isCorrect).containsExactly(true, false);
+        verify(submissionMapper).updateProgress(eq(1L), eq(10L), eq(1), anyDouble());
+    }
+
+    @Test
+    @DisplayName("같은 문제를 다시 풀면 마지막 답안 기준으로 한 번만 반영한다")
+    void lastAnswerWins() {
+        buffer.record(1L, 10L, 100L, false);
+        SubmissionWriteBehindBuffer.Snapshot snapshot = buffer.record(1L, 10L, 100L, true);
+
+        assertThat(snapshot.getAnsweredCount()).isEqualTo(1);
+        assertThat(snapshot.getCorrectCount()).isEqualTo(1);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.flush();
+
+        List<SubmissionDetail> details = captureDetails();
+        assertThat(details).hasSize(1);
+        assertThat(details.get(0).isCorrect()).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 답안을 반영하고 재시작 시 복구할 저널을 남기지 않는다")
+    void flushOnShutdown() throws IOException {
+        buffer.record(1L, 10L, 100L, true);
+        verify(submissionDetailMapper, never()).insertSubmissionDetails(anyList());
+
+        buffer.shutdown();
+
+        assertThat(captureDetails()).extracting(SubmissionDetail::getQuestionId).containsExactly(100L);
+        verify(submissionMapper).updateProgress(eq(1L), eq(10L), eq(1), anyDouble());
+
+        SubmissionJournal journal = new SubmissionJournal(journalDir, false);
+        List<SubmissionJournal.Entry> leftover = new ArrayList<>();
+        for (Path segment : journal.existingSegments()) {
+            leftover.addAll(journal.read(segment));
+        }
+        assertThat(leftover).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 전에 종료되지 못하면 다음 기동 시 저널을 다시 반영한다")
+    void replayAfterCrash() throws IOException {
+        buffer.record(1L, 10L, 100L, true);
+        // flush 없이 종료된 상황: 새 버퍼가 같은 저널 디렉터리로 기동
+
+        when(submissionMapper.findById(1L)).thenReturn(Optional.of(submission(1L, 10L)));
+        when(submissionDetailMapper.countCorrectBySubmissionId(1L)).thenReturn(1);
+
+        SubmissionWriteBehindBuffer restarted = new SubmissionWriteBehindBuffer(submissionMapper,
+                submissionDetailMapper, transactionManager, taskScheduler, dailyRankingStore);
+        ReflectionTestUtils.setField(restarted, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(restarted, "batchSize", 2);
+        ReflectionTestUtils.setField(restarted, "idleEvictMinutes", 30L);
+        ReflectionTestUtils.setField(restarted, "fsync", false);
+        restarted.init();
+
+        assertThat(captureDetails()).extracting(SubmissionDetail::getQuestionId).containsExactly(100L);
+        verify(submissionMapper).updateProgress(eq(1L), eq(10L), eq(1), anyDouble());
+    }
+
+    @Test
+    @DisplayName("정리 중인 퀴즈는 남은 답안을 버리고 새 답안도 받지 않으며, 정리가 끝나면 다시 연다")
+    void fencedQuizRejectsAnswersUntilReopened() {
+        buffer.record(1L, 10L, 100L, true);
+
+        buffer.fenceQuiz(10L);
+        // 폐기된 진행 상태는 DB 에서 다시 읽히지만 닫힌 퀴즈라 거절된다
+        when(submissionMapper.findById(1L)).thenReturn(Optional.of(submission(1L, 10L)));
+        assertThatThrownBy(() -> buffer.record(1L, 10L, 101L, true))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.QUIZ_NOT_FOUND);
+
+        buffer.flush();
+        verify(submissionDetailMapper, never()).insertSubmissionDetails(anyList());
+        verify(submissionMapper, never()).updateProgress(any(), any(), anyInt(), anyDouble());
+
+        buffer.reopenQuiz(10L);
+        buffer.register(submission(2L, 10L));
+        buffer.record(2L, 10L, 100L, false);
+        buffer.flush();
+        assertThat(captureDetails()).extracting(SubmissionDetail::getSubmissionId).containsExactly(2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SubmissionDetail> captureDetails() {
+        ArgumentCaptor<List<SubmissionDetail>> captor = ArgumentCaptor.forClass(List.class);
+        verify(submissionDetailMapper).insertSubmissionDetails(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Submission submission(Long id, Long quizId) {
+        Submission submission = new Submission();
+        submission.setId(id);
+        submission.setQuizId(quizId);
+        submission.setUserId(7L);
+        submission.setTotalQuestions(3);
+        submission.setSubmittedAt(TimeUtils.now());
+        return submission;
+    }
+}
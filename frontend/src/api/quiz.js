@@ -88,6 +88,7 @@ export const updateQuiz = async (quizId, data) => {
     thumbnailUrl: data.thumbnailUrl,
     isPublic: data.isPublic,
     questions: data.questions.map((q) => ({
+      id: q.id,
       order: q.questionOrder,
       imageUrl: q.imageUrl,
       description: q.description,